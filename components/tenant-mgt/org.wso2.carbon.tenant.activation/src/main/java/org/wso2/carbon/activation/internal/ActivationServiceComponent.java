@@ -24,10 +24,14 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.wso2.carbon.registry.core.service.RegistryService;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.ConfigurationContextService;
 import org.wso2.carbon.activation.service.ActivationService;
 import org.wso2.carbon.activation.utils.ActivationManager;
+import org.wso2.carbon.activation.utils.CloudServiceActivationCache;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
+import org.wso2.carbon.activation.utils.TenantStateBus;
 import org.wso2.carbon.activation.utils.Util;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -49,6 +53,12 @@ public class ActivationServiceComponent {
 
     private static ServiceRegistration registration = null;
 
+    private static ServiceRegistration listenerRegistration = null;
+
+    private static ServiceRegistration publisherRegistration = null;
+
+    private static final TenantCacheInvalidator cacheInvalidator = new TenantCacheInvalidator();
+
     /**
      * Activates the Registry Kernel bundle.
      *
@@ -59,10 +69,21 @@ public class ActivationServiceComponent {
 
         try {
             ActivationManager.startCacheCleaner();
+            TenantStateBus.start();
+            TenantStateBus.subscribe(cacheInvalidator);
             if (registration == null) {
                 registration = context.getBundleContext().registerService(ActivationService.class.getName(), new
                         ActivationService(), null);
             }
+            if (listenerRegistration == null) {
+                listenerRegistration = context.getBundleContext().registerService(
+                        TenantMgtListener.class.getName(), new TenantDomainResolverListener(), null);
+            }
+            if (publisherRegistration == null) {
+                publisherRegistration = context.getBundleContext().registerService(
+                        TenantMgtListener.class.getName(), new TenantStatePublisher(), null);
+            }
+            CloudServiceActivationCache.reload();
             log.debug("******* Stratos Activation bundle is activated ******* ");
         } catch (Exception e) {
             log.error("******* Stratos Activation bundle failed activating ****", e);
@@ -79,6 +100,18 @@ public class ActivationServiceComponent {
 
         registration.unregister();
         registration = null;
+        if (listenerRegistration != null) {
+            listenerRegistration.unregister();
+            listenerRegistration = null;
+        }
+        if (publisherRegistration != null) {
+            publisherRegistration.unregister();
+            publisherRegistration = null;
+        }
+        TenantStateBus.unsubscribe(cacheInvalidator);
+        TenantStateBus.stop();
+        TenantDomainResolver.clear();
+        CloudServiceActivationCache.clear();
         ActivationManager.stopCacheCleaner();
         log.debug("******* Stratos Activation bundle is deactivated ******* ");
     }
@@ -152,6 +185,7 @@ public class ActivationServiceComponent {
             unbind = "unsetConfigurationContextService")
     protected void setConfigurationContextService(ConfigurationContextService contextService) {
 
+        Util.setConfigurationContextService(contextService);
         try {
             if (contextService.getServerConfigContext() != null && contextService.getServerConfigContext()
                     .getAxisConfiguration() != null) {
@@ -172,5 +206,6 @@ public class ActivationServiceComponent {
      */
     protected void unsetConfigurationContextService(ConfigurationContextService contextService) {
 
+        Util.setConfigurationContextService(null);
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.internal;
+
+import org.wso2.carbon.activation.utils.ActivationManager;
+import org.wso2.carbon.activation.utils.CloudServiceActivationCache;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.TenantStateListener;
+
+import java.util.List;
+
+/**
+ * Invalidates the activation records of the {@link ActivationManager}, the cloud service activation flags cached by
+ * the {@link CloudServiceActivationCache} and the tenant domains cached by the {@link TenantDomainResolver} on tenant
+ * state changes, including the ones made on the other nodes.
+ */
+public class TenantCacheInvalidator implements TenantStateListener {
+
+    @Override
+    public void onTenantStateChange(List<TenantStateChange> changes) {
+
+        for (TenantStateChange change : changes) {
+            switch (change.getType()) {
+                case CREATED:
+                    CloudServiceActivationCache.invalidate(change.getTenantId());
+                    TenantDomainResolver.clearUnresolved();
+                    break;
+                case RENAMED:
+                    TenantDomainResolver.invalidate(change.getTenantId());
+                    TenantDomainResolver.clearUnresolved();
+                    break;
+                case ACTIVATED:
+                case DEACTIVATED:
+                case SERVICE_ACTIVATION_CHANGED:
+                    ActivationManager.removeActivation(change.getTenantId());
+                    CloudServiceActivationCache.invalidate(change.getTenantId());
+                    break;
+                case DELETED:
+                    ActivationManager.removeActivation(change.getTenantId());
+                    CloudServiceActivationCache.invalidate(change.getTenantId());
+                    TenantDomainResolver.invalidate(change.getTenantId());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.internal;
+
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
+import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
+import org.wso2.carbon.stratos.common.exception.StratosException;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEventFilter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Keeps the tenant domain cache of the {@link TenantDomainResolver} consistent with the tenant lifecycle events.
+ */
+public class TenantDomainResolverListener implements TenantMgtListener, TenantMgtListenerEventFilter {
+
+    private static final int EXEC_ORDER = 1;
+    private static final Set<TenantMgtListenerEvent> HANDLED_EVENTS = Collections.unmodifiableSet(EnumSet.of(
+            TenantMgtListenerEvent.TENANT_CREATE, TenantMgtListenerEvent.PRE_DELETE,
+            TenantMgtListenerEvent.POST_DELETE));
+
+    public void onTenantCreate(TenantInfoBean tenantInfo) throws StratosException {
+
+        // Removes the negative entry of the domain, if any.
+        TenantDomainResolver.invalidate(tenantInfo.getTenantDomain());
+    }
+
+    public void onTenantUpdate(TenantInfoBean tenantInfo) throws StratosException {
+        // Tenant domain does not change on update.
+    }
+
+    public void onTenantDelete(int tenantId) {
+
+        TenantDomainResolver.invalidate(tenantId);
+    }
+
+    public void onTenantRename(int tenantId, String oldDomainName,
+                               String newDomainName) throws StratosException {
+
+        TenantDomainResolver.invalidate(oldDomainName);
+        TenantDomainResolver.invalidate(newDomainName);
+    }
+
+    public int getListenerOrder() {
+
+        return EXEC_ORDER;
+    }
+
+    @Override
+    public Set<TenantMgtListenerEvent> getHandledEvents() {
+
+        return HANDLED_EVENTS;
+    }
+
+    public void onTenantInitialActivation(int tenantId) throws StratosException {
+        // Tenant domain does not change on activation.
+    }
+
+    public void onTenantActivation(int tenantId) throws StratosException {
+        // Tenant domain does not change on activation.
+    }
+
+    public void onTenantDeactivation(int tenantId) throws StratosException {
+        // Tenant domain does not change on deactivation.
+    }
+
+    public void onSubscriptionPlanChange(int tenentId, String oldPlan,
+                                         String newPlan) throws StratosException {
+        // Tenant domain does not change on subscription plan change.
+    }
+
+    @Override
+    public void onPreDelete(int tenantId) throws StratosException {
+
+        TenantDomainResolver.invalidate(tenantId);
+    }
+
+    @Override
+    public void onPostDelete(int tenantId, String tenantUuid, String adminUserUuid) throws StratosException {
+
+        TenantDomainResolver.invalidate(tenantId);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateBus;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.Util;
+import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
+import org.wso2.carbon.stratos.common.exception.StratosException;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEventFilter;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.service.RealmService;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Publishes the tenant lifecycle events of this node through the {@link TenantStateBus}, so that the node local
+ * caches of the tenant are invalidated across the cluster. Runs after the other listeners. The domain of the tenant
+ * is published along with the change where it is known, so that the caches keyed by the domain remove only that
+ * domain. The deletion of a tenant is published by the deletion job, which keeps the domain of the tenant until the
+ * deletion completes.
+ */
+public class TenantStatePublisher implements TenantMgtListener, TenantMgtListenerEventFilter {
+
+    private static final Log log = LogFactory.getLog(TenantStatePublisher.class);
+
+    private static final int EXEC_ORDER = 1000;
+    private static final Set<TenantMgtListenerEvent> HANDLED_EVENTS = Collections.unmodifiableSet(
+            EnumSet.complementOf(EnumSet.of(TenantMgtListenerEvent.PRE_TENANT_CREATE,
+                    TenantMgtListenerEvent.PRE_DELETE, TenantMgtListenerEvent.POST_DELETE)));
+
+    public void onTenantCreate(TenantInfoBean tenantInfo) throws StratosException {
+
+        TenantStateBus.publish(tenantInfo.getTenantId(), TenantStateChange.Type.CREATED,
+                tenantInfo.getTenantDomain());
+    }
+
+    public void onTenantUpdate(TenantInfoBean tenantInfo) throws StratosException {
+
+        TenantStateBus.publish(tenantInfo.getTenantId(), TenantStateChange.Type.UPDATED,
+                tenantInfo.getTenantDomain());
+    }
+
+    public void onTenantDelete(int tenantId) {
+        // Published by the tenant deletion job, along with the domain of the deleted tenant.
+    }
+
+    public void onTenantRename(int tenantId, String oldDomainName,
+                               String newDomainName) throws StratosException {
+
+        TenantStateBus.publish(tenantId, TenantStateChange.Type.RENAMED, oldDomainName);
+    }
+
+    public int getListenerOrder() {
+
+        return EXEC_ORDER;
+    }
+
+    @Override
+    public Set<TenantMgtListenerEvent> getHandledEvents() {
+
+        return HANDLED_EVENTS;
+    }
+
+    public void onTenantInitialActivation(int tenantId) throws StratosException {
+
+        TenantStateBus.publish(tenantId, TenantStateChange.Type.ACTIVATED, getTenantDomain(tenantId));
+    }
+
+    public void onTenantActivation(int tenantId) throws StratosException {
+
+        TenantStateBus.publish(tenantId, TenantStateChange.Type.ACTIVATED, getTenantDomain(tenantId));
+    }
+
+    public void onTenantDeactivation(int tenantId) throws StratosException {
+
+        TenantStateBus.publish(tenantId, TenantStateChange.Type.DEACTIVATED, getTenantDomain(tenantId));
+    }
+
+    public void onSubscriptionPlanChange(int tenentId, String oldPlan,
+                                         String newPlan) throws StratosException {
+
+        TenantStateBus.publish(tenentId, TenantStateChange.Type.SUBSCRIPTION_PLAN_CHANGED);
+    }
+
+    @Override
+    public void onPreDelete(int tenantId) throws StratosException {
+        // Published by the tenant deletion job, along with the domain of the deleted tenant.
+    }
+
+    private String getTenantDomain(int tenantId) {
+
+        RealmService realmService = Util.getRealmService();
+        if (realmService == null) {
+            return null;
+        }
+        try {
+            return realmService.getTenantManager().getDomain(tenantId);
+        } catch (UserStoreException e) {
+            log.error("Error while resolving the domain of tenant: " + tenantId, e);
+            return null;
+        }
+    }
+}
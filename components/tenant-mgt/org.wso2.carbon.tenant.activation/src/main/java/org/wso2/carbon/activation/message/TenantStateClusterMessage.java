@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.message;
+
+import org.apache.axis2.clustering.ClusteringCommand;
+import org.apache.axis2.clustering.ClusteringFault;
+import org.apache.axis2.clustering.ClusteringMessage;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateBus;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cluster message which carries a batch of tenant state changes to the other nodes, so that their node local caches
+ * of the tenants are invalidated.
+ */
+public class TenantStateClusterMessage extends ClusteringMessage {
+
+    private static final long serialVersionUID = -2873615024590183147L;
+    private transient static final Log log = LogFactory.getLog(TenantStateClusterMessage.class);
+
+    private final ArrayList<TenantStateChange> changes;
+
+    public TenantStateClusterMessage(List<TenantStateChange> changes) {
+
+        this.changes = new ArrayList<>(changes);
+    }
+
+    public List<TenantStateChange> getChanges() {
+
+        return changes;
+    }
+
+    @Override
+    public ClusteringCommand getResponse() {
+
+        return null;
+    }
+
+    @Override
+    public void execute(ConfigurationContext configurationContext) throws ClusteringFault {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Received tenant state changes: " + changes);
+        }
+        TenantStateBus.deliver(changes);
+    }
+}
@@ -30,10 +30,11 @@ import org.apache.axis2.handlers.AbstractHandler;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.activation.utils.ActivationManager;
+import org.wso2.carbon.activation.utils.CloudServiceActivationCache;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.activation.utils.Util;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.multitenancy.utils.TenantAxisUtils;
-import org.wso2.carbon.stratos.common.util.CloudServicesUtil;
 import org.wso2.carbon.utils.ServerConstants;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
@@ -90,7 +91,7 @@ public class ActivationHandler extends AbstractHandler implements Handler {
         }
 
         try {
-            if (CloudServicesUtil.isCloudServiceActive(serviceName, tenantId)) {
+            if (CloudServiceActivationCache.isCloudServiceActive(serviceName, tenantId)) {
                 log.debug("Successful attempt to access " + serviceName + " by tenant " + tenantId);
                 ActivationManager.setActivation(tenantId, true);
                 TenantAxisUtils.getTenantAxisConfiguration(getTenantDomain(),
@@ -149,7 +150,7 @@ public class ActivationHandler extends AbstractHandler implements Handler {
         }
         if (domain != null) {
             try {
-                tenantId = Util.getRealmService().getTenantManager().getTenantId(domain);
+                tenantId = TenantDomainResolver.getTenantId(Util.getRealmService().getTenantManager(), domain);
             } catch (org.wso2.carbon.user.api.UserStoreException e) {
                 log.error("An error occurred while obtaining the tenant id.", e);
             }
@@ -21,12 +21,17 @@ package org.wso2.carbon.activation.service;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.activation.utils.ActivationManager;
+import org.wso2.carbon.activation.utils.CloudServiceActivationCache;
+import org.wso2.carbon.activation.utils.TenantStateBus;
+import org.wso2.carbon.activation.utils.TenantStateChange;
 import org.wso2.carbon.activation.utils.Util;
 import org.wso2.carbon.stratos.common.config.CloudServiceConfigParser;
 import org.wso2.carbon.stratos.common.config.CloudServicesDescConfig;
 import org.wso2.carbon.stratos.common.util.CloudServicesUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.Collections;
+
 /**
  * Admin Service to handle activation of cloud services used by tenants.
  */
@@ -44,7 +49,7 @@ public class ActivationService {
     public static void updateActivation(int tenantId) throws Exception {
         if (tenantId != 0) {
             String serviceName = Util.getServiceName();
-            boolean isActive = CloudServicesUtil.isCloudServiceActive(serviceName, tenantId);
+            boolean isActive = CloudServiceActivationCache.isCloudServiceActive(serviceName, tenantId);
             CloudServicesDescConfig cloudServicesDesc =
                                                         CloudServiceConfigParser.loadCloudServicesConfiguration();
             CloudServicesUtil.setCloudServiceActive(!isActive,
@@ -52,7 +57,11 @@ public class ActivationService {
                                                     tenantId,
                                                     cloudServicesDesc.getCloudServiceConfigs()
                                                                      .get(serviceName));
+            // The caches of this node are updated before the other nodes are notified of the change.
+            CloudServiceActivationCache.setCloudServiceActive(serviceName, tenantId, !isActive);
             ActivationManager.setActivation(tenantId, !isActive);
+            TenantStateBus.broadcast(Collections.singletonList(
+                    new TenantStateChange(tenantId, TenantStateChange.Type.SERVICE_ACTIVATION_CHANGED)));
         }
     }
 
@@ -72,7 +81,7 @@ public class ActivationService {
             return ActivationManager.getActivation(tenantId);
         }
         String serviceName = Util.getServiceName();
-        if (CloudServicesUtil.isCloudServiceActive(serviceName, tenantId)) {
+        if (CloudServiceActivationCache.isCloudServiceActive(serviceName, tenantId)) {
             log.debug("Successful attempt to access " + serviceName + " by tenant " + tenantId);
             ActivationManager.setActivation(tenantId, true);
             return true;
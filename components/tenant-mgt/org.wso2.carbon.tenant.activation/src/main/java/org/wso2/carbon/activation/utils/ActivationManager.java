@@ -60,6 +60,15 @@ public class ActivationManager {
         ActivationManager.activations.put(tenantId, status);
     }
 
+    /**
+     * Method to remove an activation record, so that it is read again when next needed.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public static void removeActivation(int tenantId) {
+        ActivationManager.activations.remove(tenantId);
+    }
+
     /**
      * Method to check whether an activation record exists for the given tenant.
      *
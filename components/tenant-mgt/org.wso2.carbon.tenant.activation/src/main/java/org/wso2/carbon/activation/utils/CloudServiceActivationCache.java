@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.registry.core.Collection;
+import org.wso2.carbon.registry.core.Registry;
+import org.wso2.carbon.registry.core.RegistryConstants;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.stratos.common.config.CloudServiceConfigParser;
+import org.wso2.carbon.stratos.common.constants.StratosConstants;
+import org.wso2.carbon.stratos.common.util.CloudServicesUtil;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the cloud service activation flags of tenants as a bitmap per tenant, indexed by the order of the cloud
+ * services in the cloud services description. The bitmap of a tenant is filled from the tenant's collection under
+ * {@link StratosConstants#CLOUD_SERVICE_INFO_STORE_PATH} when first needed, updated when a flag is changed through
+ * {@link #setCloudServiceActive(String, int, boolean)}, and invalidated on the tenant state changes of this node and
+ * of the other nodes. Services which are not in the cloud services description are always read from the registry.
+ * The indexes of the services and the timeout below are read by {@link #reload()}, which is called when the component
+ * is activated and which has to be called again when the cloud services description changes.
+ * <p>
+ * As a safety net for changes which are not published, e.g. flags written to the registry directly or a cluster
+ * message which is lost, the bitmap of a tenant is read again once it is older than the timeout in the
+ * 'Tenant.CloudServiceActivationCache.Timeout' property (in seconds) of carbon.xml. A timeout of 0 keeps the bitmaps
+ * until they are invalidated.
+ */
+public class CloudServiceActivationCache {
+
+    private static final Log log = LogFactory.getLog(CloudServiceActivationCache.class);
+
+    private static final String TIMEOUT_PROPERTY = "Tenant.CloudServiceActivationCache.Timeout";
+    private static final int DEFAULT_TIMEOUT = 900;
+
+    private static final Map<Integer, CacheEntry> activations = new ConcurrentHashMap<>();
+    private static final AtomicLong invalidationCount = new AtomicLong();
+    private static volatile long timeoutMillis = TimeUnit.SECONDS.toMillis(DEFAULT_TIMEOUT);
+    private static volatile Map<String, Integer> serviceIndexes = null;
+    private static volatile Callable<Registry> registryProvider = Util::getSuperTenantGovernanceSystemRegistry;
+
+    /**
+     * Method to read the timeout and the cloud services description again. The cached flags are removed, as the
+     * indexes of the services may have changed.
+     *
+     * @throws Exception if the cloud services description could not be read.
+     */
+    public static void reload() throws Exception {
+        reload(TimeUnit.SECONDS.toMillis(TenantCoreUtil.getNonNegativeIntProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT)),
+                CloudServiceConfigParser.loadCloudServicesConfiguration().getCloudServiceConfigs().keySet());
+    }
+
+    static synchronized void reload(long timeout, Set<String> cloudServiceNames) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (String cloudServiceName : cloudServiceNames) {
+            indexes.put(cloudServiceName, indexes.size());
+        }
+        timeoutMillis = timeout;
+        serviceIndexes = indexes;
+        clear();
+    }
+
+    static void setRegistryProvider(Callable<Registry> provider) {
+        registryProvider = provider;
+    }
+
+    /**
+     * Method to determine whether a cloud service is active for the given tenant.
+     *
+     * @param cloudServiceName the name of the cloud service.
+     * @param tenantId         the tenant identifier.
+     *
+     * @return true if the service is active or false if not.
+     * @throws Exception if the operation failed.
+     */
+    public static boolean isCloudServiceActive(String cloudServiceName, int tenantId) throws Exception {
+        // The cloud manager is always active
+        if (StratosConstants.CLOUD_MANAGER_SERVICE.equals(cloudServiceName)) {
+            return true;
+        }
+        Integer index = getServiceIndexes().get(cloudServiceName);
+        if (index == null) {
+            return CloudServicesUtil.isCloudServiceActive(cloudServiceName, tenantId);
+        }
+        return getActivations(tenantId).get(index);
+    }
+
+    /**
+     * Method to update the cached activation flag of a cloud service, after it has been stored in the registry and
+     * before the change is broadcast through the {@link TenantStateBus}. The flags of the tenant are only updated if
+     * they are cached. Otherwise they are read, with the stored change, when next needed.
+     *
+     * @param cloudServiceName the name of the cloud service.
+     * @param tenantId         the tenant identifier.
+     * @param active           true if the service is active or false if not.
+     *
+     * @throws Exception if the operation failed.
+     */
+    public static void setCloudServiceActive(String cloudServiceName, int tenantId, boolean active)
+            throws Exception {
+        Integer index = getServiceIndexes().get(cloudServiceName);
+        if (index == null) {
+            return;
+        }
+        // Flags being read concurrently may miss the change, hence they are not cached.
+        invalidationCount.incrementAndGet();
+        activations.computeIfPresent(tenantId, (key, current) -> {
+            BitSet updated = (BitSet) current.activations.clone();
+            updated.set(index, active);
+            return new CacheEntry(updated, current.expiryTime);
+        });
+    }
+
+    /**
+     * Method to remove the cached activation flags of a tenant, so that they are read again when next needed.
+     *
+     * @param tenantId the tenant identifier.
+     */
+    public static void invalidate(int tenantId) {
+        invalidationCount.incrementAndGet();
+        activations.remove(tenantId);
+    }
+
+    /**
+     * Method to remove the cached activation flags of all the tenants.
+     */
+    public static void clear() {
+        invalidationCount.incrementAndGet();
+        activations.clear();
+    }
+
+    private static BitSet getActivations(int tenantId) throws Exception {
+        long currentTime = System.currentTimeMillis();
+        CacheEntry entry = activations.get(tenantId);
+        if (entry != null) {
+            if (!entry.isExpired(currentTime)) {
+                return entry.activations;
+            }
+            activations.remove(tenantId, entry);
+        }
+        long invalidationCountAtLoad = invalidationCount.get();
+        BitSet tenantActivations = loadActivations(tenantId);
+        // Do not cache flags read before a concurrent invalidation, as they may already be stale.
+        if (invalidationCountAtLoad == invalidationCount.get()) {
+            long expiryTime = timeoutMillis > 0 ? currentTime + timeoutMillis : Long.MAX_VALUE;
+            CacheEntry existing = activations.putIfAbsent(tenantId, new CacheEntry(tenantActivations, expiryTime));
+            if (existing != null) {
+                return existing.activations;
+            }
+        }
+        return tenantActivations;
+    }
+
+    private static BitSet loadActivations(int tenantId) throws Exception {
+        BitSet tenantActivations = new BitSet();
+        Registry govRegistry = registryProvider.call();
+        String tenantCloudServicesPath = StratosConstants.CLOUD_SERVICE_INFO_STORE_PATH +
+                RegistryConstants.PATH_SEPARATOR + tenantId;
+        if (!govRegistry.resourceExists(tenantCloudServicesPath)) {
+            return tenantActivations;
+        }
+        Resource tenantCloudServices = govRegistry.get(tenantCloudServicesPath);
+        if (!(tenantCloudServices instanceof Collection)) {
+            return tenantActivations;
+        }
+        Map<String, Integer> indexes = getServiceIndexes();
+        String[] cloudServiceInfoPaths = ((Collection) tenantCloudServices).getChildren();
+        if (cloudServiceInfoPaths == null) {
+            return tenantActivations;
+        }
+        for (String cloudServiceInfoPath : cloudServiceInfoPaths) {
+            String cloudServiceName = cloudServiceInfoPath.substring(
+                    cloudServiceInfoPath.lastIndexOf(RegistryConstants.PATH_SEPARATOR) + 1);
+            Integer index = indexes.get(cloudServiceName);
+            if (index == null) {
+                continue;
+            }
+            Resource cloudServiceInfoResource = govRegistry.get(cloudServiceInfoPath);
+            tenantActivations.set(index, Boolean.toString(true).equals(
+                    cloudServiceInfoResource.getProperty(StratosConstants.CLOUD_SERVICE_IS_ACTIVE_PROP_KEY)));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the cloud service activations of tenant " + tenantId + ": " + tenantActivations);
+        }
+        return tenantActivations;
+    }
+
+    private static Map<String, Integer> getServiceIndexes() throws Exception {
+        if (serviceIndexes == null) {
+            synchronized (CloudServiceActivationCache.class) {
+                if (serviceIndexes == null) {
+                    reload();
+                }
+            }
+        }
+        return serviceIndexes;
+    }
+
+    private static class CacheEntry {
+
+        private final BitSet activations;
+        private final long expiryTime;
+
+        CacheEntry(BitSet activations, long expiryTime) {
+            this.activations = activations;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired(long currentTime) {
+            return currentTime >= expiryTime;
+        }
+    }
+}
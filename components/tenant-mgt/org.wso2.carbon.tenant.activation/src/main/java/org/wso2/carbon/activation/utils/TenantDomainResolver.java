@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+import org.wso2.carbon.user.api.TenantManager;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves tenant domains to tenant ids for the request path modules, caching the result. Unknown domains are cached
+ * for a short time, so that a flood of requests to a non existing tenant does not reach the user store. The cache is
+ * kept consistent through the tenant management listener events of this node and the tenant state changes received
+ * from the other nodes, while the negative entries also expire.
+ * <p>
+ * The cache holds at most the number of domains in the 'Tenant.DomainResolverCache.MaxEntries' property of
+ * carbon.xml, and evicts the least recently used domains beyond that. It is split into segments by the hash of the
+ * domain, each guarded by its own lock, so that concurrent lookups of different domains rarely contend.
+ */
+public class TenantDomainResolver {
+
+    private static final Log log = LogFactory.getLog(TenantDomainResolver.class);
+
+    private static final String MAX_ENTRIES_PROPERTY = "Tenant.DomainResolverCache.MaxEntries";
+    private static final int DEFAULT_MAX_ENTRIES = 100000;
+    private static final int SEGMENT_COUNT = 16;
+    private static final long NEGATIVE_ENTRY_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final Segment[] segments = createSegments();
+
+    /**
+     * Get the id of the given tenant domain.
+     *
+     * @param tenantManager tenant manager used if the domain is not cached.
+     * @param tenantDomain  tenant domain.
+     * @return tenant id, or {@link MultitenantConstants#INVALID_TENANT_ID} if there is no such tenant.
+     * @throws UserStoreException if the tenant id could not be retrieved.
+     */
+    public static int getTenantId(TenantManager tenantManager, String tenantDomain) throws UserStoreException {
+
+        if (tenantDomain == null) {
+            return MultitenantConstants.INVALID_TENANT_ID;
+        }
+        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain)) {
+            return MultitenantConstants.SUPER_TENANT_ID;
+        }
+        Segment segment = getSegment(tenantDomain);
+        CacheEntry entry;
+        synchronized (segment) {
+            entry = segment.get(tenantDomain);
+        }
+        if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+            return entry.tenantId;
+        }
+
+        int tenantId = tenantManager.getTenantId(tenantDomain);
+        long expiryTime = tenantId == MultitenantConstants.INVALID_TENANT_ID ?
+                System.currentTimeMillis() + NEGATIVE_ENTRY_TIMEOUT_MILLIS : Long.MAX_VALUE;
+        synchronized (segment) {
+            segment.put(tenantDomain, new CacheEntry(tenantId, expiryTime));
+        }
+        return tenantId;
+    }
+
+    /**
+     * Remove the given tenant domain from the cache.
+     *
+     * @param tenantDomain tenant domain.
+     */
+    public static void invalidate(String tenantDomain) {
+
+        if (tenantDomain != null) {
+            Segment segment = getSegment(tenantDomain);
+            synchronized (segment) {
+                segment.remove(tenantDomain);
+            }
+        }
+    }
+
+    /**
+     * Remove the domain of the given tenant from the cache.
+     *
+     * @param tenantId tenant id.
+     */
+    public static void invalidate(int tenantId) {
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.values().removeIf(entry -> entry.tenantId == tenantId);
+            }
+        }
+    }
+
+    /**
+     * Remove the cached domains which did not resolve to a tenant, e.g. when a tenant is created on another node.
+     */
+    public static void clearUnresolved() {
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.values().removeIf(entry -> entry.tenantId == MultitenantConstants.INVALID_TENANT_ID);
+            }
+        }
+    }
+
+    /**
+     * Remove all the cached tenant domains.
+     */
+    public static void clear() {
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private static Segment getSegment(String tenantDomain) {
+
+        int hash = tenantDomain.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static Segment[] createSegments() {
+
+        int maxEntries = TenantCoreUtil.getPositiveIntProperty(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES);
+        int maxSegmentEntries = Math.max(1, (maxEntries + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        Segment[] newSegments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            newSegments[i] = new Segment(maxSegmentEntries);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Tenant domain cache is created with the maximum size of " + maxEntries + ".");
+        }
+        return newSegments;
+    }
+
+    /**
+     * A segment of the cache, which keeps its domains in access order and evicts the least recently used one when
+     * it is full. All access to a segment is synchronized on it.
+     */
+    private static class Segment extends LinkedHashMap<String, CacheEntry> {
+
+        private static final long serialVersionUID = -2870372546133578163L;
+
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+
+            return size() > maxEntries;
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final int tenantId;
+        private final long expiryTime;
+
+        CacheEntry(int tenantId, long expiryTime) {
+
+            this.tenantId = tenantId;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired(long currentTime) {
+
+            return currentTime >= expiryTime;
+        }
+    }
+}
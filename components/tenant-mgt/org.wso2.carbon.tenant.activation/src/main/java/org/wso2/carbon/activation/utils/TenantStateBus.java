@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.clustering.ClusteringFault;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.message.TenantStateClusterMessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes tenant state changes to the node local caches of tenants, on this node and on all the other nodes of the
+ * cluster. Changes are delivered to the listeners of this node immediately, while the changes published within a
+ * short window are broadcast together in a single {@link TenantStateClusterMessage}.
+ */
+public class TenantStateBus {
+
+    private static final Log log = LogFactory.getLog(TenantStateBus.class);
+
+    private static final long BATCH_WINDOW_MILLIS = 200;
+
+    private static final List<TenantStateListener> listeners = new CopyOnWriteArrayList<>();
+    private static final Set<TenantStateChange> pendingChanges = new LinkedHashSet<>();
+    private static ScheduledExecutorService scheduler = null;
+
+    /**
+     * Starts broadcasting the published changes to the cluster.
+     */
+    public static synchronized void start() {
+
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "TenantStateBus");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Broadcasts the pending changes and stops broadcasting.
+     */
+    public static synchronized void stop() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        flush();
+    }
+
+    /**
+     * Subscribe to the tenant state changes.
+     *
+     * @param listener listener.
+     */
+    public static void subscribe(TenantStateListener listener) {
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Unsubscribe from the tenant state changes.
+     *
+     * @param listener listener.
+     */
+    public static void unsubscribe(TenantStateListener listener) {
+
+        listeners.remove(listener);
+    }
+
+    /**
+     * Publish a change in the state of a tenant.
+     *
+     * @param tenantId id of the tenant.
+     * @param type     type of the change.
+     */
+    public static void publish(int tenantId, TenantStateChange.Type type) {
+
+        publish(Collections.singletonList(new TenantStateChange(tenantId, type)));
+    }
+
+    /**
+     * Publish a change in the state of a tenant, along with the domain of the tenant before the change.
+     *
+     * @param tenantId     id of the tenant.
+     * @param type         type of the change.
+     * @param tenantDomain domain of the tenant before the change, or null if it is not known.
+     */
+    public static void publish(int tenantId, TenantStateChange.Type type, String tenantDomain) {
+
+        publish(Collections.singletonList(new TenantStateChange(tenantId, type, tenantDomain)));
+    }
+
+    /**
+     * Publish changes in the state of tenants.
+     *
+     * @param changes state changes.
+     */
+    public static void publish(List<TenantStateChange> changes) {
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        deliver(changes);
+        broadcast(changes);
+    }
+
+    /**
+     * Broadcast changes to the other nodes of the cluster, without delivering them to the listeners of this node.
+     * Used for the changes whose effect on the caches of this node has already been applied by the caller, so that
+     * the caches updated by the caller are not invalidated right after.
+     *
+     * @param changes state changes.
+     */
+    public static void broadcast(List<TenantStateChange> changes) {
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        boolean scheduleFlush;
+        synchronized (pendingChanges) {
+            scheduleFlush = pendingChanges.isEmpty();
+            pendingChanges.addAll(changes);
+        }
+        if (scheduleFlush) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Deliver changes to the listeners of this node, without broadcasting them. Used for the changes received from
+     * the other nodes.
+     *
+     * @param changes state changes.
+     */
+    public static void deliver(List<TenantStateChange> changes) {
+
+        for (TenantStateListener listener : listeners) {
+            try {
+                listener.onTenantStateChange(changes);
+            } catch (Exception e) {
+                log.error("Error while notifying tenant state changes " + changes + " to " +
+                        listener.getClass().getName(), e);
+            }
+        }
+    }
+
+    private static synchronized void scheduleFlush() {
+
+        if (scheduler != null) {
+            try {
+                scheduler.schedule(TenantStateBus::flush, BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                log.debug("Tenant state bus is stopped. Hence broadcasting the changes immediately.", e);
+            }
+        }
+        flush();
+    }
+
+    private static void flush() {
+
+        List<TenantStateChange> changes;
+        synchronized (pendingChanges) {
+            if (pendingChanges.isEmpty()) {
+                return;
+            }
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        ConfigurationContext configContext = Util.getConfigurationContext();
+        if (configContext == null || configContext.getAxisConfiguration() == null) {
+            return;
+        }
+        ClusteringAgent agent = configContext.getAxisConfiguration().getClusteringAgent();
+        if (agent == null) {
+            return;
+        }
+        try {
+            agent.sendMessage(new TenantStateClusterMessage(changes), true);
+            if (log.isDebugEnabled()) {
+                log.debug("Broadcast tenant state changes: " + changes);
+            }
+        } catch (ClusteringFault e) {
+            log.error("Error occurred while broadcasting tenant state changes: " + changes, e);
+        }
+    }
+}
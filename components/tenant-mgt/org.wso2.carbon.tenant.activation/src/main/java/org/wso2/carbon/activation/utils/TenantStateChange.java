@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A change in the state of a tenant, which the node local caches of the tenant are invalidated for.
+ */
+public class TenantStateChange implements Serializable {
+
+    private static final long serialVersionUID = 4176306185376251094L;
+
+    /**
+     * Types of tenant state changes.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        RENAMED,
+        ACTIVATED,
+        DEACTIVATED,
+        DELETED,
+        /**
+         * A single cloud service was activated or deactivated for the tenant, while the tenant itself did not
+         * change. Only the caches of the cloud service activations react to this.
+         */
+        SERVICE_ACTIVATION_CHANGED,
+        SUBSCRIPTION_PLAN_CHANGED,
+        THROTTLING_UPDATED
+    }
+
+    private final int tenantId;
+    private final Type type;
+    private final String tenantDomain;
+
+    public TenantStateChange(int tenantId, Type type) {
+
+        this(tenantId, type, null);
+    }
+
+    /**
+     * @param tenantId     id of the tenant.
+     * @param type         type of the change.
+     * @param tenantDomain domain of the tenant before the change, which caches keyed by the domain remove, or null
+     *                     if it is not known.
+     */
+    public TenantStateChange(int tenantId, Type type, String tenantDomain) {
+
+        this.tenantId = tenantId;
+        this.type = type;
+        this.tenantDomain = tenantDomain;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public Type getType() {
+
+        return type;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantStateChange)) {
+            return false;
+        }
+        TenantStateChange that = (TenantStateChange) o;
+        return tenantId == that.tenantId && type == that.type && Objects.equals(tenantDomain, that.tenantDomain);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(tenantId, type, tenantDomain);
+    }
+
+    @Override
+    public String toString() {
+
+        return tenantDomain == null ? tenantId + ":" + type : tenantId + "(" + tenantDomain + "):" + type;
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.wso2.carbon.activation.utils;
 
+import org.apache.axis2.context.ConfigurationContext;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.ServerConfiguration;
@@ -25,6 +26,7 @@ import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.session.UserRegistry;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.ConfigurationContextService;
 
 /**
  * Utilities for the Service Activation Module for Tenants.
@@ -33,6 +35,7 @@ public class Util {
 
     private static RegistryService registryService = null;
     private static RealmService realmService = null;
+    private static volatile ConfigurationContextService configurationContextService = null;
     private static String serviceName = null;
     private static final Log log = LogFactory.getLog(Util.class);
 
@@ -79,7 +82,32 @@ public class Util {
         return realmService;
     }
 
-    private static UserRegistry getSuperTenantGovernanceSystemRegistry() throws RegistryException {
+    /**
+     * Stores an instance of the Configuration Context Service used to access the clustering agent.
+     *
+     * @param service the Configuration Context Service instance.
+     */
+    public static synchronized void setConfigurationContextService(ConfigurationContextService service) {
+        configurationContextService = service;
+    }
+
+    /**
+     * Method to retrieve the server configuration context.
+     *
+     * @return the server configuration context if the Configuration Context Service has been stored or null if not.
+     */
+    public static ConfigurationContext getConfigurationContext() {
+        ConfigurationContextService service = configurationContextService;
+        return service != null ? service.getServerConfigContext() : null;
+    }
+
+    /**
+     * Method to retrieve the governance system registry of the super tenant.
+     *
+     * @return the governance system registry of the super tenant.
+     * @throws RegistryException if the registry could not be retrieved.
+     */
+    public static UserRegistry getSuperTenantGovernanceSystemRegistry() throws RegistryException {
         return registryService.getGovernanceSystemRegistry();
     }
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.internal;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.activation.utils.ActivationManager;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.user.api.TenantManager;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the invalidation of the node local activation records and tenant domains on tenant state changes.
+ */
+public class TenantCacheInvalidatorTest {
+
+    private final Map<String, Integer> tenantIds = new HashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final TenantManager tenantManager = (TenantManager) Proxy.newProxyInstance(
+            TenantCacheInvalidatorTest.class.getClassLoader(), new Class[]{TenantManager.class},
+            (proxy, method, args) -> {
+                if (!"getTenantId".equals(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                lookups.incrementAndGet();
+                return tenantIds.getOrDefault((String) args[0], MultitenantConstants.INVALID_TENANT_ID);
+            });
+    private final TenantCacheInvalidator invalidator = new TenantCacheInvalidator();
+
+    @BeforeMethod
+    public void setUp() {
+
+        tenantIds.clear();
+        lookups.set(0);
+        TenantDomainResolver.clear();
+    }
+
+    @Test
+    public void testServiceActivationChangeRemovesActivationRecord() {
+
+        ActivationManager.setActivation(1, true);
+        ActivationManager.setActivation(2, true);
+
+        deliver(new TenantStateChange(1, TenantStateChange.Type.SERVICE_ACTIVATION_CHANGED));
+
+        assertFalse(ActivationManager.activationRecorded(1));
+        assertTrue(ActivationManager.activationRecorded(2));
+        ActivationManager.removeActivation(2);
+    }
+
+    @Test
+    public void testDeletionRemovesResolvedDomain() throws Exception {
+
+        tenantIds.put("a.com", 1);
+        tenantIds.put("b.com", 2);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), 1);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "b.com"), 2);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), 1);
+        assertEquals(lookups.get(), 2);
+
+        tenantIds.remove("a.com");
+        deliver(new TenantStateChange(1, TenantStateChange.Type.DELETED, "a.com"));
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "b.com"), 2);
+        assertEquals(lookups.get(), 3);
+    }
+
+    @Test
+    public void testCreationRemovesUnresolvedDomains() throws Exception {
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "c.com"), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "c.com"), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(lookups.get(), 1);
+
+        tenantIds.put("c.com", 3);
+        deliver(new TenantStateChange(3, TenantStateChange.Type.CREATED, "c.com"));
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "c.com"), 3);
+        assertEquals(lookups.get(), 2);
+    }
+
+    private void deliver(TenantStateChange change) {
+
+        invalidator.onTenantStateChange(Collections.singletonList(change));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.registry.core.Collection;
+import org.wso2.carbon.registry.core.Registry;
+import org.wso2.carbon.registry.core.RegistryConstants;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.stratos.common.constants.StratosConstants;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the caching, write through and invalidation of the cloud service activation flags.
+ */
+public class CloudServiceActivationCacheTest {
+
+    private static final String APP_SERVER = "Application Server";
+    private static final String ESB = "Enterprise Service Bus";
+    private static final String BPS = "Business Process Server";
+
+    private final Map<Integer, Map<String, Boolean>> storedFlags = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeMethod
+    public void setUp() {
+
+        storedFlags.clear();
+        loads.set(0);
+        CloudServiceActivationCache.setRegistryProvider(this::createRegistry);
+        CloudServiceActivationCache.reload(TimeUnit.MINUTES.toMillis(15), new LinkedHashSet<>(Arrays.asList(APP_SERVER,
+                ESB)));
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        CloudServiceActivationCache.setRegistryProvider(Util::getSuperTenantGovernanceSystemRegistry);
+        CloudServiceActivationCache.clear();
+    }
+
+    @Test
+    public void testFlagsAreLoadedOnce() throws Exception {
+
+        store(1, APP_SERVER, true);
+
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(ESB, 1));
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testSetWritesThroughCachedFlags() throws Exception {
+
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(ESB, 1));
+
+        store(1, ESB, true);
+        CloudServiceActivationCache.setCloudServiceActive(ESB, 1, true);
+
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(ESB, 1));
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testSetDoesNotLoadUncachedFlags() throws Exception {
+
+        store(2, ESB, true);
+        CloudServiceActivationCache.setCloudServiceActive(ESB, 2, true);
+        assertEquals(loads.get(), 0);
+
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(ESB, 2));
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testInvalidateReadsFlagsAgain() throws Exception {
+
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 2));
+
+        store(1, APP_SERVER, true);
+        store(2, APP_SERVER, true);
+        CloudServiceActivationCache.invalidate(1);
+
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 2));
+        assertEquals(loads.get(), 3);
+    }
+
+    @Test
+    public void testExpiredFlagsAreLoadedAgain() throws Exception {
+
+        CloudServiceActivationCache.reload(1, new LinkedHashSet<>(Arrays.asList(APP_SERVER, ESB)));
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+
+        store(1, APP_SERVER, true);
+        Thread.sleep(10);
+
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    public void testReloadRebuildsServiceIndexes() throws Exception {
+
+        store(1, ESB, true);
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(ESB, 1));
+
+        store(1, BPS, true);
+        CloudServiceActivationCache.reload(TimeUnit.MINUTES.toMillis(15), new LinkedHashSet<>(Arrays.asList(BPS,
+                APP_SERVER, ESB)));
+
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(BPS, 1));
+        assertTrue(CloudServiceActivationCache.isCloudServiceActive(ESB, 1));
+        assertFalse(CloudServiceActivationCache.isCloudServiceActive(APP_SERVER, 1));
+        assertEquals(loads.get(), 2);
+    }
+
+    private void store(int tenantId, String cloudServiceName, boolean active) {
+
+        storedFlags.computeIfAbsent(tenantId, key -> new HashMap<>()).put(cloudServiceName, active);
+    }
+
+    private Registry createRegistry() {
+
+        return (Registry) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Registry.class},
+                (proxy, method, args) -> {
+                    String path = (String) args[0];
+                    String tenantPath = path.substring(StratosConstants.CLOUD_SERVICE_INFO_STORE_PATH.length() + 1);
+                    int separator = tenantPath.indexOf(RegistryConstants.PATH_SEPARATOR);
+                    if ("resourceExists".equals(method.getName())) {
+                        loads.incrementAndGet();
+                        return separator < 0 && storedFlags.containsKey(Integer.parseInt(tenantPath));
+                    }
+                    if (!"get".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (separator < 0) {
+                        return createCollection(path, storedFlags.get(Integer.parseInt(tenantPath)));
+                    }
+                    Map<String, Boolean> flags = storedFlags.get(Integer.parseInt(tenantPath.substring(0, separator)));
+                    return createResource(flags.get(tenantPath.substring(separator + 1)));
+                });
+    }
+
+    private Collection createCollection(String path, Map<String, Boolean> flags) {
+
+        String[] children = flags.keySet().stream().map(name -> path + RegistryConstants.PATH_SEPARATOR + name)
+                .toArray(String[]::new);
+        return (Collection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Collection.class},
+                (proxy, method, args) -> {
+                    if (!"getChildren".equals(method.getName()) || args != null) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return children;
+                });
+    }
+
+    private Resource createResource(boolean active) {
+
+        return (Resource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Resource.class},
+                (proxy, method, args) -> {
+                    if (!"getProperty".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return StratosConstants.CLOUD_SERVICE_IS_ACTIVE_PROP_KEY.equals(args[0]) ?
+                            Boolean.toString(active) : null;
+                });
+    }
+}
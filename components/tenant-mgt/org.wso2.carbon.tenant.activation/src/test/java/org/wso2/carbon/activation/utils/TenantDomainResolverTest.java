@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.user.api.TenantManager;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests the caching of the tenant ids resolved from tenant domains, and their invalidation and eviction.
+ */
+public class TenantDomainResolverTest {
+
+    private static final int MAX_ENTRIES = 100000;
+
+    private final Map<String, Integer> tenantIds = new HashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final TenantManager tenantManager = (TenantManager) Proxy.newProxyInstance(
+            TenantDomainResolverTest.class.getClassLoader(), new Class[]{TenantManager.class},
+            (proxy, method, args) -> {
+                if (!"getTenantId".equals(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                lookups.incrementAndGet();
+                return tenantIds.getOrDefault((String) args[0], MultitenantConstants.INVALID_TENANT_ID);
+            });
+
+    @BeforeMethod
+    public void setUp() {
+
+        tenantIds.clear();
+        lookups.set(0);
+        TenantDomainResolver.clear();
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        TenantDomainResolver.clear();
+    }
+
+    @Test
+    public void testResolvedDomainIsCached() throws Exception {
+
+        tenantIds.put("a.com", 1);
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), 1);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), 1);
+        assertEquals(lookups.get(), 1);
+    }
+
+    @Test
+    public void testSuperTenantAndNullDomainAreNotLookedUp() throws Exception {
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME),
+                MultitenantConstants.SUPER_TENANT_ID);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, null), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(lookups.get(), 0);
+    }
+
+    @Test
+    public void testUnknownDomainIsCachedUntilCleared() throws Exception {
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), MultitenantConstants.INVALID_TENANT_ID);
+        tenantIds.put("a.com", 1);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(lookups.get(), 1);
+
+        TenantDomainResolver.clearUnresolved();
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "a.com"), 1);
+        assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void testInvalidateByDomainAndById() throws Exception {
+
+        tenantIds.put("a.com", 1);
+        tenantIds.put("b.com", 2);
+        TenantDomainResolver.getTenantId(tenantManager, "a.com");
+        TenantDomainResolver.getTenantId(tenantManager, "b.com");
+
+        TenantDomainResolver.invalidate("a.com");
+        TenantDomainResolver.invalidate(2);
+        TenantDomainResolver.getTenantId(tenantManager, "a.com");
+        TenantDomainResolver.getTenantId(tenantManager, "b.com");
+
+        assertEquals(lookups.get(), 4);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDomainsAreEvicted() throws Exception {
+
+        for (int i = 0; i < MAX_ENTRIES * 2; i++) {
+            tenantIds.put("tenant" + i + ".com", i + 1);
+        }
+        // The first domain is used again before it becomes the least recently used one of its segment.
+        for (int i = 0; i < MAX_ENTRIES * 2; i++) {
+            TenantDomainResolver.getTenantId(tenantManager, "tenant" + i + ".com");
+            if (i % 1000 == 0) {
+                TenantDomainResolver.getTenantId(tenantManager, "tenant0.com");
+            }
+        }
+        assertEquals(lookups.get(), MAX_ENTRIES * 2);
+
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "tenant0.com"), 1);
+        assertEquals(TenantDomainResolver.getTenantId(tenantManager, "tenant1.com"), 2);
+        assertEquals(lookups.get(), MAX_ENTRIES * 2 + 1);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.activation.utils;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.activation.message.TenantStateClusterMessage;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the local delivery and the batched cluster broadcast of the tenant state changes.
+ */
+public class TenantStateBusTest {
+
+    private final List<TenantStateClusterMessage> sentMessages = new CopyOnWriteArrayList<>();
+    private final List<TenantStateChange> deliveredChanges = new CopyOnWriteArrayList<>();
+    private final TenantStateListener listener = deliveredChanges::addAll;
+
+    @BeforeMethod
+    public void setUp() {
+
+        sentMessages.clear();
+        deliveredChanges.clear();
+        ClusteringAgent agent = (ClusteringAgent) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ClusteringAgent.class}, (proxy, method, args) -> {
+                    if ("sendMessage".equals(method.getName())) {
+                        sentMessages.add((TenantStateClusterMessage) args[0]);
+                    }
+                    return null;
+                });
+        AxisConfiguration axisConfig = new AxisConfiguration();
+        axisConfig.setClusteringAgent(agent);
+        Util.setConfigurationContextService(
+                new ConfigurationContextService(new ConfigurationContext(axisConfig), null));
+        TenantStateBus.subscribe(listener);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        TenantStateBus.unsubscribe(listener);
+        TenantStateBus.stop();
+        Util.setConfigurationContextService(null);
+    }
+
+    @Test
+    public void testPublishDeliversToLocalListenersImmediately() {
+
+        TenantStateBus.start();
+        TenantStateBus.publish(1, TenantStateChange.Type.DEACTIVATED, "a.com");
+
+        assertEquals(deliveredChanges, Collections.singletonList(
+                new TenantStateChange(1, TenantStateChange.Type.DEACTIVATED, "a.com")));
+    }
+
+    @Test
+    public void testBroadcastDoesNotDeliverToLocalListeners() {
+
+        TenantStateChange change = new TenantStateChange(1, TenantStateChange.Type.SERVICE_ACTIVATION_CHANGED);
+        TenantStateBus.broadcast(Collections.singletonList(change));
+
+        assertTrue(deliveredChanges.isEmpty());
+        assertEquals(sentMessages.size(), 1);
+        assertEquals(sentMessages.get(0).getChanges(), Collections.singletonList(change));
+    }
+
+    @Test
+    public void testChangesWithinWindowAreBroadcastInOneMessage() {
+
+        TenantStateBus.start();
+        TenantStateBus.publish(1, TenantStateChange.Type.CREATED);
+        TenantStateBus.publish(2, TenantStateChange.Type.UPDATED);
+        TenantStateBus.publish(1, TenantStateChange.Type.CREATED);
+        assertTrue(sentMessages.isEmpty());
+
+        // Stopping the bus broadcasts the pending changes without waiting for the window to end.
+        TenantStateBus.stop();
+
+        assertEquals(sentMessages.size(), 1);
+        assertEquals(sentMessages.get(0).getChanges(), Arrays.asList(
+                new TenantStateChange(1, TenantStateChange.Type.CREATED),
+                new TenantStateChange(2, TenantStateChange.Type.UPDATED)));
+        assertEquals(deliveredChanges.size(), 3);
+    }
+
+    @Test
+    public void testPendingChangesAreBroadcastOnceWindowEnds() throws InterruptedException {
+
+        TenantStateBus.start();
+        TenantStateBus.publish(1, TenantStateChange.Type.ACTIVATED);
+        TenantStateBus.publish(2, TenantStateChange.Type.ACTIVATED);
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (sentMessages.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(sentMessages.size(), 1);
+        assertEquals(sentMessages.get(0).getChanges().size(), 2);
+    }
+
+    @Test
+    public void testChangesAreBroadcastImmediatelyWhenNotStarted() {
+
+        TenantStateBus.publish(1, TenantStateChange.Type.RENAMED, "a.com");
+        TenantStateBus.publish(2, TenantStateChange.Type.RENAMED, "b.com");
+
+        List<TenantStateChange> sentChanges = new ArrayList<>();
+        for (TenantStateClusterMessage message : sentMessages) {
+            sentChanges.addAll(message.getChanges());
+        }
+        assertEquals(sentMessages.size(), 2);
+        assertEquals(sentChanges, Arrays.asList(
+                new TenantStateChange(1, TenantStateChange.Type.RENAMED, "a.com"),
+                new TenantStateChange(2, TenantStateChange.Type.RENAMED, "b.com")));
+    }
+
+    @Test
+    public void testReceivedChangesAreDeliveredWithoutBroadcast() throws Exception {
+
+        TenantStateChange change = new TenantStateChange(3, TenantStateChange.Type.DELETED, "c.com");
+        new TenantStateClusterMessage(Collections.singletonList(change)).execute(null);
+
+        assertEquals(deliveredChanges, Collections.singletonList(change));
+        assertTrue(sentMessages.isEmpty());
+    }
+}
@@ -28,6 +28,7 @@ import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.keystore.mgt.util.KeyPairPool;
 import org.wso2.carbon.keystore.mgt.util.RealmServiceHolder;
 import org.wso2.carbon.security.keystore.KeyStoreAdmin;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -37,7 +38,6 @@ import org.wso2.carbon.utils.security.KeystoreUtils;
 import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.security.KeyPair;
-import java.security.KeyPairGenerator;
 import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.SecureRandom;
@@ -146,10 +146,8 @@ public class KeyStoreGenerator {
     private X509Certificate generateKeyPair(KeyStore keyStore) throws KeyStoreMgtException {
         try {
             CryptoUtil.getDefaultCryptoUtil();
-            //generate key pair
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            KeyPair keyPair = keyPairGenerator.generateKeyPair();
+            //take a key pair generated in advance, if there is one
+            KeyPair keyPair = KeyPairPool.getInstance().take();
 
             // Common Name and alias for the generated certificate
             String commonName = "CN=" + tenantDomain + ", OU=None, O=None, L=None, C=None";
@@ -20,17 +20,25 @@ package org.wso2.carbon.keystore.mgt;
 import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
 import org.wso2.carbon.stratos.common.exception.StratosException;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEventFilter;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * This class is used to listen to the tenant creation events and fire the keystore creation event
  */
-public class KeystoreTenantMgtListener implements TenantMgtListener {
+public class KeystoreTenantMgtListener implements TenantMgtListener, TenantMgtListenerEventFilter {
 
     private static Log log = LogFactory.getLog(KeystoreTenantMgtListener.class);
     private static final int EXEC_ORDER = 20;
+    private static final Set<TenantMgtListenerEvent> HANDLED_EVENTS =
+            Collections.unmodifiableSet(EnumSet.of(TenantMgtListenerEvent.TENANT_CREATE));
 
     /**
      * Generate the keystore when a new tenant is registered.
@@ -66,6 +74,13 @@ public class KeystoreTenantMgtListener implements TenantMgtListener {
         return EXEC_ORDER;
     }
 
+    /**
+     * Only the tenant creation generates the keystore.
+     */
+    public Set<TenantMgtListenerEvent> getHandledEvents() {
+        return HANDLED_EVENTS;
+    }
+
     public void onTenantInitialActivation(int tenantId) throws StratosException {
         // It is not required to implement this method for keystore mgt. 
     }
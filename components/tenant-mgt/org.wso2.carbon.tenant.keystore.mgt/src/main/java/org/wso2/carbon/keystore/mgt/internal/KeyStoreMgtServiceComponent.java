@@ -23,6 +23,7 @@ import org.osgi.service.component.ComponentContext;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.keystore.mgt.KeystoreTenantMgtListener;
+import org.wso2.carbon.keystore.mgt.util.KeyPairPool;
 import org.wso2.carbon.keystore.mgt.util.RealmServiceHolder;
 import org.wso2.carbon.keystore.mgt.util.RegistryServiceHolder;
 import org.osgi.service.component.annotations.Activate;
@@ -45,6 +46,7 @@ public class KeyStoreMgtServiceComponent {
         KeystoreTenantMgtListener keystoreTenantMgtListener = new KeystoreTenantMgtListener();
         ctxt.getBundleContext().registerService(org.wso2.carbon.stratos.common.listeners.TenantMgtListener.class
                 .getName(), keystoreTenantMgtListener, null);
+        KeyPairPool.getInstance().start();
         if (log.isDebugEnabled()) {
             log.debug("*************Stratos Keystore mgt component is activated.**************");
         }
@@ -53,6 +55,7 @@ public class KeyStoreMgtServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext ctxt) {
 
+        KeyPairPool.getInstance().stop();
         if (log.isDebugEnabled()) {
             log.debug("************Stratos keystore mgt component is decativated.*************");
         }
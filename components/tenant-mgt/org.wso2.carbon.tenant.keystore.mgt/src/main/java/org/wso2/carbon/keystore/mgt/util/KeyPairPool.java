@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.keystore.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+
+import java.lang.management.ManagementFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Keeps a pool of RSA key pairs generated in the background, so that the key pair of the keystore of a new tenant
+ * does not have to be generated while the tenant is being created. Generating the key pair is the most expensive
+ * part of tenant creation which does not depend on the tenant domain.
+ * <p>
+ * The pool is configured in carbon.xml with the 'Tenant.KeyPairPool.Size' property, which is the number of key pairs
+ * kept ready, and the 'Tenant.KeyPairPool.RefillRate' property, which is the maximum number of key pairs generated
+ * per second to refill the pool. The pool is disabled when the size is 0. The statistics of the pool are exposed
+ * through JMX.
+ */
+public class KeyPairPool implements KeyPairPoolMXBean {
+
+    private static final Log log = LogFactory.getLog(KeyPairPool.class);
+
+    public static final String KEY_ALGORITHM = "RSA";
+    public static final int KEY_SIZE = 2048;
+
+    private static final String OBJECT_NAME = "org.wso2.carbon:type=TenantKeyPairPool";
+    private static final String SIZE_PROPERTY = "Tenant.KeyPairPool.Size";
+    private static final String REFILL_RATE_PROPERTY = "Tenant.KeyPairPool.RefillRate";
+    private static final int DEFAULT_SIZE = 8;
+    private static final int DEFAULT_REFILL_RATE = 2;
+
+    private static final KeyPairPool instance = new KeyPairPool();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder generatedCount = new LongAdder();
+    private final LongAdder generationTimeNanos = new LongAdder();
+
+    private volatile BlockingQueue<KeyPair> keyPairs = null;
+    private volatile int capacity = 0;
+    private ScheduledExecutorService refiller = null;
+
+    private KeyPairPool() {
+
+    }
+
+    public static KeyPairPool getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Start refilling the pool in the background and register its statistics in the platform MBean server.
+     */
+    public synchronized void start() {
+
+        if (refiller != null) {
+            return;
+        }
+        int size = TenantCoreUtil.getNonNegativeIntProperty(SIZE_PROPERTY, DEFAULT_SIZE);
+        int refillRate = TenantCoreUtil.getNonNegativeIntProperty(REFILL_RATE_PROPERTY, DEFAULT_REFILL_RATE);
+        if (size <= 0 || refillRate <= 0) {
+            log.info("Tenant key pair pool is disabled.");
+            return;
+        }
+        capacity = size;
+        keyPairs = new LinkedBlockingQueue<>(size);
+        refiller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TenantKeyPairPoolRefiller");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        long refillIntervalMicros = TimeUnit.SECONDS.toMicros(1) / refillRate;
+        refiller.scheduleWithFixedDelay(this::refill, 0, refillIntervalMicros, TimeUnit.MICROSECONDS);
+        registerMBean();
+        if (log.isDebugEnabled()) {
+            log.debug("Tenant key pair pool is started with size: " + size + " and refill rate: " + refillRate +
+                    " per second.");
+        }
+    }
+
+    /**
+     * Stop refilling the pool and discard the pooled key pairs.
+     */
+    public synchronized void stop() {
+
+        if (refiller == null) {
+            return;
+        }
+        refiller.shutdownNow();
+        refiller = null;
+        keyPairs = null;
+        capacity = 0;
+        unregisterMBean();
+    }
+
+    /**
+     * Take a key pair from the pool. If the pool is empty or disabled, the key pair is generated by the calling
+     * thread.
+     *
+     * @return a key pair, which is not handed out again.
+     * @throws NoSuchAlgorithmException if RSA key pairs are not supported.
+     */
+    public KeyPair take() throws NoSuchAlgorithmException {
+
+        BlockingQueue<KeyPair> pooledKeyPairs = keyPairs;
+        if (pooledKeyPairs != null) {
+            KeyPair keyPair = pooledKeyPairs.poll();
+            if (keyPair != null) {
+                hitCount.increment();
+                return keyPair;
+            }
+            missCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant key pair pool is empty. Hence generating the key pair in place.");
+            }
+        }
+        return generate();
+    }
+
+    @Override
+    public int getCapacity() {
+
+        return capacity;
+    }
+
+    @Override
+    public int getAvailableCount() {
+
+        BlockingQueue<KeyPair> pooledKeyPairs = keyPairs;
+        return pooledKeyPairs == null ? 0 : pooledKeyPairs.size();
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    @Override
+    public long getGeneratedCount() {
+
+        return generatedCount.sum();
+    }
+
+    @Override
+    public long getAverageGenerationTimeMillis() {
+
+        long generated = generatedCount.sum();
+        return generated == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(generationTimeNanos.sum() / generated);
+    }
+
+    @Override
+    public void reset() {
+
+        hitCount.reset();
+        missCount.reset();
+        generatedCount.reset();
+        generationTimeNanos.reset();
+    }
+
+    private void refill() {
+
+        BlockingQueue<KeyPair> pooledKeyPairs = keyPairs;
+        if (pooledKeyPairs == null || pooledKeyPairs.remainingCapacity() == 0) {
+            return;
+        }
+        try {
+            pooledKeyPairs.offer(generate());
+        } catch (Exception e) {
+            // Keep the refiller scheduled, the key pairs are generated in place until the pool is refilled.
+            log.error("Error while generating a key pair for the tenant key pair pool.", e);
+        }
+    }
+
+    private KeyPair generate() throws NoSuchAlgorithmException {
+
+        long startTime = System.nanoTime();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+        keyPairGenerator.initialize(KEY_SIZE);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        generationTimeNanos.add(System.nanoTime() - startTime);
+        generatedCount.increment();
+        return keyPair;
+    }
+
+    private void registerMBean() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            log.error("Error while registering the tenant key pair pool MBean.", e);
+        }
+    }
+
+    private void unregisterMBean() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.error("Error while unregistering the tenant key pair pool MBean.", e);
+        }
+    }
+}
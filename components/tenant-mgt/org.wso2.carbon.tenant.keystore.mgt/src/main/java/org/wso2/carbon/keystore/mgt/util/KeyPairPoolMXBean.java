@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.keystore.mgt.util;
+
+/**
+ * JMX interface to monitor the pool of key pairs used for the keystores of new tenants.
+ */
+public interface KeyPairPoolMXBean {
+
+    /**
+     * Get the number of key pairs the pool keeps ready.
+     *
+     * @return capacity of the pool, or 0 if the pool is disabled.
+     */
+    int getCapacity();
+
+    /**
+     * Get the number of key pairs currently in the pool.
+     *
+     * @return number of available key pairs.
+     */
+    int getAvailableCount();
+
+    /**
+     * Get the number of key pairs taken from the pool.
+     *
+     * @return number of hits.
+     */
+    long getHitCount();
+
+    /**
+     * Get the number of times the pool was empty, and the key pair was generated in place.
+     *
+     * @return number of misses.
+     */
+    long getMissCount();
+
+    /**
+     * Get the number of key pairs generated, both in the background and in place.
+     *
+     * @return number of generated key pairs.
+     */
+    long getGeneratedCount();
+
+    /**
+     * Get the average time taken to generate a key pair.
+     *
+     * @return average generation time in milliseconds.
+     */
+    long getAverageGenerationTimeMillis();
+
+    /**
+     * Clear the collected statistics.
+     */
+    void reset();
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.registry.core.RegistryConstants;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.registry.core.exceptions.RegistryException;
+import org.wso2.carbon.registry.core.session.UserRegistry;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.core.internal.TenantMgtCoreServiceComponent;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Defers the post tenant creation actions until a tenant is first used. When the
+ * 'Tenant.LazyInitialization.Enabled' property in carbon.xml is true, creating a tenant only records a pending
+ * initialization marker in the super tenant registry, and the tenant registry, the UI permissions, the originated
+ * service and the cloud service activation flags are set up when the tenant first authenticates. The marker is shared
+ * by the cluster, and the actions are idempotent. Each node remembers the tenants which it found initialized, so that
+ * the registry is only checked on the first authentication of a tenant on the node.
+ */
+public class LazyTenantInitializer {
+
+    private static final Log log = LogFactory.getLog(LazyTenantInitializer.class);
+
+    private static final String ENABLED_PROPERTY = "Tenant.LazyInitialization.Enabled";
+    private static final String PENDING_INITIALIZATION_PATH =
+            "/repository/components/org.wso2.carbon.tenant.mgt/pending-initialization";
+    private static final String ORIGINATED_SERVICE_PROPERTY = "originatedService";
+
+    private static final Map<Integer, ReentrantLock> initializationLocks = new ConcurrentHashMap<>();
+    private static final Set<Integer> initializedTenants = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Check whether the post tenant creation actions are deferred until the tenant is first used.
+     *
+     * @return true, if lazy initialization is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(ServerConfiguration.getInstance().getFirstProperty(ENABLED_PROPERTY));
+    }
+
+    /**
+     * Record that the post tenant creation actions of a tenant are pending.
+     *
+     * @param tenantId          id of the tenant.
+     * @param originatedService the service that the tenant registration was originated.
+     * @throws TenantManagementServerException if the marker could not be stored.
+     */
+    public static void markPending(int tenantId, String originatedService) throws TenantManagementServerException {
+
+        initializedTenants.remove(tenantId);
+        try {
+            UserRegistry superTenantRegistry = getSuperTenantRegistry();
+            Resource marker = superTenantRegistry.newResource();
+            if (originatedService != null) {
+                marker.setProperty(ORIGINATED_SERVICE_PROPERTY, originatedService);
+            }
+            superTenantRegistry.put(getMarkerPath(tenantId), marker);
+        } catch (RegistryException e) {
+            throw new TenantManagementServerException("Error while recording the pending initialization of " +
+                    "tenant: " + tenantId, e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Deferred the post tenant creation actions of tenant: " + tenantId);
+        }
+    }
+
+    /**
+     * Perform the pending post tenant creation actions of a tenant, if there are any. Concurrent calls for the same
+     * tenant wait for the first one, and calls made while the actions run on the same thread return immediately.
+     *
+     * @param tenantId id of the tenant.
+     * @return true, if the pending actions were performed by this call.
+     * @throws TenantManagementServerException if the actions failed. The marker is kept, so that they are retried
+     *                                         when the tenant next authenticates.
+     */
+    public static boolean initialize(int tenantId) throws TenantManagementServerException {
+
+        if (initializedTenants.contains(tenantId)) {
+            return false;
+        }
+        try {
+            UserRegistry superTenantRegistry = getSuperTenantRegistry();
+            String markerPath = getMarkerPath(tenantId);
+            // Most tenants have no pending initialization, hence the lock is only taken for the ones with a marker.
+            if (!superTenantRegistry.resourceExists(markerPath)) {
+                initializedTenants.add(tenantId);
+                return false;
+            }
+            ReentrantLock lock = initializationLocks.computeIfAbsent(tenantId, key -> new ReentrantLock());
+            if (lock.isHeldByCurrentThread()) {
+                return false;
+            }
+            lock.lock();
+            boolean pending = true;
+            try {
+                if (!superTenantRegistry.resourceExists(markerPath)) {
+                    initializedTenants.add(tenantId);
+                    pending = false;
+                    return false;
+                }
+                String originatedService =
+                        superTenantRegistry.get(markerPath).getProperty(ORIGINATED_SERVICE_PROPERTY);
+                new TenantPersistor().performPostTenantCreationActions(tenantId, originatedService);
+                superTenantRegistry.delete(markerPath);
+                initializedTenants.add(tenantId);
+                pending = false;
+                log.info("Completed the pending initialization of tenant: " + tenantId);
+                return true;
+            } finally {
+                // The lock is kept while the marker is, so that the retries of a failed initialization are serialized.
+                if (!pending) {
+                    initializationLocks.remove(tenantId, lock);
+                }
+                lock.unlock();
+            }
+        } catch (RegistryException e) {
+            throw new TenantManagementServerException("Error while reading the pending initialization of tenant: " +
+                    tenantId, e);
+        }
+    }
+
+    /**
+     * Remove the pending initialization marker of a tenant, e.g. when the tenant is deleted before it is used.
+     *
+     * @param tenantId id of the tenant.
+     * @throws TenantManagementServerException if the marker could not be removed.
+     */
+    public static void removePending(int tenantId) throws TenantManagementServerException {
+
+        try {
+            UserRegistry superTenantRegistry = getSuperTenantRegistry();
+            String markerPath = getMarkerPath(tenantId);
+            if (superTenantRegistry.resourceExists(markerPath)) {
+                superTenantRegistry.delete(markerPath);
+            }
+        } catch (RegistryException e) {
+            throw new TenantManagementServerException("Error while removing the pending initialization of tenant: " +
+                    tenantId, e);
+        }
+        initializationLocks.remove(tenantId);
+        initializedTenants.remove(tenantId);
+    }
+
+    private static UserRegistry getSuperTenantRegistry() throws RegistryException {
+
+        return TenantMgtCoreServiceComponent.getGovernanceSystemRegistry(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private static String getMarkerPath(int tenantId) {
+
+        return PENDING_INITIALIZATION_PATH + RegistryConstants.PATH_SEPARATOR + tenantId;
+    }
+}
@@ -71,14 +71,15 @@ public class TenantPersistor {
      */
     public int persistTenant(Tenant tenant, boolean checkDomainValidation, String successKey,
                              String originatedService,boolean isSkeleton) throws Exception {
-        int tenantId = 0;
+        // The domain validation flag is stored with the other super tenant registry writes of the tenant creation.
+        boolean storeDomainValidationFlag = false;
         if(!isSkeleton){
-           tenantId=persistTenantInUserStore(tenant,checkDomainValidation,successKey);
-        }else {
-           tenantId=tenant.getId();
+           storeDomainValidationFlag = addTenantToUserStore(tenant, checkDomainValidation, successKey);
+           addTenantAdminUser(tenant);
         }
+        int tenantId = tenant.getId();
         try {
-            doPostTenantCreationActions(tenant, originatedService);
+            doPostTenantCreationActions(tenant, originatedService, storeDomainValidationFlag);
         } catch (Exception e) {
             String msg = "Error performing post tenant creation actions";
             throw new Exception(msg, e);
@@ -87,8 +88,32 @@ public class TenantPersistor {
         return tenantId;
     }
 
-    private int persistTenantInUserStore(Tenant tenant, boolean checkDomainValidation, String successKey) throws Exception {
-        int tenantId;
+    /**
+     * Persists the given tenant and its admin user in the user store, without performing the post tenant creation
+     * actions. The post tenant creation actions can be performed later by persisting the tenant as a skeleton.
+     * @param tenant - tenant to be persisted
+     * @param checkDomainValidation - true, if domain is validated.
+     * @param successKey - successKey
+     * @return tenant Id - the tenant id
+     * @throws Exception, if persisting tenant failed.
+     */
+    public int persistTenantInUserStore(Tenant tenant, boolean checkDomainValidation, String successKey)
+            throws Exception {
+        if (addTenantToUserStore(tenant, checkDomainValidation, successKey)) {
+            storeDomainValidationFlagToRegistry(tenant);
+        }
+        addTenantAdminUser(tenant);
+        return tenant.getId();
+    }
+
+    /**
+     * Adds the given tenant to the user store and validates its domain. The tenant id is set to the tenant.
+     *
+     * @return true, if the domain validation flag has to be stored for the tenant.
+     * @throws Exception, if adding the tenant or validating the domain failed.
+     */
+    private boolean addTenantToUserStore(Tenant tenant, boolean checkDomainValidation, String successKey)
+            throws Exception {
         validateAdminUserName(tenant);
         String tenantDomain = tenant.getDomain();
 
@@ -108,7 +133,7 @@ public class TenantPersistor {
         tenant.setRealmConfig(realmConfigToPersist);
         // Make AddAdmin true since user creation should happen even AddAdmin false
         realmService.getBootstrapRealm().getRealmConfiguration().setAddAdmin(ADD_ADMIN_TRUE);
-        tenantId = addTenant(tenant);
+        int tenantId = addTenant(tenant);
         tenant.setId(tenantId);
 
         if (checkDomainValidation) {
@@ -116,34 +141,75 @@ public class TenantPersistor {
                 if (CommonUtil.validateDomainFromSuccessKey(TenantMgtCoreServiceComponent.
                         getGovernanceSystemRegistry(MultitenantConstants.SUPER_TENANT_ID),
                         tenant.getDomain(), successKey)) {
-                    storeDomainValidationFlagToRegistry(tenant);
+                    return true;
                 } else {
                     String msg = "Failed to validate domain";
                     throw new Exception(msg);
                 }
             }
-        } else {
-            storeDomainValidationFlagToRegistry(tenant);
+            return false;
         }
+        return true;
+    }
 
-        addTenantAdminUser(tenant);
-        return tenantId;
+    private void doPostTenantCreationActions(Tenant tenant, String originatedService,
+                                             boolean storeDomainValidationFlag)
+            throws TenantManagementServerException {
+
+        if (LazyTenantInitializer.isEnabled()) {
+            try {
+                TenantCoreUtil.executeInSuperTenantRegistryTransaction(() -> {
+                    if (storeDomainValidationFlag) {
+                        storeDomainValidationFlagToRegistry(tenant);
+                    }
+                    LazyTenantInitializer.markPending(tenant.getId(), originatedService);
+                });
+            } catch (Exception ex) {
+                throw new TenantManagementServerException("Error performing post tenant creation actions.", ex);
+            }
+            return;
+        }
+        performPostTenantCreationActions(tenant.getId(), originatedService,
+                storeDomainValidationFlag ? tenant : null);
     }
 
-    private void doPostTenantCreationActions(Tenant tenant,
-                                             String originatedService) throws TenantManagementServerException {
+    /**
+     * Loads the tenant registry, authorizes the admin role, and records the originated service and the cloud
+     * service activation flags of the tenant. These actions can be repeated safely.
+     *
+     * @param tenantId          - tenant id
+     * @param originatedService - The Service that the tenant registration was originated.
+     * @throws TenantManagementServerException, if performing the actions failed.
+     */
+    void performPostTenantCreationActions(int tenantId, String originatedService)
+            throws TenantManagementServerException {
+
+        performPostTenantCreationActions(tenantId, originatedService, null);
+    }
+
+    /**
+     * Performs the post tenant creation actions. The writes to the super tenant registry are committed in a single
+     * registry transaction, together with the domain validation flag of the given tenant, if any.
+     */
+    private void performPostTenantCreationActions(int tenantId, String originatedService, Tenant validatedTenant)
+            throws TenantManagementServerException {
 
         try {
-            TenantMgtCoreServiceComponent.getRegistryLoader().loadTenantRegistry(tenant.getId());
-            copyUIPermissions(tenant.getId());
+            TenantMgtCoreServiceComponent.getRegistryLoader().loadTenantRegistry(tenantId);
+            copyUIPermissions(tenantId);
 
-            TenantCoreUtil.setOriginatedService(tenant.getId(), originatedService);
-            setActivationFlags(tenant.getId(), originatedService);
+            TenantCoreUtil.executeInSuperTenantRegistryTransaction(() -> {
+                if (validatedTenant != null) {
+                    storeDomainValidationFlagToRegistry(validatedTenant);
+                }
+                TenantCoreUtil.setOriginatedService(tenantId, originatedService);
+                setActivationFlags(tenantId, originatedService);
+            });
         } catch (Exception ex) {
             throw new TenantManagementServerException("Error performing post tenant creation actions.", ex);
         }
 
-        TenantCoreUtil.initializeRegistry(tenant.getId());
+        TenantCoreUtil.initializeRegistry(tenantId);
     }
 
     /**
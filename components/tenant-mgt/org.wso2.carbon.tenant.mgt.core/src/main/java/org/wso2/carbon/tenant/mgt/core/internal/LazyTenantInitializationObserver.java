@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.core.LazyTenantInitializer;
+import org.wso2.carbon.utils.AuthenticationObserver;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Authentication observer which performs the pending post tenant creation actions of a tenant when the tenant first
+ * authenticates.
+ */
+public class LazyTenantInitializationObserver implements AuthenticationObserver {
+
+    private static final Log log = LogFactory.getLog(LazyTenantInitializationObserver.class);
+
+    @Override
+    public void startedAuthentication(int tenantId) {
+
+        if (tenantId == MultitenantConstants.SUPER_TENANT_ID) {
+            return;
+        }
+        try {
+            LazyTenantInitializer.initialize(tenantId);
+        } catch (TenantManagementServerException e) {
+            log.error("Error while performing the pending initialization of tenant: " + tenantId, e);
+        }
+    }
+
+    @Override
+    public void completedAuthentication(int tenantId, boolean isSuccessful) {
+
+        // The pending actions are performed when the authentication starts.
+    }
+}
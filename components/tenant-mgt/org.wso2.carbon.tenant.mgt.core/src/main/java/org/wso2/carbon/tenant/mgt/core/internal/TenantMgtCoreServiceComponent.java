@@ -28,6 +28,7 @@ import org.wso2.carbon.registry.core.session.UserRegistry;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
+import org.wso2.carbon.utils.AuthenticationObserver;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -55,6 +56,8 @@ public class TenantMgtCoreServiceComponent {
 
         try {
             bundleContext = context.getBundleContext();
+            bundleContext.registerService(AuthenticationObserver.class.getName(),
+                    new LazyTenantInitializationObserver(), null);
             log.debug("******* Tenant Core bundle is activated ******* ");
         } catch (Exception e) {
             log.error("Error occurred while activating tenant.mgt.core bundle. " + e);
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core.listeners;
+
+/**
+ * Tenant lifecycle events notified to the tenant management listeners.
+ */
+public enum TenantMgtListenerEvent {
+
+    PRE_TENANT_CREATE("onPreTenantCreate"),
+    TENANT_CREATE("onTenantCreate"),
+    TENANT_UPDATE("onTenantUpdate"),
+    TENANT_INITIAL_ACTIVATION("onTenantInitialActivation"),
+    TENANT_ACTIVATION("onTenantActivation"),
+    TENANT_DEACTIVATION("onTenantDeactivation"),
+    PRE_DELETE("onPreDelete"),
+    POST_DELETE("onPostDelete");
+
+    private final String methodName;
+
+    TenantMgtListenerEvent(String methodName) {
+
+        this.methodName = methodName;
+    }
+
+    /**
+     * Get the name of the listener method which handles the event.
+     *
+     * @return method name.
+     */
+    public String getMethodName() {
+
+        return methodName;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core.listeners;
+
+import java.util.Set;
+
+/**
+ * Implemented by a tenant management listener to declare the tenant lifecycle events it handles. The listener is
+ * not invoked for the events not declared. A listener which does not implement this interface is invoked for all
+ * the events.
+ */
+public interface TenantMgtListenerEventFilter {
+
+    /**
+     * Get the tenant lifecycle events handled by the listener. This is read once, when the listener is registered.
+     *
+     * @return events handled by the listener.
+     */
+    Set<TenantMgtListenerEvent> getHandledEvents();
+}
@@ -1,9 +1,12 @@
 package org.wso2.carbon.tenant.mgt.core.util;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
 import org.osgi.util.tracker.ServiceTracker;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.registry.core.Registry;
 import org.wso2.carbon.registry.core.Resource;
 import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.stratos.common.util.CommonUtil;
@@ -77,4 +80,78 @@ public class TenantCoreUtil {
         }
     }
 
+    /**
+     * Executes the given registry operations in a single transaction of the super tenant governance registry, so
+     * that the writes made by them are committed at once. The transaction is rolled back if an operation fails.
+     *
+     * @param operations - the registry operations.
+     * @throws Exception, if an operation failed, or the transaction could not be committed.
+     */
+    public static void executeInSuperTenantRegistryTransaction(RegistryOperations operations) throws Exception {
+        executeInRegistryTransaction(
+                TenantMgtCoreServiceComponent.getGovernanceSystemRegistry(MultitenantConstants.SUPER_TENANT_ID),
+                operations);
+    }
+
+    static void executeInRegistryTransaction(Registry registry, RegistryOperations operations) throws Exception {
+        registry.beginTransaction();
+        boolean committed = false;
+        try {
+            operations.execute();
+            registry.commitTransaction();
+            committed = true;
+        } finally {
+            if (!committed) {
+                registry.rollbackTransaction();
+            }
+        }
+    }
+
+    /**
+     * Get a positive integer property of carbon.xml.
+     *
+     * @param propertyName - name of the property.
+     * @param defaultValue - value used if the property is not set, or is not a positive integer.
+     * @return the value of the property.
+     */
+    public static int getPositiveIntProperty(String propertyName, int defaultValue) {
+        return getIntProperty(propertyName, defaultValue, 1);
+    }
+
+    /**
+     * Get a non negative integer property of carbon.xml, for the properties where 0 disables a feature.
+     *
+     * @param propertyName - name of the property.
+     * @param defaultValue - value used if the property is not set, or is not a non negative integer.
+     * @return the value of the property.
+     */
+    public static int getNonNegativeIntProperty(String propertyName, int defaultValue) {
+        return getIntProperty(propertyName, defaultValue, 0);
+    }
+
+    private static int getIntProperty(String propertyName, int defaultValue, int minimumValue) {
+        String propertyValue = ServerConfiguration.getInstance().getFirstProperty(propertyName);
+        if (StringUtils.isBlank(propertyValue)) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(propertyValue.trim());
+            if (value >= minimumValue) {
+                return value;
+            }
+            log.warn("The '" + propertyName + "' property value in carbon.xml should not be less than " +
+                    minimumValue + ". Using the default value: " + defaultValue);
+        } catch (NumberFormatException e) {
+            log.warn("Error occurred while parsing the '" + propertyName + "' property value in carbon.xml.", e);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Registry operations executed in a single registry transaction.
+     */
+    public interface RegistryOperations {
+
+        void execute() throws Exception;
+    }
 }
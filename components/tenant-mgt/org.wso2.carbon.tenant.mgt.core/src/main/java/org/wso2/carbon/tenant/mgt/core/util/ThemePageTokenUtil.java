@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.core.util.CryptoException;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.registry.core.exceptions.RegistryException;
+import org.wso2.carbon.registry.core.session.UserRegistry;
+import org.wso2.carbon.stratos.common.util.CommonUtil;
+import org.wso2.carbon.tenant.mgt.core.internal.TenantMgtCoreServiceComponent;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Creates and verifies the tokens which let a newly created tenant pick its theme before logging in. A token encodes
+ * the tenant id and an expiry time, signed with HMAC-SHA256, so it is created and verified without any registry
+ * access. A token is used once: once the theme is applied, the token is remembered until it expires and rejected from
+ * then on. Used tokens are remembered in memory by the node which applied the theme, holding at most
+ * {@link #MAX_CONSUMED_TOKENS} tokens.
+ * <p>
+ * The signing secret is the 'Tenant.ThemePageToken.Secret' property in carbon.xml, which can be protected with
+ * secure vault. If it is not set, a random secret is generated once and stored, encrypted with the server key, in the
+ * super tenant registry, so that all the nodes of a cluster share it. Tokens are valid for the number of seconds in
+ * the 'Tenant.ThemePageToken.ValidityPeriod' property, one hour by default.
+ */
+public class ThemePageTokenUtil {
+
+    private static final Log log = LogFactory.getLog(ThemePageTokenUtil.class);
+
+    private static final String SECRET_PROPERTY = "Tenant.ThemePageToken.Secret";
+    private static final String VALIDITY_PERIOD_PROPERTY = "Tenant.ThemePageToken.ValidityPeriod";
+    private static final int DEFAULT_VALIDITY_PERIOD_SECONDS = 3600;
+    private static final String SECRET_PATH =
+            "/repository/components/org.wso2.carbon.tenant.mgt/theme-page-token-secret";
+    private static final String ENCRYPTED_SECRET_PROPERTY = "encryptedSecret";
+    private static final int GENERATED_SECRET_LENGTH = 32;
+    private static final int MAX_CONSUMED_TOKENS = 10000;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_SEPARATOR = ".";
+    private static final String FIELD_SEPARATOR = ":";
+
+    // Used tokens and their expiry times, in the order they were used. All access is synchronized on the map.
+    private static final Map<String, Long> consumedTokens = new LinkedHashMap<>();
+    private static volatile byte[] secret = null;
+    private static volatile long validityPeriodMillis = 0;
+
+    /**
+     * Create a token for the theme page of a tenant.
+     *
+     * @param tenantId - tenant id
+     * @return the token.
+     * @throws RegistryException, if the signing secret could not be loaded.
+     */
+    public static String createToken(int tenantId) throws RegistryException {
+
+        return createToken(tenantId, System.currentTimeMillis() + getValidityPeriodMillis());
+    }
+
+    /**
+     * Check whether a string is in the form of a token created by {@link #createToken(int)}.
+     *
+     * @param token - the string to check
+     * @return true, if the string is in the form of a token.
+     */
+    public static boolean isToken(String token) {
+
+        return token != null && token.contains(SIGNATURE_SEPARATOR);
+    }
+
+    /**
+     * Get the tenant id of a token created by {@link #createToken(int)}.
+     *
+     * @param token - the token
+     * @return the tenant id, or {@link MultitenantConstants#INVALID_TENANT_ID} if the token is malformed, tampered
+     * with, expired, or already used.
+     * @throws RegistryException, if the signing secret could not be loaded.
+     */
+    public static int getTenantId(String token) throws RegistryException {
+
+        long[] fields = parseToken(token);
+        if (fields == null) {
+            return MultitenantConstants.INVALID_TENANT_ID;
+        }
+        int tenantId = (int) fields[0];
+        boolean consumed;
+        synchronized (consumedTokens) {
+            consumed = consumedTokens.containsKey(token);
+        }
+        if (consumed) {
+            if (log.isDebugEnabled()) {
+                log.debug("Rejected an already used theme page token of tenant: " + tenantId);
+            }
+            return MultitenantConstants.INVALID_TENANT_ID;
+        }
+        return tenantId;
+    }
+
+    /**
+     * Mark a token created by {@link #createToken(int)} as used, so that it is no longer accepted.
+     *
+     * @param token - the token
+     * @throws RegistryException, if the signing secret could not be loaded.
+     */
+    public static void consumeToken(String token) throws RegistryException {
+
+        long[] fields = parseToken(token);
+        if (fields == null) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        synchronized (consumedTokens) {
+            if (consumedTokens.size() >= MAX_CONSUMED_TOKENS) {
+                consumedTokens.values().removeIf(expiryTime -> expiryTime < currentTime);
+            }
+            if (consumedTokens.size() >= MAX_CONSUMED_TOKENS) {
+                // The longest remembered token is forgotten, which can then be used again until it expires.
+                Iterator<String> tokens = consumedTokens.keySet().iterator();
+                tokens.next();
+                tokens.remove();
+            }
+            consumedTokens.put(token, fields[1]);
+        }
+    }
+
+    /**
+     * Get the period for which a token is valid. The period is read from carbon.xml once.
+     *
+     * @return validity period in milliseconds.
+     */
+    public static long getValidityPeriodMillis() {
+
+        long currentValidityPeriodMillis = validityPeriodMillis;
+        if (currentValidityPeriodMillis == 0) {
+            currentValidityPeriodMillis = TimeUnit.SECONDS.toMillis(
+                    TenantCoreUtil.getPositiveIntProperty(VALIDITY_PERIOD_PROPERTY, DEFAULT_VALIDITY_PERIOD_SECONDS));
+            validityPeriodMillis = currentValidityPeriodMillis;
+        }
+        return currentValidityPeriodMillis;
+    }
+
+    static String createToken(int tenantId, long expiryTime) throws RegistryException {
+
+        String payload = tenantId + FIELD_SEPARATOR + expiryTime;
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + SIGNATURE_SEPARATOR +
+                encoder.encodeToString(sign(payload));
+    }
+
+    /**
+     * Set the secret to sign the tokens with, instead of loading it from carbon.xml or the registry.
+     *
+     * @param newSecret - the signing secret
+     */
+    static void setSecret(byte[] newSecret) {
+
+        secret = newSecret;
+    }
+
+    /**
+     * Verify a token and get its fields.
+     *
+     * @return the tenant id and the expiry time of the token, or null if the token is malformed, tampered with, or
+     * expired.
+     */
+    private static long[] parseToken(String token) throws RegistryException {
+
+        if (!isToken(token)) {
+            return null;
+        }
+        String[] parts = StringUtils.split(token, SIGNATURE_SEPARATOR);
+        if (parts.length != 2) {
+            return null;
+        }
+        String payload;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payload = new String(decoder.decode(parts[0]), StandardCharsets.UTF_8);
+            signature = decoder.decode(parts[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Rejected a theme page token with an invalid signature.");
+            }
+            return null;
+        }
+        String[] fields = StringUtils.split(payload, FIELD_SEPARATOR);
+        if (fields.length != 2) {
+            return null;
+        }
+        try {
+            long tenantId = Integer.parseInt(fields[0]);
+            long expiryTime = Long.parseLong(fields[1]);
+            if (expiryTime < System.currentTimeMillis()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Rejected an expired theme page token of tenant: " + tenantId);
+                }
+                return null;
+            }
+            return new long[]{tenantId, expiryTime};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static UserRegistry getSuperTenantRegistry() throws RegistryException {
+
+        return TenantMgtCoreServiceComponent.getGovernanceSystemRegistry(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private static byte[] sign(String payload) throws RegistryException {
+
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(getSecret(), HMAC_ALGORITHM));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new RegistryException("Error while signing the theme page token.", e);
+        }
+    }
+
+    private static byte[] getSecret() throws RegistryException {
+
+        byte[] currentSecret = secret;
+        if (currentSecret == null) {
+            currentSecret = loadSecret();
+            secret = currentSecret;
+        }
+        return currentSecret;
+    }
+
+    private static synchronized byte[] loadSecret() throws RegistryException {
+
+        if (secret != null) {
+            return secret;
+        }
+        // Secure vault protected values are resolved by the server configuration.
+        String configuredSecret = ServerConfiguration.getInstance().getFirstProperty(SECRET_PROPERTY);
+        if (StringUtils.isNotBlank(configuredSecret)) {
+            return configuredSecret.trim().getBytes(StandardCharsets.UTF_8);
+        }
+
+        UserRegistry superTenantRegistry = getSuperTenantRegistry();
+        if (!superTenantRegistry.resourceExists(SECRET_PATH)) {
+            storeGeneratedSecret(superTenantRegistry);
+        }
+        // Read back the stored secret, as another node may have stored one at the same time.
+        String encryptedSecret = superTenantRegistry.get(SECRET_PATH).getProperty(ENCRYPTED_SECRET_PROPERTY);
+        if (StringUtils.isBlank(encryptedSecret)) {
+            throw new RegistryException("The secret to sign the theme page tokens is not found at: " + SECRET_PATH);
+        }
+        try {
+            return CryptoUtil.getDefaultCryptoUtil().base64DecodeAndDecrypt(encryptedSecret);
+        } catch (CryptoException e) {
+            throw new RegistryException("Error while decrypting the secret to sign the theme page tokens.", e);
+        }
+    }
+
+    /**
+     * Store a generated secret, unless another node stored one first. The check and the write are made in one
+     * registry transaction, so that only one of the nodes starting together stores its secret.
+     */
+    private static void storeGeneratedSecret(UserRegistry superTenantRegistry) throws RegistryException {
+
+        byte[] generatedSecret = new byte[GENERATED_SECRET_LENGTH];
+        new SecureRandom().nextBytes(generatedSecret);
+        String encryptedSecret;
+        try {
+            encryptedSecret = CryptoUtil.getDefaultCryptoUtil().encryptAndBase64Encode(generatedSecret);
+        } catch (CryptoException e) {
+            throw new RegistryException("Error while encrypting the secret to sign the theme page tokens.", e);
+        }
+        boolean[] stored = new boolean[1];
+        try {
+            TenantCoreUtil.executeInSuperTenantRegistryTransaction(() -> {
+                if (!superTenantRegistry.resourceExists(SECRET_PATH)) {
+                    Resource secretResource = superTenantRegistry.newResource();
+                    secretResource.setProperty(ENCRYPTED_SECRET_PROPERTY, encryptedSecret);
+                    superTenantRegistry.put(SECRET_PATH, secretResource);
+                    stored[0] = true;
+                }
+            });
+        } catch (Exception e) {
+            if (!superTenantRegistry.resourceExists(SECRET_PATH)) {
+                throw new RegistryException("Error while storing the secret to sign the theme page tokens.", e);
+            }
+            // Another node stored its secret in the meantime, which is used instead.
+            if (log.isDebugEnabled()) {
+                log.debug("The secret to sign the theme page tokens was stored by another node.", e);
+            }
+            return;
+        }
+        if (stored[0]) {
+            // restrict access
+            CommonUtil.denyAnonAuthorization(SECRET_PATH, superTenantRegistry.getUserRealm());
+            log.info("Generated the secret to sign the theme page tokens.");
+        }
+    }
+}
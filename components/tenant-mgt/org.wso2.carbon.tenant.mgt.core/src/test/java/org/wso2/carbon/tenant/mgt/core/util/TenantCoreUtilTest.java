@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.registry.core.Registry;
+import org.wso2.carbon.registry.core.exceptions.RegistryException;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests that the registry operations of tenant creation are committed together, and rolled back together when one
+ * of them or the commit fails.
+ */
+public class TenantCoreUtilTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private boolean failCommit;
+    private final Registry registry = (Registry) Proxy.newProxyInstance(TenantCoreUtilTest.class.getClassLoader(),
+            new Class[]{Registry.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "beginTransaction":
+                    case "rollbackTransaction":
+                        calls.add(method.getName());
+                        return null;
+                    case "commitTransaction":
+                        calls.add(method.getName());
+                        if (failCommit) {
+                            throw new RegistryException("Commit failed.");
+                        }
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+
+    @BeforeMethod
+    public void setUp() {
+
+        calls.clear();
+        failCommit = false;
+    }
+
+    @Test
+    public void testOperationsAreCommittedTogether() throws Exception {
+
+        TenantCoreUtil.executeInRegistryTransaction(registry, () -> {
+            calls.add("write1");
+            calls.add("write2");
+        });
+
+        assertEquals(calls, Arrays.asList("beginTransaction", "write1", "write2", "commitTransaction"));
+    }
+
+    @Test
+    public void testFailedOperationRollsBackTransaction() throws Exception {
+
+        try {
+            TenantCoreUtil.executeInRegistryTransaction(registry, () -> {
+                calls.add("write1");
+                throw new RegistryException("Write failed.");
+            });
+            fail("The failure of the operation was not reported.");
+        } catch (RegistryException e) {
+            assertEquals(e.getMessage(), "Write failed.");
+        }
+
+        assertEquals(calls, Arrays.asList("beginTransaction", "write1", "rollbackTransaction"));
+    }
+
+    @Test
+    public void testFailedCommitRollsBackTransaction() throws Exception {
+
+        failCommit = true;
+        try {
+            TenantCoreUtil.executeInRegistryTransaction(registry, () -> calls.add("write1"));
+            fail("The failure of the commit was not reported.");
+        } catch (RegistryException e) {
+            assertEquals(e.getMessage(), "Commit failed.");
+        }
+
+        assertEquals(calls, Arrays.asList("beginTransaction", "write1", "commitTransaction", "rollbackTransaction"));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.core.util;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the signing, verification and single use of the theme page tokens.
+ */
+public class ThemePageTokenUtilTest {
+
+    private static final long VALIDITY_PERIOD_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @BeforeClass
+    public void setUp() {
+
+        ThemePageTokenUtil.setSecret("theme-page-token-test-secret".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testValidToken() throws Exception {
+
+        String token = createToken(1);
+        assertTrue(ThemePageTokenUtil.isToken(token));
+        assertEquals(ThemePageTokenUtil.getTenantId(token), 1);
+        // A token can be checked any number of times until it is used.
+        assertEquals(ThemePageTokenUtil.getTenantId(token), 1);
+    }
+
+    @Test
+    public void testExpiredToken() throws Exception {
+
+        String token = ThemePageTokenUtil.createToken(2, System.currentTimeMillis() - 1);
+        assertEquals(ThemePageTokenUtil.getTenantId(token), MultitenantConstants.INVALID_TENANT_ID);
+    }
+
+    @Test
+    public void testTamperedPayload() throws Exception {
+
+        String token = createToken(3);
+        String signature = token.substring(token.indexOf('.') + 1);
+        String payload = "4:" + (System.currentTimeMillis() + VALIDITY_PERIOD_MILLIS);
+        String tamperedToken = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                payload.getBytes(StandardCharsets.UTF_8)) + "." + signature;
+        assertEquals(ThemePageTokenUtil.getTenantId(tamperedToken), MultitenantConstants.INVALID_TENANT_ID);
+    }
+
+    @Test
+    public void testTamperedSignature() throws Exception {
+
+        String token = createToken(5);
+        int signatureIndex = token.indexOf('.') + 1;
+        char signatureChar = token.charAt(signatureIndex);
+        String tamperedToken = token.substring(0, signatureIndex) + (signatureChar == 'A' ? 'B' : 'A') +
+                token.substring(signatureIndex + 1);
+        assertEquals(ThemePageTokenUtil.getTenantId(tamperedToken), MultitenantConstants.INVALID_TENANT_ID);
+    }
+
+    @Test
+    public void testTokenSignedWithAnotherSecret() throws Exception {
+
+        String token = createToken(6);
+        try {
+            ThemePageTokenUtil.setSecret("another-secret".getBytes(StandardCharsets.UTF_8));
+            assertEquals(ThemePageTokenUtil.getTenantId(token), MultitenantConstants.INVALID_TENANT_ID);
+        } finally {
+            setUp();
+        }
+    }
+
+    @Test
+    public void testMalformedTokens() throws Exception {
+
+        assertFalse(ThemePageTokenUtil.isToken(null));
+        assertFalse(ThemePageTokenUtil.isToken("3f7a1c2e-0d6b-4c55-9d1e-5b8f2a9c4e11"));
+        assertEquals(ThemePageTokenUtil.getTenantId("not.base64!"), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(ThemePageTokenUtil.getTenantId("a.b.c"), MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(ThemePageTokenUtil.getTenantId("."), MultitenantConstants.INVALID_TENANT_ID);
+    }
+
+    @Test
+    public void testConsumedToken() throws Exception {
+
+        String token = createToken(7);
+        String otherToken = ThemePageTokenUtil.createToken(7, System.currentTimeMillis() + VALIDITY_PERIOD_MILLIS + 1);
+        ThemePageTokenUtil.consumeToken(token);
+        assertEquals(ThemePageTokenUtil.getTenantId(token), MultitenantConstants.INVALID_TENANT_ID);
+        // Only the used token is rejected.
+        assertEquals(ThemePageTokenUtil.getTenantId(otherToken), 7);
+    }
+
+    private static String createToken(int tenantId) throws Exception {
+
+        return ThemePageTokenUtil.createToken(tenantId, System.currentTimeMillis() + VALIDITY_PERIOD_MILLIS);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+/**
+ * Outcome of creating a single tenant of a batch.
+ */
+public class TenantCreationResult {
+
+    private final String tenantDomain;
+    private String tenantUniqueID;
+    private int tenantId;
+    private String errorCode;
+    private String errorMessage;
+
+    public TenantCreationResult(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public String getTenantUniqueID() {
+
+        return tenantUniqueID;
+    }
+
+    public void setTenantUniqueID(String tenantUniqueID) {
+
+        this.tenantUniqueID = tenantUniqueID;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public String getErrorCode() {
+
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+
+        return errorMessage;
+    }
+
+    public void setError(String errorCode, String errorMessage) {
+
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isSuccessful() {
+
+        return errorMessage == null;
+    }
+}
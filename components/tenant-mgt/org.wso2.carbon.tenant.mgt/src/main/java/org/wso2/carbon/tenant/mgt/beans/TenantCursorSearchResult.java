@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of tenants retrieved using a continuation cursor instead of an offset.
+ */
+public class TenantCursorSearchResult {
+
+    private int limit;
+    private String filter;
+    private String nextCursor;
+    private List<Tenant> tenantList = new ArrayList<>();
+
+    public int getLimit() {
+
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+
+        this.limit = limit;
+    }
+
+    public String getFilter() {
+
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+
+        this.filter = filter;
+    }
+
+    /**
+     * Get the cursor to be passed in to retrieve the next page.
+     *
+     * @return cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Tenant> getTenantList() {
+
+        return tenantList;
+    }
+
+    public void setTenantList(List<Tenant> tenantList) {
+
+        this.tenantList = tenantList;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+import java.util.Objects;
+
+/**
+ * A product specific table, whose rows of a tenant are deleted when the tenant is deleted.
+ */
+public class TenantDataPurgeTarget {
+
+    public static final String DEFAULT_TENANT_COLUMN = "TENANT_ID";
+
+    private final String dataSourceName;
+    private final String tableName;
+    private final String tenantColumn;
+    private final int chunkSize;
+
+    /**
+     * @param dataSourceName JNDI name of the data source of the table.
+     * @param tableName      name of the table.
+     * @param tenantColumn   name of the column holding the tenant id.
+     * @param chunkSize      number of rows deleted and committed at a time. If not positive, the chunk size
+     *                       configured for tenant deletion is used.
+     */
+    public TenantDataPurgeTarget(String dataSourceName, String tableName, String tenantColumn, int chunkSize) {
+
+        this.dataSourceName = dataSourceName;
+        this.tableName = tableName;
+        this.tenantColumn = tenantColumn;
+        this.chunkSize = chunkSize;
+    }
+
+    public TenantDataPurgeTarget(String dataSourceName, String tableName) {
+
+        this(dataSourceName, tableName, DEFAULT_TENANT_COLUMN, 0);
+    }
+
+    public String getDataSourceName() {
+
+        return dataSourceName;
+    }
+
+    public String getTableName() {
+
+        return tableName;
+    }
+
+    public String getTenantColumn() {
+
+        return tenantColumn;
+    }
+
+    public int getChunkSize() {
+
+        return chunkSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantDataPurgeTarget)) {
+            return false;
+        }
+        TenantDataPurgeTarget that = (TenantDataPurgeTarget) o;
+        return Objects.equals(dataSourceName, that.dataSourceName) && Objects.equals(tableName, that.tableName);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(dataSourceName, tableName);
+    }
+
+    @Override
+    public String toString() {
+
+        return dataSourceName + "/" + tableName;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+/**
+ * Bean for the estimated size of the data of a tenant, and the time taken to delete it.
+ */
+public class TenantDeletionEstimate {
+
+    private String tenantDomain;
+    private int tenantId;
+    private TenantTableSize[] tables;
+    private long totalRowCount;
+    private long directorySize;
+    private long directoryFileCount;
+    private boolean chunked;
+    private int chunkSize;
+    private long estimatedDurationMillis;
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public void setTenantDomain(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public TenantTableSize[] getTables() {
+
+        return tables;
+    }
+
+    public void setTables(TenantTableSize[] tables) {
+
+        this.tables = tables;
+    }
+
+    public long getTotalRowCount() {
+
+        return totalRowCount;
+    }
+
+    public void setTotalRowCount(long totalRowCount) {
+
+        this.totalRowCount = totalRowCount;
+    }
+
+    public long getDirectorySize() {
+
+        return directorySize;
+    }
+
+    public void setDirectorySize(long directorySize) {
+
+        this.directorySize = directorySize;
+    }
+
+    public long getDirectoryFileCount() {
+
+        return directoryFileCount;
+    }
+
+    public void setDirectoryFileCount(long directoryFileCount) {
+
+        this.directoryFileCount = directoryFileCount;
+    }
+
+    public boolean isChunked() {
+
+        return chunked;
+    }
+
+    public void setChunked(boolean chunked) {
+
+        this.chunked = chunked;
+    }
+
+    public int getChunkSize() {
+
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+
+        this.chunkSize = chunkSize;
+    }
+
+    public long getEstimatedDurationMillis() {
+
+        return estimatedDurationMillis;
+    }
+
+    public void setEstimatedDurationMillis(long estimatedDurationMillis) {
+
+        this.estimatedDurationMillis = estimatedDurationMillis;
+    }
+}
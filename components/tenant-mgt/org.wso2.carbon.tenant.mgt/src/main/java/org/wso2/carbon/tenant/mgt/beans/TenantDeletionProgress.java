@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+/**
+ * Bean for the progress of purging the data of a tenant being deleted.
+ */
+public class TenantDeletionProgress {
+
+    private String tenantDomain;
+    private int tenantId;
+    private TenantTableSize[] tables;
+    private long totalRowCount;
+    private long deletedRowCount;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private long estimatedRemainingMillis;
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public void setTenantDomain(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public TenantTableSize[] getTables() {
+
+        return tables;
+    }
+
+    public void setTables(TenantTableSize[] tables) {
+
+        this.tables = tables;
+    }
+
+    public long getTotalRowCount() {
+
+        return totalRowCount;
+    }
+
+    public void setTotalRowCount(long totalRowCount) {
+
+        this.totalRowCount = totalRowCount;
+    }
+
+    public long getDeletedRowCount() {
+
+        return deletedRowCount;
+    }
+
+    public void setDeletedRowCount(long deletedRowCount) {
+
+        this.deletedRowCount = deletedRowCount;
+    }
+
+    public long getElapsedMillis() {
+
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public long getEstimatedRemainingMillis() {
+
+        return estimatedRemainingMillis;
+    }
+
+    public void setEstimatedRemainingMillis(long estimatedRemainingMillis) {
+
+        this.estimatedRemainingMillis = estimatedRemainingMillis;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+/**
+ * Bean for the status of a background tenant job.
+ */
+public class TenantJobStatus {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final String TYPE_TENANT_CREATION = "TENANT_CREATION";
+    public static final String TYPE_TENANT_DELETION = "TENANT_DELETION";
+
+    private String jobId;
+    private String jobType;
+    private String tenantDomain;
+    private int tenantId;
+    private String tenantUniqueID;
+    private String status;
+    private String errorMessage;
+    private long submittedTime;
+    private long completedTime;
+    private String currentPhase;
+    private int completedPhases;
+    private int totalPhases;
+
+    public TenantJobStatus() {
+
+    }
+
+    /*copy constructor*/
+    public TenantJobStatus(TenantJobStatus jobStatus) {
+
+        this.jobId = jobStatus.jobId;
+        this.jobType = jobStatus.jobType;
+        this.tenantDomain = jobStatus.tenantDomain;
+        this.tenantId = jobStatus.tenantId;
+        this.tenantUniqueID = jobStatus.tenantUniqueID;
+        this.status = jobStatus.status;
+        this.errorMessage = jobStatus.errorMessage;
+        this.submittedTime = jobStatus.submittedTime;
+        this.completedTime = jobStatus.completedTime;
+        this.currentPhase = jobStatus.currentPhase;
+        this.completedPhases = jobStatus.completedPhases;
+        this.totalPhases = jobStatus.totalPhases;
+    }
+
+    public String getJobId() {
+
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+
+        this.jobId = jobId;
+    }
+
+    public String getJobType() {
+
+        return jobType;
+    }
+
+    public void setJobType(String jobType) {
+
+        this.jobType = jobType;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public void setTenantDomain(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public String getTenantUniqueID() {
+
+        return tenantUniqueID;
+    }
+
+    public void setTenantUniqueID(String tenantUniqueID) {
+
+        this.tenantUniqueID = tenantUniqueID;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(String status) {
+
+        this.status = status;
+    }
+
+    public String getErrorMessage() {
+
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+
+        this.errorMessage = errorMessage;
+    }
+
+    public long getSubmittedTime() {
+
+        return submittedTime;
+    }
+
+    public void setSubmittedTime(long submittedTime) {
+
+        this.submittedTime = submittedTime;
+    }
+
+    public long getCompletedTime() {
+
+        return completedTime;
+    }
+
+    public void setCompletedTime(long completedTime) {
+
+        this.completedTime = completedTime;
+    }
+
+    public String getCurrentPhase() {
+
+        return currentPhase;
+    }
+
+    public void setCurrentPhase(String currentPhase) {
+
+        this.currentPhase = currentPhase;
+    }
+
+    public int getCompletedPhases() {
+
+        return completedPhases;
+    }
+
+    public void setCompletedPhases(int completedPhases) {
+
+        this.completedPhases = completedPhases;
+    }
+
+    public int getTotalPhases() {
+
+        return totalPhases;
+    }
+
+    public void setTotalPhases(int totalPhases) {
+
+        this.totalPhases = totalPhases;
+    }
+
+    public boolean isDone() {
+
+        return STATUS_COMPLETED.equals(status) || STATUS_FAILED.equals(status);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+/**
+ * Invocation statistics of a tenant management listener for a tenant lifecycle event.
+ */
+public class TenantMgtListenerInvocationStats {
+
+    private final String listenerName;
+    private final String event;
+    private final long invocationCount;
+    private final long errorCount;
+    private final long totalTimeMillis;
+    private final long maxTimeMillis;
+    private final long[] latencyBucketBoundsMillis;
+    private final long[] latencyBucketCounts;
+
+    public TenantMgtListenerInvocationStats(String listenerName, String event, long invocationCount,
+                                            long errorCount, long totalTimeMillis, long maxTimeMillis,
+                                            long[] latencyBucketBoundsMillis, long[] latencyBucketCounts) {
+
+        this.listenerName = listenerName;
+        this.event = event;
+        this.invocationCount = invocationCount;
+        this.errorCount = errorCount;
+        this.totalTimeMillis = totalTimeMillis;
+        this.maxTimeMillis = maxTimeMillis;
+        this.latencyBucketBoundsMillis = latencyBucketBoundsMillis;
+        this.latencyBucketCounts = latencyBucketCounts;
+    }
+
+    public String getListenerName() {
+
+        return listenerName;
+    }
+
+    public String getEvent() {
+
+        return event;
+    }
+
+    public long getInvocationCount() {
+
+        return invocationCount;
+    }
+
+    public long getErrorCount() {
+
+        return errorCount;
+    }
+
+    public long getTotalTimeMillis() {
+
+        return totalTimeMillis;
+    }
+
+    public long getMaxTimeMillis() {
+
+        return maxTimeMillis;
+    }
+
+    public long getAverageTimeMillis() {
+
+        return invocationCount == 0 ? 0 : totalTimeMillis / invocationCount;
+    }
+
+    /**
+     * Get the upper bounds of the latency histogram buckets. The last bucket has no upper bound.
+     *
+     * @return upper bounds of the buckets in milliseconds.
+     */
+    public long[] getLatencyBucketBoundsMillis() {
+
+        return latencyBucketBoundsMillis.clone();
+    }
+
+    /**
+     * Get the number of invocations in each bucket of the latency histogram.
+     *
+     * @return invocation counts, which has one element more than the bucket bounds.
+     */
+    public long[] getLatencyBucketCounts() {
+
+        return latencyBucketCounts.clone();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.beans;
+
+/**
+ * Bean for the number of rows of a tenant in a database table.
+ */
+public class TenantTableSize {
+
+    private String dataSourceName;
+    private String tableName;
+    private long rowCount;
+    private long deletedRowCount;
+
+    public String getDataSourceName() {
+
+        return dataSourceName;
+    }
+
+    public void setDataSourceName(String dataSourceName) {
+
+        this.dataSourceName = dataSourceName;
+    }
+
+    public String getTableName() {
+
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+
+        this.tableName = tableName;
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    public void setRowCount(long rowCount) {
+
+        this.rowCount = rowCount;
+    }
+
+    public long getDeletedRowCount() {
+
+        return deletedRowCount;
+    }
+
+    public void setDeletedRowCount(long deletedRowCount) {
+
+        this.deletedRowCount = deletedRowCount;
+    }
+}
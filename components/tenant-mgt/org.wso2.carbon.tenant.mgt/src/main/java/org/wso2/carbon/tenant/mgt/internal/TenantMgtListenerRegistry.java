@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEventFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the registered tenant management listeners, sorted by the listener order. The listeners
+ * interested in each tenant lifecycle event are resolved when the snapshot is built, so that dispatching an event
+ * needs neither locking nor copying.
+ */
+class TenantMgtListenerRegistry {
+
+    private static final Log log = LogFactory.getLog(TenantMgtListenerRegistry.class);
+
+    private static final Set<TenantMgtListenerEvent> ALL_EVENTS =
+            Collections.unmodifiableSet(EnumSet.allOf(TenantMgtListenerEvent.class));
+
+    static final TenantMgtListenerRegistry EMPTY = new TenantMgtListenerRegistry(Collections.emptyList());
+
+    private final List<TenantMgtListener> listeners;
+    private final Map<TenantMgtListenerEvent, List<TenantMgtListener>> listenersByEvent =
+            new EnumMap<>(TenantMgtListenerEvent.class);
+
+    private TenantMgtListenerRegistry(List<TenantMgtListener> sortedListeners) {
+
+        this.listeners = Collections.unmodifiableList(sortedListeners);
+        for (TenantMgtListenerEvent event : TenantMgtListenerEvent.values()) {
+            listenersByEvent.put(event, new ArrayList<>());
+        }
+        for (TenantMgtListener listener : sortedListeners) {
+            for (TenantMgtListenerEvent event : getHandledEvents(listener)) {
+                listenersByEvent.get(event).add(listener);
+            }
+        }
+        for (Map.Entry<TenantMgtListenerEvent, List<TenantMgtListener>> entry : listenersByEvent.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+    }
+
+    /**
+     * Build a new snapshot with the given listener added.
+     */
+    TenantMgtListenerRegistry withListener(TenantMgtListener listener) {
+
+        List<TenantMgtListener> newListeners = new ArrayList<>(listeners);
+        newListeners.add(listener);
+        return new TenantMgtListenerRegistry(sort(newListeners));
+    }
+
+    /**
+     * Build a new snapshot with the given listener removed.
+     */
+    TenantMgtListenerRegistry withoutListener(TenantMgtListener listener) {
+
+        List<TenantMgtListener> newListeners = new ArrayList<>(listeners);
+        newListeners.remove(listener);
+        return new TenantMgtListenerRegistry(newListeners);
+    }
+
+    /**
+     * Build a new snapshot with the listeners sorted again, in case a listener order has changed.
+     */
+    TenantMgtListenerRegistry sorted() {
+
+        return new TenantMgtListenerRegistry(sort(new ArrayList<>(listeners)));
+    }
+
+    List<TenantMgtListener> getListeners() {
+
+        return listeners;
+    }
+
+    List<TenantMgtListener> getListeners(TenantMgtListenerEvent event) {
+
+        return listenersByEvent.get(event);
+    }
+
+    private static List<TenantMgtListener> sort(List<TenantMgtListener> listeners) {
+
+        listeners.sort(Comparator.comparingInt(TenantMgtListener::getListenerOrder));
+        return listeners;
+    }
+
+    private static Set<TenantMgtListenerEvent> getHandledEvents(TenantMgtListener listener) {
+
+        if (listener instanceof TenantMgtListenerEventFilter) {
+            Set<TenantMgtListenerEvent> handledEvents = ((TenantMgtListenerEventFilter) listener).getHandledEvents();
+            if (handledEvents != null) {
+                return handledEvents;
+            }
+            log.warn("Tenant management listener: " + listener.getClass().getName() + " did not declare the " +
+                    "events it handles. The listener will be invoked for all the events.");
+        }
+        return ALL_EVENTS;
+    }
+}
@@ -21,7 +21,9 @@ import org.apache.axis2.context.ConfigurationContext;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
+import org.wso2.carbon.activation.utils.TenantStateBus;
 import org.wso2.carbon.base.api.ServerConfigurationService;
+import org.wso2.carbon.core.ServerStartupObserver;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.registry.core.service.RegistryService;
@@ -30,15 +32,25 @@ import org.wso2.carbon.stratos.common.TenantBillingService;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.stratos.common.util.CommonUtil;
 import org.wso2.carbon.stratos.common.util.StratosConfiguration;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.services.TenantDataPurgeTargetProvider;
+import org.wso2.carbon.tenant.mgt.services.TenantJobCallback;
+import org.wso2.carbon.tenant.mgt.util.TenantBatchCreationExecutor;
+import org.wso2.carbon.tenant.mgt.util.TenantDirectoryReaper;
+import org.wso2.carbon.tenant.mgt.util.TenantDomainFilter;
+import org.wso2.carbon.tenant.mgt.util.TenantDomainIndex;
+import org.wso2.carbon.tenant.mgt.util.TenantInfoBeanCache;
+import org.wso2.carbon.tenant.mgt.util.TenantJobManager;
+import org.wso2.carbon.tenant.mgt.util.TenantMgtListenerDispatcher;
+import org.wso2.carbon.tenant.mgt.util.TenantMgtListenerStats;
+import org.wso2.carbon.tenant.mgt.util.TenantTaskExecutor;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -62,12 +74,16 @@ public class TenantMgtServiceComponent {
 
     private static ServerConfigurationService serverConfigurationService;
 
-    private static List<TenantMgtListener> tenantMgtListeners = new ArrayList<>();
+    private static volatile TenantMgtListenerRegistry tenantMgtListenerRegistry = TenantMgtListenerRegistry.EMPTY;
 
     private static TenantBillingService billingService = null;
 
     private static ClaimMetadataManagementService claimMetadataManagementService;
 
+    private static List<TenantJobCallback> tenantJobCallbacks = new CopyOnWriteArrayList<>();
+
+    private static List<TenantDataPurgeTargetProvider> tenantDataPurgeTargetProviders = new CopyOnWriteArrayList<>();
+
     @Activate
     protected void activate(ComponentContext context) {
 
@@ -82,6 +98,19 @@ public class TenantMgtServiceComponent {
                 String eula = CommonUtil.loadTermsOfUsage();
                 CommonUtil.setEula(eula);
             }
+            TenantMgtListenerStats.register();
+            TenantMgtListenerDispatcher.start();
+            TenantTaskExecutor.start();
+            TenantJobManager.start();
+            TenantBatchCreationExecutor.start();
+            TenantDirectoryReaper.start();
+            TenantStateBus.subscribe(TenantInfoBeanCache.getInstance());
+            TenantStateBus.subscribe(TenantDomainFilter.getInstance());
+            TenantStateBus.subscribe(TenantDomainIndex.getInstance());
+            context.getBundleContext().registerService(ServerStartupObserver.class.getName(),
+                    new TenantDeletionResumer(), null);
+            context.getBundleContext().registerService(ServerStartupObserver.class.getName(),
+                    new TenantDomainFilterLoader(), null);
             log.debug("******* Tenant Config bundle is activated ******* ");
         } catch (Exception e) {
             log.error("******* Tenant Config bundle failed activating ****", e);
@@ -104,9 +133,60 @@ public class TenantMgtServiceComponent {
         removeTenantMgtListener(tenantMgtListener);
     }
 
+    @Reference(
+            name = "org.wso2.carbon.tenant.mgt.job.callback",
+            service = org.wso2.carbon.tenant.mgt.services.TenantJobCallback.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetTenantJobCallback")
+    protected void setTenantJobCallback(TenantJobCallback tenantJobCallback) {
+
+        tenantJobCallbacks.add(tenantJobCallback);
+    }
+
+    protected void unsetTenantJobCallback(TenantJobCallback tenantJobCallback) {
+
+        tenantJobCallbacks.remove(tenantJobCallback);
+    }
+
+    public static List<TenantJobCallback> getTenantJobCallbacks() {
+
+        return tenantJobCallbacks;
+    }
+
+    @Reference(
+            name = "org.wso2.carbon.tenant.mgt.data.purge.target.provider",
+            service = org.wso2.carbon.tenant.mgt.services.TenantDataPurgeTargetProvider.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetTenantDataPurgeTargetProvider")
+    protected void setTenantDataPurgeTargetProvider(TenantDataPurgeTargetProvider tenantDataPurgeTargetProvider) {
+
+        tenantDataPurgeTargetProviders.add(tenantDataPurgeTargetProvider);
+    }
+
+    protected void unsetTenantDataPurgeTargetProvider(TenantDataPurgeTargetProvider tenantDataPurgeTargetProvider) {
+
+        tenantDataPurgeTargetProviders.remove(tenantDataPurgeTargetProvider);
+    }
+
+    public static List<TenantDataPurgeTargetProvider> getTenantDataPurgeTargetProviders() {
+
+        return tenantDataPurgeTargetProviders;
+    }
+
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        TenantStateBus.unsubscribe(TenantInfoBeanCache.getInstance());
+        TenantStateBus.unsubscribe(TenantDomainFilter.getInstance());
+        TenantStateBus.unsubscribe(TenantDomainIndex.getInstance());
+        TenantJobManager.stop();
+        TenantBatchCreationExecutor.stop();
+        TenantDirectoryReaper.stop();
+        TenantTaskExecutor.stop();
+        TenantMgtListenerDispatcher.stop();
+        TenantMgtListenerStats.unregister();
         log.debug("******* Governance Tenant Config bundle is deactivated ******* ");
     }
 
@@ -194,32 +274,40 @@ public class TenantMgtServiceComponent {
         setClaimMetadataManagementService(null);
     }
 
-    public static void addTenantMgtListener(TenantMgtListener tenantMgtListener) {
+    public static synchronized void addTenantMgtListener(TenantMgtListener tenantMgtListener) {
 
-        tenantMgtListeners.add(tenantMgtListener);
-        sortTenantMgtListeners();
+        tenantMgtListenerRegistry = tenantMgtListenerRegistry.withListener(tenantMgtListener);
     }
 
-    public static void removeTenantMgtListener(TenantMgtListener tenantMgtListener) {
+    public static synchronized void removeTenantMgtListener(TenantMgtListener tenantMgtListener) {
 
-        tenantMgtListeners.remove(tenantMgtListener);
-        sortTenantMgtListeners();
+        tenantMgtListenerRegistry = tenantMgtListenerRegistry.withoutListener(tenantMgtListener);
     }
 
-    public static void sortTenantMgtListeners() {
+    public static synchronized void sortTenantMgtListeners() {
 
-        Collections.sort(tenantMgtListeners, new Comparator<TenantMgtListener>() {
+        tenantMgtListenerRegistry = tenantMgtListenerRegistry.sorted();
+    }
 
-            public int compare(TenantMgtListener o1, TenantMgtListener o2) {
+    /**
+     * Get the registered tenant management listeners, sorted by the listener order.
+     *
+     * @return an unmodifiable snapshot of the listeners.
+     */
+    public static List<TenantMgtListener> getTenantMgtListeners() {
 
-                return o1.getListenerOrder() - o2.getListenerOrder();
-            }
-        });
+        return tenantMgtListenerRegistry.getListeners();
     }
 
-    public static List<TenantMgtListener> getTenantMgtListeners() {
+    /**
+     * Get the tenant management listeners which handle the given event, sorted by the listener order.
+     *
+     * @param event tenant lifecycle event.
+     * @return an unmodifiable snapshot of the listeners.
+     */
+    public static List<TenantMgtListener> getTenantMgtListeners(TenantMgtListenerEvent event) {
 
-        return tenantMgtListeners;
+        return tenantMgtListenerRegistry.getListeners(event);
     }
 
     public static ConfigurationContextService getConfigurationContextService() {
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.services;
+
+import org.wso2.carbon.tenant.mgt.beans.TenantDataPurgeTarget;
+
+import java.util.List;
+
+/**
+ * OSGi service interface through which a product declares the tables whose rows of a tenant are deleted when the
+ * tenant is deleted.
+ */
+public interface TenantDataPurgeTargetProvider {
+
+    /**
+     * Get the tables to purge when a tenant is deleted.
+     *
+     * @return purge targets of the product.
+     */
+    List<TenantDataPurgeTarget> getPurgeTargets();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.services;
+
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+/**
+ * Receives the tenants one at a time during a tenant export.
+ */
+@FunctionalInterface
+public interface TenantExportHandler {
+
+    /**
+     * Handle an exported tenant.
+     *
+     * @param tenant exported tenant.
+     * @throws TenantMgtException to stop the export.
+     */
+    void handle(Tenant tenant) throws TenantMgtException;
+}
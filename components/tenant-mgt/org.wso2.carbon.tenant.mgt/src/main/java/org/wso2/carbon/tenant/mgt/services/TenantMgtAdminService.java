@@ -26,26 +26,45 @@ import org.wso2.carbon.registry.core.session.UserRegistry;
 import org.wso2.carbon.registry.core.utils.UUIDGenerator;
 import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
 import org.wso2.carbon.stratos.common.exception.StratosException;
-import org.wso2.carbon.stratos.common.util.ClaimsMgtUtil;
+import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
 import org.wso2.carbon.stratos.common.util.CommonUtil;
 import org.wso2.carbon.tenant.mgt.beans.PaginatedTenantInfoBean;
+import org.wso2.carbon.tenant.mgt.beans.TenantDeletionEstimate;
+import org.wso2.carbon.tenant.mgt.beans.TenantDeletionProgress;
+import org.wso2.carbon.tenant.mgt.beans.TenantJobStatus;
 import org.wso2.carbon.tenant.mgt.core.TenantPersistor;
 import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.tenant.mgt.util.TenantInfoBeanCache;
+import org.wso2.carbon.tenant.mgt.util.TenantDeletionEstimator;
+import org.wso2.carbon.tenant.mgt.util.TenantDeletionTracker;
+import org.wso2.carbon.tenant.mgt.util.TenantDomainFilter;
+import org.wso2.carbon.tenant.mgt.util.TenantDomainIndex;
+import org.wso2.carbon.tenant.mgt.util.TenantJobManager;
 import org.wso2.carbon.tenant.mgt.util.TenantMgtUtil;
 import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.model.ExpressionOperation;
 import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantManager;
-import org.wso2.carbon.utils.DataPaginator;
+import org.wso2.carbon.user.core.tenant.TenantSearchResult;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This is the admin Web service which is used for managing tenants.
  */
 public class TenantMgtAdminService extends AbstractAdmin {
     private static final Log log = LogFactory.getLog(TenantMgtAdminService.class);
+    private static final String DEFAULT_SORT_BY = "UM_DOMAIN_NAME";
+    private static final String ASC_SORT_ORDER = "ASC";
+    private static final String SPACE_SEPARATOR = " ";
 
     /**
      * Super admin adds a tenant.
@@ -64,8 +83,86 @@ public class TenantMgtAdminService extends AbstractAdmin {
         }
     }
 
+    /**
+     * Super admin adds a tenant asynchronously. The tenant and its admin user are persisted in the user store before
+     * returning, while the post tenant creation actions, the tenant listeners and the initial activation of the
+     * tenant run in the background. The tenant is not activated until the job completes. If the job fails, the
+     * partially created tenant is removed through a tenant deletion, and the status of the job reports whether it
+     * was removed, or has to be deleted with {@link #deleteTenantAsync(String)} before it is added again.
+     *
+     * @param tenantInfoBean tenant info bean
+     * @return id of the tenant creation job, which can be used to query its status.
+     * @throws Exception if error in adding new tenant.
+     */
+    public String addTenantAsync(TenantInfoBean tenantInfoBean) throws Exception {
+
+        Tenant tenant;
+        try {
+            TenantMgtUtil.setTenantCreationThreadLocal(true);
+            tenant = persistTenant(tenantInfoBean, true);
+        } finally {
+            TenantMgtUtil.clearTenantCreationTreadLocal();
+        }
+        return TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_CREATION, tenant.getDomain(), tenant.getId(),
+                tenant.getTenantUniqueID(), jobStatus -> {
+                    try {
+                        completeTenantCreation(tenantInfoBean, tenant);
+                    } catch (Exception e) {
+                        throw rollbackTenantCreation(tenant, e);
+                    }
+                });
+    }
+
+    /**
+     * Get the status of a tenant creation job submitted through {@link #addTenantAsync(TenantInfoBean)}.
+     *
+     * @param jobId id of the tenant creation job.
+     * @return status of the job.
+     * @throws Exception if there is no such job, or the status of the job has expired.
+     */
+    public TenantJobStatus getTenantCreationJobStatus(String jobId) throws Exception {
+
+        checkIsSuperTenantInvoking();
+        TenantJobStatus jobStatus = TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_CREATION, jobId);
+        if (jobStatus == null) {
+            String msg = "No tenant creation job found for the id: " + jobId;
+            log.error(msg);
+            throw new Exception(msg);
+        }
+        return jobStatus;
+    }
+
+    /**
+     * Removes a tenant whose creation failed after it was persisted in the user store, so that it is not left behind
+     * inactive and partially initialized.
+     *
+     * @return the error to fail the tenant creation job with, stating whether the tenant was removed.
+     */
+    private TenantManagementServerException rollbackTenantCreation(Tenant tenant, Exception cause) {
+
+        log.error("Error while completing the creation of tenant: " + tenant.getDomain() + ". Removing the tenant.",
+                cause);
+        try {
+            TenantMgtUtil.deleteTenant(tenant.getDomain());
+        } catch (Exception e) {
+            log.error("Error while removing the partially created tenant: " + tenant.getDomain(), e);
+            return new TenantManagementServerException("Error while completing the creation of tenant: " +
+                    tenant.getDomain() + ". The tenant could not be removed and is left inactive. Delete the " +
+                    "tenant before adding it again.", cause);
+        }
+        return new TenantManagementServerException("Error while completing the creation of tenant: " +
+                tenant.getDomain() + ". The tenant has been removed.", cause);
+    }
+
     private String registerTenant(TenantInfoBean tenantInfoBean) throws Exception {
 
+        Tenant tenant = persistTenant(tenantInfoBean, false);
+        completeTenantRegistration(tenantInfoBean, tenant);
+        return tenant.getTenantUniqueID();
+    }
+
+    private Tenant persistTenant(TenantInfoBean tenantInfoBean, boolean deferPostCreationActions) throws Exception {
+
         try {
             CommonUtil.validateEmail(tenantInfoBean.getEmail());
         } catch (Exception e) {
@@ -87,8 +184,12 @@ public class TenantMgtAdminService extends AbstractAdmin {
             tenant.setTenantUniqueID(UUIDGenerator.generateUUID());
             TenantPersistor persistor = new TenantPersistor();
             // Not validating the domain ownership, since created by super tenant.
-            tenantId = persistor.persistTenant(tenant, false, tenantInfoBean.getSuccessKey(),
-                    tenantInfoBean.getOriginatedService(), false);
+            if (deferPostCreationActions) {
+                tenantId = persistor.persistTenantInUserStore(tenant, false, tenantInfoBean.getSuccessKey());
+            } else {
+                tenantId = persistor.persistTenant(tenant, false, tenantInfoBean.getSuccessKey(),
+                        tenantInfoBean.getOriginatedService(), false);
+            }
             tenantInfoBean.setTenantId(tenantId);
 
             PrivilegedCarbonContext.startTenantFlow();
@@ -104,7 +205,35 @@ public class TenantMgtAdminService extends AbstractAdmin {
 
             PrivilegedCarbonContext.endTenantFlow();
         }
+        return tenant;
+    }
+
+    /**
+     * Performs the post tenant creation actions deferred by {@link #addTenantAsync(TenantInfoBean)} and completes
+     * the registration of the tenant. This runs in a tenant job.
+     */
+    private void completeTenantCreation(TenantInfoBean tenantInfoBean, Tenant tenant) throws Exception {
+
+        try {
+            TenantMgtUtil.setTenantCreationThreadLocal(true);
+            try {
+                TenantMgtUtil.setTenantAdminCreationOperation(true);
+                // The tenant is already in the user store, hence persisting it as a skeleton.
+                new TenantPersistor().persistTenant(tenant, false, tenantInfoBean.getSuccessKey(),
+                        tenantInfoBean.getOriginatedService(), true);
+            } finally {
+                TenantMgtUtil.clearTenantAdminCreationOperation();
+            }
+            completeTenantRegistration(tenantInfoBean, tenant);
+        } finally {
+            TenantMgtUtil.clearTenantCreationTreadLocal();
+        }
+    }
 
+    private void completeTenantRegistration(TenantInfoBean tenantInfoBean, Tenant tenant) throws Exception {
+
+        String tenantDomain = tenant.getDomain();
+        int tenantId = tenant.getId();
         notifyTenantAddition(tenantInfoBean);
         //adding the subscription entry
         /*try {
@@ -127,9 +256,6 @@ public class TenantMgtAdminService extends AbstractAdmin {
                 (LoggerUtils.isLogMaskingEnable ? LoggerUtils.getMaskedContent(
                 PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername()) :
                 PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername()) + "'");
-
-        TenantMgtUtil.prepareStringToShowThemeMgtPage(tenant.getId(), tenant.getTenantUniqueID());
-        return tenant.getTenantUniqueID();
     }
 
     /**
@@ -145,6 +271,12 @@ public class TenantMgtAdminService extends AbstractAdmin {
             return false;
         }
         TenantMgtUtil.validateDomain(domainName);
+        if (!TenantDomainFilter.getInstance().mightContain(domainName)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant Domain " + domainName + " is available to register.");
+            }
+            return true;
+        }
         TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
         int tenantId = tenantManager.getTenantId(domainName);
         if (tenantId == -1) {
@@ -156,6 +288,32 @@ public class TenantMgtAdminService extends AbstractAdmin {
         return false;
     }
 
+    /**
+     * Check if the selected domains are available to register. Invalid domains are reported as not available.
+     *
+     * @param domainNames Domain names.
+     * @return availability of each domain, in the order of the given domains.
+     * @throws Exception, If unable to get the tenant manager, or get the tenant id from manager.
+     */
+    public boolean[] checkDomainsAvailability(String[] domainNames) throws Exception {
+
+        if (domainNames == null) {
+            return new boolean[0];
+        }
+        boolean[] availability = new boolean[domainNames.length];
+        for (int i = 0; i < domainNames.length; i++) {
+            try {
+                availability[i] = checkDomainAvailability(domainNames[i]);
+            } catch (TenantManagementClientException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Tenant Domain " + domainNames[i] + " is invalid: " + e.getMessage());
+                }
+                availability[i] = false;
+            }
+        }
+        return availability;
+    }
+
     private void notifyTenantAddition(TenantInfoBean tenantInfoBean) throws Exception {
         //Notify tenant addition
         try {
@@ -192,6 +350,32 @@ public class TenantMgtAdminService extends AbstractAdmin {
         }
     }
 
+    /**
+     * Create a token to show the theme management page of a tenant, e.g. right after the tenant is added.
+     *
+     * @param tenantDomain tenant domain.
+     * @return a signed token which expires, to refer the tenant in the theme management page.
+     * @throws Exception if there is no such tenant, or the token could not be created.
+     */
+    public String getThemePageToken(String tenantDomain) throws Exception {
+
+        checkIsSuperTenantInvoking();
+        int tenantId;
+        try {
+            tenantId = TenantMgtServiceComponent.getTenantManager().getTenantId(tenantDomain);
+        } catch (UserStoreException e) {
+            String msg = "Error in retrieving the tenant id for the tenant domain: " + tenantDomain + ".";
+            log.error(msg, e);
+            throw new Exception(msg, e);
+        }
+        if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+            String msg = "Tenant is not found. Tenant domain: " + tenantDomain;
+            log.error(msg);
+            throw new Exception(msg);
+        }
+        return TenantMgtUtil.prepareStringToShowThemeMgtPage(tenantId);
+    }
+
     /**
      * Super admin add tenant.This method will be used whenever the user store is shared between two deployment.
      * This method will persist tenant not in user store level but will do other post tenant creation actions.
@@ -262,7 +446,11 @@ public class TenantMgtAdminService extends AbstractAdmin {
         Tenant[] tenants;
         try {
             domain = domain.trim();
-            tenants = (Tenant[]) tenantManager.getAllTenantsForTenantDomainStr(domain);
+            if (TenantDomainIndex.getInstance().isReady()) {
+                tenants = TenantDomainIndex.getInstance().searchContaining(domain).toArray(new Tenant[0]);
+            } else {
+                tenants = (Tenant[]) tenantManager.getAllTenantsForTenantDomainStr(domain);
+            }
         } catch (UserStoreException e) {
             String msg = "Error in retrieving the tenant information.";
             log.error(msg, e);
@@ -309,11 +497,20 @@ public class TenantMgtAdminService extends AbstractAdmin {
     public PaginatedTenantInfoBean retrievePaginatedPartialSearchTenants(String domain, int pageNumber)
             throws Exception {
 
-        List<TenantInfoBean> tenantList = searchPartialTenantsDomains(domain);
-        // Pagination
-        PaginatedTenantInfoBean paginatedTenantInfoBean = new PaginatedTenantInfoBean();
-        DataPaginator.doPaging(pageNumber, tenantList, paginatedTenantInfoBean);
-        return paginatedTenantInfoBean;
+        String filter = null;
+        if (StringUtils.isNotBlank(domain)) {
+            // Tenant domains are stored in lower case.
+            domain = domain.trim().toLowerCase();
+            if (domain.matches(TenantMgtUtil.ILLEGAL_CHARACTERS_FOR_TENANT_DOMAIN)) {
+                // Such a domain can never be registered, hence there is nothing to match.
+                PaginatedTenantInfoBean paginatedTenantInfoBean = new PaginatedTenantInfoBean();
+                paginatedTenantInfoBean.setTenantInfoBeans(new TenantInfoBean[0]);
+                return paginatedTenantInfoBean;
+            }
+            filter = TenantMgtImpl.DOMAIN_NAME + SPACE_SEPARATOR + ExpressionOperation.CO.toString() +
+                    SPACE_SEPARATOR + domain;
+        }
+        return retrievePaginatedTenants(pageNumber, filter);
     }
 
     /**
@@ -325,13 +522,65 @@ public class TenantMgtAdminService extends AbstractAdmin {
      */
     public PaginatedTenantInfoBean retrievePaginatedTenants(int pageNumber) throws Exception {
 
-        List<TenantInfoBean> tenantList = getAllTenants();
-        // Pagination
+        return retrievePaginatedTenants(pageNumber, null);
+    }
+
+    /**
+     * Retrieve a single page of tenants from the user store. Only the tenants of the requested page are loaded,
+     * while the total tenant count is used to calculate the number of pages.
+     *
+     * @param pageNumber Number of the page.
+     * @param filter     Filter to be applied on the tenant search, or null to retrieve all the tenants.
+     * @return PaginatedTenantInfoBean Paginated tenant info bean.
+     * @throws Exception if failed to retrieve the tenants.
+     */
+    private PaginatedTenantInfoBean retrievePaginatedTenants(int pageNumber, String filter) throws Exception {
+
+        // Same page semantics as DataPaginator.doPaging.
+        if (pageNumber < 0 || pageNumber == Integer.MAX_VALUE) {
+            pageNumber = 0;
+        }
+        int itemsPerPage = TenantMgtUtil.getDefaultItemsPerPage();
+        TenantSearchResult searchResult = searchTenants(itemsPerPage, getOffset(pageNumber, itemsPerPage), filter);
+        int numberOfPages = (int) Math.ceil((double) searchResult.getTotalTenantCount() / itemsPerPage);
+        if (numberOfPages > 0 && pageNumber > numberOfPages - 1) {
+            // Requested page is beyond the last page, hence return the last page.
+            pageNumber = numberOfPages - 1;
+            searchResult = searchTenants(itemsPerPage, getOffset(pageNumber, itemsPerPage), filter);
+        }
+
+        List<TenantInfoBean> tenantList = new ArrayList<TenantInfoBean>();
+        if (searchResult.getTenantList() != null) {
+            for (Tenant tenant : searchResult.getTenantList()) {
+                tenantList.add(TenantMgtUtil.getTenantInfoBeanfromTenant(tenant.getId(), tenant));
+            }
+        }
         PaginatedTenantInfoBean paginatedTenantInfoBean = new PaginatedTenantInfoBean();
-        DataPaginator.doPaging(pageNumber, tenantList, paginatedTenantInfoBean);
+        paginatedTenantInfoBean.setNumberOfPages(numberOfPages);
+        paginatedTenantInfoBean.set(tenantList);
         return paginatedTenantInfoBean;
     }
 
+    private TenantSearchResult searchTenants(int limit, int offset, String filter) throws Exception {
+
+        if (filter != null && TenantDomainIndex.getInstance().isReady()) {
+            return TenantDomainIndex.getInstance().search(limit, offset, ASC_SORT_ORDER, filter);
+        }
+        TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
+        try {
+            return tenantManager.listTenants(limit, offset, ASC_SORT_ORDER, DEFAULT_SORT_BY, filter);
+        } catch (UserStoreException e) {
+            String msg = "Error in retrieving the tenant information.";
+            log.error(msg, e);
+            throw new Exception(msg, e);
+        }
+    }
+
+    private int getOffset(int pageNumber, int itemsPerPage) {
+
+        return (int) Math.min((long) pageNumber * itemsPerPage, Integer.MAX_VALUE);
+    }
+
     /**
      * Get a specific tenant
      *
@@ -340,6 +589,12 @@ public class TenantMgtAdminService extends AbstractAdmin {
      * @throws Exception UserStoreException
      */
     public TenantInfoBean getTenant(String tenantDomain) throws Exception {
+
+        TenantInfoBeanCache tenantInfoBeanCache = TenantInfoBeanCache.getInstance();
+        TenantInfoBean cachedBean = tenantInfoBeanCache.getValueFromCache(tenantDomain);
+        if (cachedBean != null) {
+            return cachedBean;
+        }
         TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
         int tenantId;
         try {
@@ -359,13 +614,8 @@ public class TenantMgtAdminService extends AbstractAdmin {
             throw new Exception(msg, e);
         }
 
-        TenantInfoBean bean = TenantMgtUtil.initializeTenantInfoBean(tenantId, tenant);
-
-        // retrieve first and last names from the UserStoreManager
-        bean.setFirstname(ClaimsMgtUtil.getFirstNamefromUserStoreManager(
-                TenantMgtServiceComponent.getRealmService(), tenantId));
-        bean.setLastname(ClaimsMgtUtil.getLastNamefromUserStoreManager(
-                TenantMgtServiceComponent.getRealmService(), tenantId));
+        // Admin name, first name and last name are resolved with a single user store read.
+        TenantInfoBean bean = TenantMgtUtil.getTenantInfoBeanWithAdminDetails(tenantId, tenant);
 
         //getting the subscription plan
         String activePlan = "";
@@ -380,6 +630,9 @@ public class TenantMgtAdminService extends AbstractAdmin {
             bean.setUsagePlan("");
         }
 
+        if (tenant != null) {
+            tenantInfoBeanCache.addToCache(tenantDomain, bean);
+        }
         return bean;
     }
 
@@ -571,6 +824,88 @@ public class TenantMgtAdminService extends AbstractAdmin {
                 PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername()) + "'");
     }
 
+    /**
+     * Activate the given tenants. The tenants which could not be activated are reported after attempting all the
+     * given tenants.
+     *
+     * @param tenantDomains tenant domains
+     * @throws Exception if one or more tenants could not be activated.
+     */
+    public void activateTenants(String[] tenantDomains) throws Exception {
+
+        updateTenantsState(tenantDomains, true);
+    }
+
+    /**
+     * Deactivate the given tenants. The tenants which could not be deactivated are reported after attempting all the
+     * given tenants.
+     *
+     * @param tenantDomains tenant domains
+     * @throws Exception if one or more tenants could not be deactivated.
+     */
+    public void deactivateTenants(String[] tenantDomains) throws Exception {
+
+        updateTenantsState(tenantDomains, false);
+    }
+
+    private void updateTenantsState(String[] tenantDomains, boolean activate) throws Exception {
+
+        if (tenantDomains == null || tenantDomains.length == 0) {
+            return;
+        }
+        String operation = activate ? "activating" : "deactivating";
+        TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
+        Map<String, Integer> updatedTenants = new LinkedHashMap<>();
+        Set<String> failedTenants = new LinkedHashSet<>();
+        for (String tenantDomain : new LinkedHashSet<>(Arrays.asList(tenantDomains))) {
+            try {
+                int tenantId = tenantManager.getTenantId(tenantDomain);
+                if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+                    log.error("Error in " + operation + " the tenant: " + tenantDomain + ". Tenant does not exist.");
+                    failedTenants.add(tenantDomain);
+                    continue;
+                }
+                if (activate) {
+                    tenantManager.activateTenant(tenantId);
+                } else {
+                    tenantManager.deactivateTenant(tenantId);
+                }
+                TenantInfoBeanCache.getInstance().clearCacheEntry(tenantDomain);
+                updatedTenants.put(tenantDomain, tenantId);
+            } catch (UserStoreException e) {
+                log.error("Error in " + operation + " the tenant: " + tenantDomain + ".", e);
+                failedTenants.add(tenantDomain);
+            }
+        }
+
+        if (!activate) {
+            TenantMgtUtil.unloadTenantConfigurations(updatedTenants);
+        }
+
+        //Notify tenant activation or deactivation to all listeners
+        List<Integer> tenantIds = new ArrayList<>(updatedTenants.values());
+        Map<Integer, StratosException> notificationErrors = activate ?
+                TenantMgtUtil.triggerTenantActivation(tenantIds) : TenantMgtUtil.triggerTenantDeactivation(tenantIds);
+
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        for (Map.Entry<String, Integer> tenant : updatedTenants.entrySet()) {
+            StratosException notificationError = notificationErrors.get(tenant.getValue());
+            if (notificationError != null) {
+                log.error("Error in notifying tenant " + (activate ? "activate" : "deactivate") + " for the tenant: " +
+                        tenant.getKey() + ".", notificationError);
+                failedTenants.add(tenant.getKey());
+                continue;
+            }
+            log.info((activate ? "Activated" : "Deactivated") + " the tenant '" + tenant.getKey() + " [" +
+                    tenant.getValue() + "]' by '" +
+                    (LoggerUtils.isLogMaskingEnable ? LoggerUtils.getMaskedContent(username) : username) + "'");
+        }
+
+        if (!failedTenants.isEmpty()) {
+            throw new Exception("Error in " + operation + " the tenants: " + String.join(", ", failedTenants));
+        }
+    }
+
     /**
      * Delete a specific tenant
      *
@@ -608,4 +943,94 @@ public class TenantMgtAdminService extends AbstractAdmin {
         }
 
     }
+
+    /**
+     * Delete a specific tenant in the background. The call returns once the deletion is submitted. A deletion which
+     * failed earlier resumes from the last completed phase.
+     *
+     * @param tenantDomain The domain name of the tenant that needs to be deleted
+     * @return id of the tenant deletion job, which can be used to query its status.
+     * @throws Exception if tenant deletion is disabled, or the deletion could not be submitted.
+     */
+    public String deleteTenantAsync(String tenantDomain) throws Exception {
+
+        ServerConfigurationService serverConfigurationService =
+                TenantMgtServiceComponent.getServerConfigurationService();
+        if (!Boolean.parseBoolean(serverConfigurationService.getFirstProperty("Tenant.TenantDelete"))) {
+            String msg = "Tenant.TenantDelete flag is set to false in carbon.xml. Hence the tenant: " + tenantDomain +
+                    " will not be deleted.";
+            log.error(msg);
+            throw new Exception(msg);
+        }
+        try {
+            return TenantMgtUtil.submitTenantDeletion(tenantDomain);
+        } catch (Exception e) {
+            String msg = "Error while submitting the deletion of the tenant: " + tenantDomain;
+            log.error(msg, e);
+            throw new Exception(msg, e);
+        }
+    }
+
+    /**
+     * Get the status of a tenant deletion job submitted through {@link #deleteTenantAsync(String)}.
+     *
+     * @param jobId id of the tenant deletion job.
+     * @return status of the job, including the progress of the deletion.
+     * @throws Exception if there is no such job, or the status of the job has expired.
+     */
+    public TenantJobStatus getTenantDeletionJobStatus(String jobId) throws Exception {
+
+        checkIsSuperTenantInvoking();
+        TenantJobStatus jobStatus = TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_DELETION, jobId);
+        if (jobStatus == null) {
+            String msg = "No tenant deletion job found for the id: " + jobId;
+            log.error(msg);
+            throw new Exception(msg);
+        }
+        return jobStatus;
+    }
+
+    /**
+     * Estimate the deletion of a tenant without deleting anything. The estimate includes the number of rows of the
+     * tenant per table, the size of the tenant directory, the estimated duration, and whether the rows would be
+     * deleted in chunks.
+     *
+     * @param tenantDomain The domain name of the tenant
+     * @return the estimate.
+     * @throws Exception if the tenant does not exist, or the estimation failed.
+     */
+    public TenantDeletionEstimate estimateTenantDeletion(String tenantDomain) throws Exception {
+
+        checkIsSuperTenantInvoking();
+        TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
+        int tenantId = tenantManager.getTenantId(tenantDomain);
+        if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+            String msg = "The tenant with domain name: " + tenantDomain + " does not exist.";
+            log.error(msg);
+            throw new Exception(msg);
+        }
+        return TenantDeletionEstimator.estimate(tenantId, tenantDomain);
+    }
+
+    /**
+     * Get the progress of purging the data of a tenant, for a tenant deletion job submitted through
+     * {@link #deleteTenantAsync(String)}.
+     *
+     * @param jobId id of the tenant deletion job.
+     * @return the rows deleted per table, the deletion rate and the estimated remaining time.
+     * @throws Exception if there is no such job, or the job is not purging the data of the tenant.
+     */
+    public TenantDeletionProgress getTenantDeletionProgress(String jobId) throws Exception {
+
+        TenantJobStatus jobStatus = getTenantDeletionJobStatus(jobId);
+        TenantDeletionTracker tracker = TenantDeletionTracker.get(jobStatus.getTenantId());
+        if (tracker == null) {
+            String msg = "The data of the tenant: " + jobStatus.getTenantDomain() + " is not being purged by the " +
+                    "job: " + jobId;
+            log.error(msg);
+            throw new Exception(msg);
+        }
+        return tracker.getProgress();
+    }
+
 }
@@ -38,8 +38,14 @@ import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
 import org.wso2.carbon.stratos.common.exception.TenantMgtException;
 import org.wso2.carbon.stratos.common.util.ClaimsMgtUtil;
 import org.wso2.carbon.stratos.common.util.CommonUtil;
+import org.wso2.carbon.tenant.mgt.beans.TenantCreationResult;
+import org.wso2.carbon.tenant.mgt.beans.TenantCursorSearchResult;
 import org.wso2.carbon.tenant.mgt.core.TenantPersistor;
 import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.tenant.mgt.util.TenantBatchCreationExecutor;
+import org.wso2.carbon.tenant.mgt.util.TenantDomainFilter;
+import org.wso2.carbon.tenant.mgt.util.TenantDomainIndex;
+import org.wso2.carbon.tenant.mgt.util.TenantListingUtil;
 import org.wso2.carbon.tenant.mgt.util.TenantMgtUtil;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.TenantMgtConfiguration;
@@ -53,10 +59,17 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.user.core.tenant.TenantSearchResult;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_DOMAIN_NOT_FOUND;
+import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_EXISTING_DOMAIN;
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_INVALID_EMAIL;
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT;
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_INVALID_OFFSET;
@@ -86,6 +99,7 @@ public class TenantMgtImpl implements TenantMgtService {
             "http://wso2.org/claims/identity/tenantAdminAskPassword";
     public static final String INVITE_VIA_EMAIL = "invite-via-email";
     private static final String SPACE_SEPARATOR = " ";
+    private static final int EXPORT_BATCH_SIZE = 1000;
 
     public String addTenant(Tenant tenant) throws TenantMgtException {
 
@@ -97,6 +111,172 @@ public class TenantMgtImpl implements TenantMgtService {
         }
     }
 
+    @Override
+    public List<TenantCreationResult> addTenants(List<Tenant> tenants) throws TenantMgtException {
+
+        List<TenantCreationResult> results = new ArrayList<>(tenants.size());
+        if (tenants.isEmpty()) {
+            return results;
+        }
+        checkIsSuperTenantInvoking();
+
+        // Validate the whole batch before creating any of the tenants.
+        List<Tenant> checkedTenants = new ArrayList<>();
+        List<TenantCreationResult> checkedTenantResults = new ArrayList<>();
+        Set<String> batchDomains = new HashSet<>();
+        for (Tenant tenant : tenants) {
+            TenantCreationResult result = new TenantCreationResult(tenant.getDomain());
+            try {
+                validateTenantOfBatch(tenant, batchDomains);
+                checkedTenants.add(tenant);
+                checkedTenantResults.add(result);
+            } catch (TenantMgtException e) {
+                result.setError(e.getErrorCode(), e.getMessage());
+            }
+            results.add(result);
+        }
+        boolean[] availability = checkDomainsAvailability(checkedTenants);
+        List<Tenant> validTenants = new ArrayList<>();
+        List<TenantCreationResult> validTenantResults = new ArrayList<>();
+        for (int i = 0; i < checkedTenants.size(); i++) {
+            if (availability[i]) {
+                validTenants.add(checkedTenants.get(i));
+                validTenantResults.add(checkedTenantResults.get(i));
+            } else {
+                setExistingDomainError(checkedTenantResults.get(i));
+            }
+        }
+        if (validTenants.isEmpty()) {
+            return results;
+        }
+
+        // Worker threads do not inherit the carbon context of the invoking super tenant user.
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        List<Future<String>> futures = new ArrayList<>(validTenants.size());
+        try {
+            for (Tenant tenant : validTenants) {
+                futures.add(TenantBatchCreationExecutor.submit(() -> addTenantOfBatch(tenant, username)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                TenantCreationResult result = validTenantResults.get(i);
+                try {
+                    result.setTenantUniqueID(futures.get(i).get());
+                    result.setTenantId(validTenants.get(i).getId());
+                } catch (ExecutionException e) {
+                    setCreationError(result, validTenants.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TenantManagementServerException("Interrupted while adding the batch of tenants.", e);
+        } finally {
+            // Stop the creations of this batch which have not completed, e.g. if the caller was interrupted.
+            for (Future<String> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    private String addTenantOfBatch(Tenant tenant, String username) throws TenantMgtException {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+            carbonContext.setUsername(username);
+            return addTenant(tenant);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Check the availability of the domains of a batch at once. Only the domains which may be registered according to
+     * the {@link TenantDomainFilter} are looked up in the tenant manager.
+     *
+     * @param tenants validated tenants of the batch.
+     * @return availability of the domain of each tenant, in the order of the given tenants.
+     * @throws TenantMgtException if the availability of a domain could not be checked.
+     */
+    boolean[] checkDomainsAvailability(List<Tenant> tenants) throws TenantMgtException {
+
+        boolean[] availability = new boolean[tenants.size()];
+        TenantDomainFilter domainFilter = TenantDomainFilter.getInstance();
+        for (int i = 0; i < availability.length; i++) {
+            String tenantDomain = tenants.get(i).getDomain();
+            availability[i] = !MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain) &&
+                    (!domainFilter.mightContain(tenantDomain) || isDomainAvailable(tenantDomain));
+        }
+        return availability;
+    }
+
+    /**
+     * Record the failure to create a tenant of a batch. A tenant which was not added because its domain was registered
+     * concurrently, after the availability check of the batch, is reported as an existing domain.
+     *
+     * @param result result of the tenant.
+     * @param tenant tenant information.
+     * @param cause  cause of the failure.
+     */
+    void setCreationError(TenantCreationResult result, Tenant tenant, Throwable cause) {
+
+        log.error("Error while adding the tenant: " + result.getTenantDomain() + " of the batch.", cause);
+        // The tenant id is only set once the tenant is added, in which case the domain is registered by this batch.
+        if (tenant.getId() <= 0) {
+            try {
+                if (!isDomainAvailable(tenant.getDomain())) {
+                    setExistingDomainError(result);
+                    return;
+                }
+            } catch (TenantMgtException e) {
+                log.error("Error while checking the availability of the domain: " + tenant.getDomain(), e);
+            }
+        }
+        String errorCode = cause instanceof TenantMgtException ? ((TenantMgtException) cause).getErrorCode() : null;
+        result.setError(errorCode, cause.getMessage());
+    }
+
+    private void setExistingDomainError(TenantCreationResult result) {
+
+        result.setError(ERROR_CODE_EXISTING_DOMAIN.getCode(),
+                String.format(ERROR_CODE_EXISTING_DOMAIN.getMessage(), result.getTenantDomain()));
+    }
+
+    /**
+     * Validate a tenant of a batch, including the uniqueness of the domain within the batch. The availability of the
+     * domain is checked separately, for the whole batch.
+     *
+     * @param tenant       tenant information.
+     * @param batchDomains domains of the already validated tenants of the batch.
+     * @throws TenantMgtException if the tenant is invalid.
+     */
+    private void validateTenantOfBatch(Tenant tenant, Set<String> batchDomains) throws TenantMgtException {
+
+        String tenantDomain = tenant.getDomain();
+        try {
+            CommonUtil.validateEmail(tenant.getEmail());
+        } catch (Exception e) {
+            throw new TenantManagementClientException(ERROR_CODE_INVALID_EMAIL.getCode(),
+                    ERROR_CODE_INVALID_EMAIL.getMessage(), e);
+        }
+        // The tenants created for sub-organizations should not need to validate the domain name as it is a UUID.
+        if (!StringUtils.equals(tenant.getAssociatedOrganizationUUID(), tenantDomain)) {
+            try {
+                TenantMgtUtil.validateDomain(tenantDomain);
+            } catch (TenantMgtException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new TenantManagementServerException(e.getMessage(), e);
+            }
+        }
+        if (!batchDomains.add(tenantDomain)) {
+            throw new TenantManagementClientException(ERROR_CODE_EXISTING_DOMAIN.getCode(),
+                    String.format(ERROR_CODE_EXISTING_DOMAIN.getMessage(), tenantDomain));
+        }
+    }
+
     private String registerTenant(Tenant tenant) throws TenantMgtException {
 
         String tenantDomain = tenant.getDomain();
@@ -143,7 +323,6 @@ public class TenantMgtImpl implements TenantMgtService {
         }
         log.info("Added the tenant '" + tenantDomain + " [" + tenantId + "]' by '" +
                 applyLogMaskingIfEnabled(PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername()) + "'");
-        TenantMgtUtil.prepareStringToShowThemeMgtPage(tenant.getId(), tenant.getTenantUniqueID());
 
         return tenant.getTenantUniqueID();
     }
@@ -156,6 +335,11 @@ public class TenantMgtImpl implements TenantMgtService {
             TenantSearchResult tenantSearchResult = new TenantSearchResult();
             setParameters(limit, offset, sortOrder, sortBy, filter, tenantSearchResult);
 
+            if (tenantSearchResult.getFilter() != null && TenantDomainIndex.getInstance().isReady()) {
+                return TenantDomainIndex.getInstance().search(tenantSearchResult.getLimit(),
+                        tenantSearchResult.getOffSet(), tenantSearchResult.getSortOrder(),
+                        tenantSearchResult.getFilter());
+            }
             tenantSearchResult = tenantManager
                     .listTenants(tenantSearchResult.getLimit(), tenantSearchResult.getOffSet(),
                             tenantSearchResult.getSortOrder(), tenantSearchResult.getSortBy(),
@@ -166,6 +350,54 @@ public class TenantMgtImpl implements TenantMgtService {
         }
     }
 
+    @Override
+    public TenantCursorSearchResult listTenantsByCursor(Integer limit, String cursor, String filter)
+            throws TenantMgtException {
+
+        TenantCursorSearchResult result = new TenantCursorSearchResult();
+        result.setLimit(validateLimit(limit));
+        result.setFilter(validateFilter(filter));
+
+        List<Tenant> tenants = TenantListingUtil.listTenants(result.getLimit(), cursor, result.getFilter());
+        result.setTenantList(tenants);
+        // A partially filled page is the last page.
+        if (!tenants.isEmpty() && tenants.size() == result.getLimit()) {
+            result.setNextCursor(TenantListingUtil.encodeCursor(tenants.get(tenants.size() - 1)));
+        }
+        return result;
+    }
+
+    @Override
+    public int exportTenants(String filter, TenantExportHandler handler) throws TenantMgtException {
+
+        String validatedFilter = validateFilter(filter);
+        if (!TenantListingUtil.isJDBCTenantManager()) {
+            List<Tenant> tenants = TenantListingUtil.listAllTenants(validatedFilter);
+            for (Tenant tenant : tenants) {
+                handler.handle(tenant);
+            }
+            return tenants.size();
+        }
+        int exportedCount = 0;
+        String cursor = null;
+        List<Tenant> tenants;
+        do {
+            tenants = TenantListingUtil.listTenants(EXPORT_BATCH_SIZE, cursor, validatedFilter);
+            for (Tenant tenant : tenants) {
+                handler.handle(tenant);
+            }
+            exportedCount += tenants.size();
+            if (!tenants.isEmpty()) {
+                cursor = TenantListingUtil.encodeCursor(tenants.get(tenants.size() - 1));
+            }
+        } while (tenants.size() == EXPORT_BATCH_SIZE);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Exported " + exportedCount + " tenants.");
+        }
+        return exportedCount;
+    }
+
     public Tenant getTenant(String tenantUniqueID) throws TenantMgtException {
 
         TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
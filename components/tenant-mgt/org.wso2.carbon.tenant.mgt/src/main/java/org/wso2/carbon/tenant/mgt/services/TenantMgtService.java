@@ -16,11 +16,16 @@
 package org.wso2.carbon.tenant.mgt.services;
 
 import org.wso2.carbon.stratos.common.exception.StratosException;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
 import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.tenant.mgt.beans.TenantCreationResult;
+import org.wso2.carbon.tenant.mgt.beans.TenantCursorSearchResult;
 import org.wso2.carbon.user.core.common.User;
 import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantSearchResult;
 
+import java.util.List;
+
 /**
  * This interface used to expose tenant management functionality as an OSGi Service.
  */
@@ -35,6 +40,19 @@ public interface TenantMgtService {
      */
     String addTenant(Tenant tenant) throws TenantMgtException;
 
+    /**
+     * Adds a batch of tenants. All the tenants are validated before any of them is created, and the valid ones are
+     * created in parallel. Failure to create one tenant does not fail the rest of the batch.
+     *
+     * @param tenants tenants to be added.
+     * @return result of each tenant, in the same order as the given tenants.
+     * @throws TenantMgtException if the batch could not be processed.
+     */
+    default List<TenantCreationResult> addTenants(List<Tenant> tenants) throws TenantMgtException {
+
+        throw new TenantManagementServerException("Batch tenant creation is not supported.");
+    }
+
     /**
      * Retrieve all the tenants.
      *
@@ -49,6 +67,36 @@ public interface TenantMgtService {
     TenantSearchResult listTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter)
             throws TenantMgtException;
 
+    /**
+     * Retrieve a page of tenants ordered by the tenant domain, starting right after the given cursor. Unlike the
+     * offset based listing, retrieving a deep page costs the same as retrieving the first page.
+     *
+     * @param limit  limit per page.
+     * @param cursor cursor returned with the previous page, or null to retrieve the first page.
+     * @param filter filter value for tenant search.
+     * @return TenantCursorSearchResult with the tenants and the cursor of the next page.
+     * @throws TenantMgtException if tenant listing failed.
+     */
+    default TenantCursorSearchResult listTenantsByCursor(Integer limit, String cursor, String filter)
+            throws TenantMgtException {
+
+        throw new TenantManagementServerException("Cursor based tenant listing is not supported.");
+    }
+
+    /**
+     * Iterate through all the tenants matching the filter, ordered by the tenant domain. The tenants are read in
+     * fixed size batches, hence the memory used does not grow with the number of tenants.
+     *
+     * @param filter  filter value for tenant search.
+     * @param handler handler which receives the tenants one at a time.
+     * @return number of exported tenants.
+     * @throws TenantMgtException if tenant listing failed or the handler failed.
+     */
+    default int exportTenants(String filter, TenantExportHandler handler) throws TenantMgtException {
+
+        throw new TenantManagementServerException("Tenant export is not supported.");
+    }
+
     /**
      * Get a specific tenant using tenant uuid.
      *
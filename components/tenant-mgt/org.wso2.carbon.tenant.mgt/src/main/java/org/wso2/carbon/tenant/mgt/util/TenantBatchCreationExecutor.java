@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the tenants of batch tenant creations in parallel. A single pool, started and stopped with the component,
+ * is shared by all the batches, so that the number of tenants created at once stays within the
+ * 'Tenant.BatchCreation.PoolSize' property of carbon.xml however many batches are submitted concurrently.
+ */
+public class TenantBatchCreationExecutor {
+
+    private static final Log log = LogFactory.getLog(TenantBatchCreationExecutor.class);
+
+    private static final String POOL_SIZE_PROPERTY = "Tenant.BatchCreation.PoolSize";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static ExecutorService executor = null;
+
+    /**
+     * Starts the thread pool which creates the tenants.
+     */
+    public static synchronized void start() {
+
+        if (executor == null) {
+            int poolSize = TenantCoreUtil.getPositiveIntProperty(POOL_SIZE_PROPERTY,
+                    Runtime.getRuntime().availableProcessors());
+            executor = Executors.newFixedThreadPool(poolSize, new TenantBatchCreationThreadFactory());
+        }
+    }
+
+    /**
+     * Stops the thread pool, interrupting the tenant creations which are still running.
+     */
+    public static synchronized void stop() {
+
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Batch tenant creations did not stop within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Submit the creation of a tenant of a batch.
+     *
+     * @param creation creation of the tenant, returning the unique id of the tenant.
+     * @return result of the creation.
+     * @throws TenantManagementServerException if the pool is not started.
+     */
+    public static Future<String> submit(Callable<String> creation) throws TenantManagementServerException {
+
+        ExecutorService creationExecutor = executor;
+        if (creationExecutor == null) {
+            throw new TenantManagementServerException("Batch tenant creation is not started.");
+        }
+        try {
+            return creationExecutor.submit(creation);
+        } catch (RejectedExecutionException e) {
+            throw new TenantManagementServerException("Batch tenant creation is stopped.", e);
+        }
+    }
+
+    private static class TenantBatchCreationThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "TenantBatchCreationWorker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -22,10 +22,10 @@ package org.wso2.carbon.tenant.mgt.util;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.beans.TenantDataPurgeTarget;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 
 /**
  * This class is responsible for deleting product specific tenant data
@@ -34,31 +34,23 @@ public class TenantDataDeletionUtil {
 
     public static final Log log = LogFactory.getLog(TenantDataDeletionUtil.class);
 
-    public static void deleteProductSpecificTenantData(Connection conn, String tableName, int tenantId) {
+    /**
+     * Delete the rows of a tenant from a product specific table. The rows are deleted in chunks if configured, see
+     * {@link TenantDataPurger}. The deletion is committed or rolled back, and the connection closed, by the caller.
+     *
+     * @param conn      database connection.
+     * @param tableName name of the table, with a TENANT_ID column.
+     * @param tenantId  id of the tenant.
+     * @throws TenantManagementServerException if the rows could not be deleted.
+     */
+    public static void deleteProductSpecificTenantData(Connection conn, String tableName, int tenantId)
+            throws TenantManagementServerException {
         try {
-            conn.setAutoCommit(false);
-            String deleteUserPermissionSql = "DELETE FROM " + tableName + " WHERE TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteUserPermissionSql, tenantId);
+            TenantDataPurger.forTenant(conn, tenantId).delete(tableName, TenantDataPurgeTarget.DEFAULT_TENANT_COLUMN,
+                    tenantId);
         } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
-    private static void executeDeleteQuery(Connection conn, String query, int tenantId)
-            throws Exception {
-        PreparedStatement ps = null;
-        try {
-            ps = conn.prepareStatement(query);
-            ps.setInt(1, tenantId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            String errMsg = "Error executing query " + query + " for tenant: " + tenantId;
-            log.error(errMsg, e);
-            throw new Exception(errMsg, e);
-        } finally {
-            if (ps != null) {
-                ps.close();
-            }
+            throw new TenantManagementServerException("An error occurred while deleting data of tenant: " + tenantId +
+                    " from table: " + tableName, e);
         }
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+/**
+ * Purges the data of a tenant from several databases. The purges on the same data source run one after the other,
+ * while the purges on different data sources run concurrently on the {@link TenantTaskExecutor}. A failure in one
+ * data source does not stop the purges on the others, and all the failures are reported once every purge has been
+ * attempted.
+ */
+public class TenantDataPurgePhase {
+
+    private static final Log log = LogFactory.getLog(TenantDataPurgePhase.class);
+
+    /**
+     * Purges the data of the tenant through a connection of a data source.
+     */
+    @FunctionalInterface
+    public interface PurgeTask {
+
+        /**
+         * Purge the data of the tenant. The connection is closed by the task.
+         *
+         * @param conn connection of the data source the task was added for.
+         * @throws Exception if the purge failed.
+         */
+        void purge(Connection conn) throws Exception;
+    }
+
+    private final int tenantId;
+    private final Map<DataSource, List<String>> taskNames = new IdentityHashMap<>();
+    private final Map<DataSource, List<PurgeTask>> tasks = new IdentityHashMap<>();
+    private final List<DataSource> dataSources = new ArrayList<>();
+
+    public TenantDataPurgePhase(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Add a purge to the phase.
+     *
+     * @param name       name of the purge, used when reporting failures.
+     * @param dataSource data source the purge runs on.
+     * @param task       purge to run.
+     */
+    public void add(String name, DataSource dataSource, PurgeTask task) {
+
+        if (!tasks.containsKey(dataSource)) {
+            dataSources.add(dataSource);
+            tasks.put(dataSource, new ArrayList<>());
+            taskNames.put(dataSource, new ArrayList<>());
+        }
+        tasks.get(dataSource).add(task);
+        taskNames.get(dataSource).add(name);
+    }
+
+    /**
+     * Whether a purge has been added for the data source.
+     *
+     * @param dataSource data source.
+     * @return true if a purge runs on the data source.
+     */
+    public boolean contains(DataSource dataSource) {
+
+        return tasks.containsKey(dataSource);
+    }
+
+    /**
+     * Run all the purges of the phase and wait for them to complete.
+     *
+     * @throws TenantManagementServerException if any of the purges failed.
+     */
+    public void execute() throws TenantManagementServerException {
+
+        if (dataSources.isEmpty()) {
+            return;
+        }
+        List<String> failedPurges = new ArrayList<>();
+        if (dataSources.size() == 1) {
+            failedPurges.addAll(purge(dataSources.get(0)));
+        } else {
+            Map<DataSource, Future<List<String>>> futures = new LinkedHashMap<>();
+            for (DataSource dataSource : dataSources) {
+                futures.put(dataSource, TenantTaskExecutor.submit(() -> purge(dataSource)));
+            }
+            try {
+                for (Map.Entry<DataSource, Future<List<String>>> future : futures.entrySet()) {
+                    try {
+                        failedPurges.addAll(future.getValue().get());
+                    } catch (ExecutionException e) {
+                        log.error("Error while purging the data of tenant: " + tenantId, e.getCause());
+                        failedPurges.addAll(taskNames.get(future.getKey()));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TenantManagementServerException("Interrupted while purging the data of tenant: " +
+                        tenantId, e);
+            }
+        }
+        if (!failedPurges.isEmpty()) {
+            throw new TenantManagementServerException("Error while purging the data of tenant: " + tenantId +
+                    " from: " + String.join(", ", failedPurges));
+        }
+    }
+
+    /**
+     * Runs the purges of a data source in order.
+     *
+     * @return names of the purges which failed.
+     */
+    private List<String> purge(DataSource dataSource) {
+
+        List<String> failedPurges = new ArrayList<>();
+        List<PurgeTask> dataSourceTasks = tasks.get(dataSource);
+        List<String> dataSourceTaskNames = taskNames.get(dataSource);
+        for (int i = 0; i < dataSourceTasks.size(); i++) {
+            String name = dataSourceTaskNames.get(i);
+            long startTime = System.currentTimeMillis();
+            try {
+                dataSourceTasks.get(i).purge(dataSource.getConnection());
+                if (log.isDebugEnabled()) {
+                    log.debug("Purged the data of tenant: " + tenantId + " from: " + name + " in " +
+                            (System.currentTimeMillis() - startTime) + " ms.");
+                }
+            } catch (Exception e) {
+                log.error("Error while purging the data of tenant: " + tenantId + " from: " + name, e);
+                failedPurges.add(name);
+            }
+        }
+        return failedPurges;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.tenant.mgt.beans.TenantDataPurgeTarget;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.tenant.mgt.services.TenantDataPurgeTargetProvider;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+
+/**
+ * Keeps track of the product specific tables which are purged when a tenant is deleted. Tables are declared in
+ * carbon.xml, through {@link TenantDataPurgeTargetProvider} OSGi services, or added programmatically.
+ * <p>
+ * In carbon.xml, each 'Tenant.TenantDelete.PurgeTarget' property declares a table as
+ * {@code dataSourceName,tableName[,tenantColumn[,chunkSize]]}.
+ */
+public class TenantDataPurgeTargets {
+
+    private static final Log log = LogFactory.getLog(TenantDataPurgeTargets.class);
+
+    private static final String PURGE_TARGET_PROPERTY = "Tenant.TenantDelete.PurgeTarget";
+
+    private static final Set<TenantDataPurgeTarget> addedTargets = new CopyOnWriteArraySet<>();
+    private static final Map<String, DataSource> dataSources = new ConcurrentHashMap<>();
+
+    /**
+     * Add a table to purge when a tenant is deleted.
+     *
+     * @param target purge target.
+     */
+    public static void add(TenantDataPurgeTarget target) {
+
+        addedTargets.add(target);
+    }
+
+    /**
+     * Remove a table added through {@link #add(TenantDataPurgeTarget)}.
+     *
+     * @param target purge target.
+     */
+    public static void remove(TenantDataPurgeTarget target) {
+
+        addedTargets.remove(target);
+    }
+
+    /**
+     * Get all the declared purge targets, in the order they are declared.
+     *
+     * @return purge targets.
+     */
+    public static Set<TenantDataPurgeTarget> getTargets() {
+
+        Set<TenantDataPurgeTarget> targets = new LinkedHashSet<>(getConfiguredTargets());
+        for (TenantDataPurgeTargetProvider provider : TenantMgtServiceComponent.getTenantDataPurgeTargetProviders()) {
+            try {
+                List<TenantDataPurgeTarget> providedTargets = provider.getPurgeTargets();
+                if (providedTargets != null) {
+                    targets.addAll(providedTargets);
+                }
+            } catch (Exception e) {
+                log.error("Error while getting the purge targets from " + provider.getClass().getName(), e);
+            }
+        }
+        targets.addAll(addedTargets);
+        return targets;
+    }
+
+    /**
+     * Add the purges of all the declared targets to a purge phase. The targets of a data source are purged in a
+     * single task, in the order they are declared, so that the purges on different data sources run concurrently.
+     *
+     * @param purgePhase purge phase.
+     * @param tenantId   id of the tenant.
+     * @return names of the data sources which could not be looked up, and hence not purged.
+     */
+    public static List<String> addPurges(TenantDataPurgePhase purgePhase, int tenantId) {
+
+        Map<String, List<TenantDataPurgeTarget>> targetsByDataSource = new LinkedHashMap<>();
+        for (TenantDataPurgeTarget target : getTargets()) {
+            targetsByDataSource.computeIfAbsent(target.getDataSourceName(), key -> new ArrayList<>()).add(target);
+        }
+        List<String> failedLookups = new ArrayList<>();
+        for (Map.Entry<String, List<TenantDataPurgeTarget>> targets : targetsByDataSource.entrySet()) {
+            String dataSourceName = targets.getKey();
+            DataSource dataSource;
+            try {
+                dataSource = lookupDataSource(dataSourceName);
+            } catch (NamingException e) {
+                log.error("Error in looking up data source: " + dataSourceName, e);
+                failedLookups.add(dataSourceName);
+                continue;
+            }
+            purgePhase.add(dataSourceName, dataSource, conn -> purge(conn, targets.getValue(), tenantId));
+        }
+        return failedLookups;
+    }
+
+    /**
+     * Look up a data source by its JNDI name. Data sources are cached once looked up.
+     *
+     * @param dataSourceName JNDI name of the data source.
+     * @return the data source.
+     * @throws NamingException if the data source could not be looked up.
+     */
+    public static DataSource lookupDataSource(String dataSourceName) throws NamingException {
+
+        DataSource dataSource = dataSources.get(dataSourceName);
+        if (dataSource == null) {
+            dataSource = InitialContext.doLookup(dataSourceName);
+            dataSources.put(dataSourceName, dataSource);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Purges the targets of a data source. Consecutive targets without a chunk size of their own are deleted with a
+     * single JDBC batch, while the others are deleted in chunks.
+     */
+    private static void purge(Connection conn, List<TenantDataPurgeTarget> targets, int tenantId) throws Exception {
+
+        try {
+            conn.setAutoCommit(false);
+            TenantDataPurger defaultPurger = TenantDataPurger.forTenant(conn, tenantId);
+            List<String[]> batch = new ArrayList<>();
+            for (TenantDataPurgeTarget target : targets) {
+                if (target.getChunkSize() <= 0) {
+                    batch.add(new String[]{target.getTableName(), target.getTenantColumn()});
+                    continue;
+                }
+                if (!batch.isEmpty()) {
+                    defaultPurger.delete(batch.toArray(new String[0][]), tenantId);
+                    batch.clear();
+                }
+                TenantDataPurger.forTenant(conn, tenantId, target.getChunkSize()).delete(target.getTableName(),
+                        target.getTenantColumn(), tenantId);
+            }
+            if (!batch.isEmpty()) {
+                defaultPurger.delete(batch.toArray(new String[0][]), tenantId);
+            }
+            conn.commit();
+        } catch (Exception e) {
+            conn.rollback();
+            throw new Exception("An error occurred while deleting product specific data of tenant: " + tenantId +
+                    " from tables: " + targets, e);
+        } finally {
+            conn.close();
+        }
+    }
+
+    private static List<TenantDataPurgeTarget> getConfiguredTargets() {
+
+        List<TenantDataPurgeTarget> targets = new ArrayList<>();
+        String[] propertyValues = ServerConfiguration.getInstance().getProperties(PURGE_TARGET_PROPERTY);
+        if (propertyValues == null) {
+            return targets;
+        }
+        for (String propertyValue : propertyValues) {
+            String[] parts = StringUtils.split(propertyValue, ',');
+            if (parts == null || parts.length < 2) {
+                log.warn("Ignoring the invalid '" + PURGE_TARGET_PROPERTY + "' property value: " + propertyValue +
+                        " in carbon.xml.");
+                continue;
+            }
+            String tenantColumn = parts.length > 2 ? parts[2].trim() : TenantDataPurgeTarget.DEFAULT_TENANT_COLUMN;
+            int chunkSize = 0;
+            if (parts.length > 3) {
+                try {
+                    chunkSize = Integer.parseInt(parts[3].trim());
+                } catch (NumberFormatException e) {
+                    log.warn("Error occurred while parsing the chunk size of the '" + PURGE_TARGET_PROPERTY +
+                            "' property value: " + propertyValue + " in carbon.xml.", e);
+                }
+            }
+            targets.add(new TenantDataPurgeTarget(parts[0].trim(), parts[1].trim(), tenantColumn, chunkSize));
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Deletes the rows of a tenant from database tables.
+ * <p>
+ * By default, all the rows of a table are deleted with a single statement, in the transaction of the caller. When
+ * the 'Tenant.TenantDelete.ChunkSize' property is set in carbon.xml, the rows are deleted in chunks of that size and
+ * each chunk is committed on its own, so that purging a large tenant does not hold long table locks. The
+ * 'Tenant.TenantDelete.RowsPerSecond' property limits the rate at which the chunks are deleted.
+ */
+public class TenantDataPurger {
+
+    private static final Log log = LogFactory.getLog(TenantDataPurger.class);
+
+    private static final String CHUNK_SIZE_PROPERTY = "Tenant.TenantDelete.ChunkSize";
+    private static final String ROWS_PER_SECOND_PROPERTY = "Tenant.TenantDelete.RowsPerSecond";
+
+    /**
+     * Database dialects which support deleting a bounded number of rows.
+     */
+    private enum Dialect {
+        MYSQL,
+        POSTGRESQL,
+        ORACLE,
+        MSSQL,
+        H2,
+        UNSUPPORTED
+    }
+
+    private final Connection conn;
+    private final int chunkSize;
+    private final int rowsPerSecond;
+    private final Dialect dialect;
+    private long purgeStartTime;
+    private long purgedRows;
+    private TenantDeletionTracker tracker;
+
+    /**
+     * Create a purger which deletes the rows through the given connection, as configured in carbon.xml.
+     *
+     * @param conn database connection, with auto commit disabled.
+     * @throws SQLException if the database dialect could not be resolved.
+     */
+    public TenantDataPurger(Connection conn) throws SQLException {
+
+        this(conn, getConfiguredChunkSize(), getConfiguredRowsPerSecond());
+    }
+
+    /**
+     * Create a purger which deletes the rows of a tenant through the given connection, as configured in carbon.xml.
+     * If the tenant is being deleted and no chunk size is configured, the chunk size chosen from the estimated size
+     * of the tenant is used, and the deleted rows are reported to the {@link TenantDeletionTracker} of the tenant.
+     *
+     * @param conn     database connection, with auto commit disabled.
+     * @param tenantId id of the tenant whose rows are deleted.
+     * @return the purger.
+     * @throws SQLException if the database dialect could not be resolved.
+     */
+    public static TenantDataPurger forTenant(Connection conn, int tenantId) throws SQLException {
+
+        return forTenant(conn, tenantId, 0);
+    }
+
+    /**
+     * Create a purger which deletes the rows of a tenant through the given connection in chunks of the given size.
+     * The deleted rows are reported to the {@link TenantDeletionTracker} of the tenant, if it is being deleted.
+     *
+     * @param conn      database connection, with auto commit disabled.
+     * @param tenantId  id of the tenant whose rows are deleted.
+     * @param chunkSize number of rows deleted and committed at a time. If not positive, the rows are deleted as
+     *                  described in {@link #forTenant(Connection, int)}.
+     * @return the purger.
+     * @throws SQLException if the database dialect could not be resolved.
+     */
+    public static TenantDataPurger forTenant(Connection conn, int tenantId, int chunkSize) throws SQLException {
+
+        TenantDeletionTracker tracker = TenantDeletionTracker.get(tenantId);
+        if (chunkSize <= 0) {
+            chunkSize = getConfiguredChunkSize();
+        }
+        if (chunkSize <= 0 && tracker != null) {
+            chunkSize = tracker.getChunkSize();
+        }
+        TenantDataPurger purger = new TenantDataPurger(conn, chunkSize, getConfiguredRowsPerSecond());
+        purger.tracker = tracker;
+        return purger;
+    }
+
+    /**
+     * Create a purger which deletes the rows through the given connection in chunks of the given size, at the rate
+     * configured in carbon.xml.
+     *
+     * @param conn      database connection, with auto commit disabled.
+     * @param chunkSize number of rows deleted and committed at a time.
+     * @throws SQLException if the database dialect could not be resolved.
+     */
+    public TenantDataPurger(Connection conn, int chunkSize) throws SQLException {
+
+        this(conn, chunkSize, getConfiguredRowsPerSecond());
+    }
+
+    /**
+     * Create a purger which deletes the rows through the given connection.
+     *
+     * @param conn          database connection, with auto commit disabled.
+     * @param chunkSize     number of rows deleted and committed at a time. If not positive, the rows of a table are
+     *                      deleted with a single statement and not committed.
+     * @param rowsPerSecond maximum number of rows deleted per second in chunks. If not positive, the rate is not
+     *                      limited.
+     * @throws SQLException if the database dialect could not be resolved.
+     */
+    public TenantDataPurger(Connection conn, int chunkSize, int rowsPerSecond) throws SQLException {
+
+        this.conn = conn;
+        this.dialect = chunkSize > 0 ? getDialect(conn) : Dialect.UNSUPPORTED;
+        if (chunkSize > 0 && dialect == Dialect.UNSUPPORTED) {
+            log.warn("Deleting tenant data in chunks is not supported for the database: " +
+                    conn.getMetaData().getDatabaseProductName() + ". Hence deleting without chunking.");
+        }
+        this.chunkSize = dialect == Dialect.UNSUPPORTED ? 0 : chunkSize;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    /**
+     * Whether the rows are deleted and committed in chunks. If not, the caller has to commit the transaction.
+     *
+     * @return true if the rows are deleted in chunks.
+     */
+    public boolean isChunked() {
+
+        return chunkSize > 0;
+    }
+
+    /**
+     * Delete all the rows of the given tenants from a table.
+     *
+     * @param table        name of the table.
+     * @param tenantColumn name of the column holding the tenant id.
+     * @param tenantIds    ids of the tenants.
+     * @throws Exception if the rows could not be deleted.
+     */
+    public void delete(String table, String tenantColumn, int... tenantIds) throws Exception {
+
+        if (!isChunked()) {
+            recordDeletedRows(table, executeDeleteQuery("DELETE FROM " + table + " WHERE " +
+                    getTenantCondition(tenantColumn, tenantIds), tenantIds));
+            return;
+        }
+        if (purgeStartTime == 0) {
+            purgeStartTime = System.currentTimeMillis();
+        }
+        String query = getChunkedDeleteQuery(table, getTenantCondition(tenantColumn, tenantIds));
+        int deletedRows;
+        long tableRows = 0;
+        do {
+            deletedRows = executeDeleteQuery(query, tenantIds);
+            conn.commit();
+            tableRows += deletedRows;
+            purgedRows += deletedRows;
+            recordDeletedRows(table, deletedRows);
+            throttle();
+        } while (deletedRows >= chunkSize);
+        if (log.isDebugEnabled()) {
+            log.debug("Deleted " + tableRows + " rows from " + table + " for tenants: " + Arrays.toString(tenantIds));
+        }
+    }
+
+    /**
+     * Delete all the rows of the given tenants from several tables, in the given order. Unless the rows are deleted
+     * in chunks, the deletes are sent to the database as a single JDBC batch when the driver supports it.
+     *
+     * @param tables    tables as pairs of the table name and the name of the column holding the tenant id.
+     * @param tenantIds ids of the tenants.
+     * @throws Exception if the rows could not be deleted.
+     */
+    public void delete(String[][] tables, int... tenantIds) throws Exception {
+
+        if (isChunked() || !conn.getMetaData().supportsBatchUpdates()) {
+            for (String[] table : tables) {
+                delete(table[0], table[1], tenantIds);
+            }
+            return;
+        }
+        // Tenant ids are integers, hence they are inlined in the statements of the batch.
+        String tenantIdList = StringUtils.join(ArrayUtils.toObject(tenantIds), ", ");
+        Statement statement = null;
+        try {
+            statement = conn.createStatement();
+            for (String[] table : tables) {
+                statement.addBatch("DELETE FROM " + table[0] + " WHERE " + table[1] + " IN (" + tenantIdList + ")");
+            }
+            int[] deletedRows = statement.executeBatch();
+            for (int i = 0; i < tables.length && i < deletedRows.length; i++) {
+                recordDeletedRows(tables[i][0], deletedRows[i]);
+            }
+        } catch (SQLException e) {
+            String errMsg = "Error executing the batch of delete queries for tenants: " + tenantIdList;
+            log.error(errMsg, e);
+            throw new Exception(errMsg, e);
+        } finally {
+            if (statement != null) {
+                statement.close();
+            }
+        }
+    }
+
+    private void recordDeletedRows(String table, int deletedRows) {
+
+        // Drivers may not report the number of rows deleted by a statement of a batch.
+        if (tracker != null && deletedRows > 0) {
+            tracker.recordDeletedRows(table, deletedRows);
+        }
+    }
+
+    String getTenantCondition(String tenantColumn, int[] tenantIds) {
+
+        if (tenantIds.length == 1) {
+            return tenantColumn + " = ?";
+        }
+        return tenantColumn + " IN (" + StringUtils.repeat("?", ", ", tenantIds.length) + ")";
+    }
+
+    String getChunkedDeleteQuery(String table, String condition) {
+
+        switch (dialect) {
+            case MYSQL:
+                return "DELETE FROM " + table + " WHERE " + condition + " LIMIT " + chunkSize;
+            case POSTGRESQL:
+                return "DELETE FROM " + table + " WHERE ctid IN (SELECT ctid FROM " + table + " WHERE " +
+                        condition + " LIMIT " + chunkSize + ")";
+            case ORACLE:
+                return "DELETE FROM " + table + " WHERE " + condition + " AND ROWNUM <= " + chunkSize;
+            case MSSQL:
+                return "DELETE TOP (" + chunkSize + ") FROM " + table + " WHERE " + condition;
+            case H2:
+                return "DELETE FROM " + table + " WHERE _ROWID_ IN (SELECT _ROWID_ FROM " + table + " WHERE " +
+                        condition + " LIMIT " + chunkSize + ")";
+            default:
+                throw new IllegalStateException("Chunked deletion is not supported for the dialect: " + dialect);
+        }
+    }
+
+    private int executeDeleteQuery(String query, int[] tenantIds) throws Exception {
+
+        PreparedStatement ps = null;
+        try {
+            ps = conn.prepareStatement(query);
+            for (int i = 0; i < tenantIds.length; i++) {
+                ps.setInt(i + 1, tenantIds[i]);
+            }
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            String errMsg = "Error executing query " + query + " for tenants: " + Arrays.toString(tenantIds);
+            log.error(errMsg, e);
+            throw new Exception(errMsg, e);
+        } finally {
+            if (ps != null) {
+                ps.close();
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the rows purged so far fit in the configured rate.
+     */
+    private void throttle() throws InterruptedException {
+
+        if (rowsPerSecond <= 0) {
+            return;
+        }
+        long expectedElapsedMillis = purgedRows * 1000 / rowsPerSecond;
+        long elapsedMillis = System.currentTimeMillis() - purgeStartTime;
+        if (expectedElapsedMillis > elapsedMillis) {
+            Thread.sleep(expectedElapsedMillis - elapsedMillis);
+        }
+    }
+
+    private static Dialect getDialect(Connection conn) throws SQLException {
+
+        String productName = conn.getMetaData().getDatabaseProductName().toLowerCase(Locale.ENGLISH);
+        if (productName.contains("mysql") || productName.contains("mariadb")) {
+            return Dialect.MYSQL;
+        } else if (productName.contains("postgresql")) {
+            return Dialect.POSTGRESQL;
+        } else if (productName.contains("oracle")) {
+            return Dialect.ORACLE;
+        } else if (productName.contains("microsoft")) {
+            return Dialect.MSSQL;
+        } else if (productName.contains("h2")) {
+            return Dialect.H2;
+        }
+        return Dialect.UNSUPPORTED;
+    }
+
+    /**
+     * Get the chunk size configured in carbon.xml.
+     *
+     * @return the chunk size, or 0 if the rows are not deleted in chunks.
+     */
+    static int getConfiguredChunkSize() {
+
+        return TenantCoreUtil.getNonNegativeIntProperty(CHUNK_SIZE_PROPERTY, 0);
+    }
+
+    /**
+     * Get the maximum number of rows deleted per second configured in carbon.xml.
+     *
+     * @return the rate, or 0 if the rate is not limited.
+     */
+    static int getConfiguredRowsPerSecond() {
+
+        return TenantCoreUtil.getNonNegativeIntProperty(ROWS_PER_SECOND_PROPERTY, 0);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.registry.core.exceptions.RegistryException;
+import org.wso2.carbon.registry.core.jdbc.dataaccess.JDBCDataAccessManager;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.beans.TenantDataPurgeTarget;
+import org.wso2.carbon.tenant.mgt.beans.TenantDeletionEstimate;
+import org.wso2.carbon.tenant.mgt.beans.TenantTableSize;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.user.core.util.DatabaseUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+
+/**
+ * Estimates the size of the data of a tenant and the time it takes to delete it, without deleting anything. The
+ * estimate also decides whether the rows are deleted in chunks: when no chunk size is configured, tenants with more
+ * rows than the 'Tenant.TenantDelete.AutoChunkThreshold' property in carbon.xml are deleted in chunks.
+ */
+public class TenantDeletionEstimator {
+
+    private static final Log log = LogFactory.getLog(TenantDeletionEstimator.class);
+
+    static final String USER_STORE_DATA_SOURCE = "user store";
+    private static final String CONFIG_REGISTRY_DATA_SOURCE = "config registry";
+    private static final String GOVERNANCE_REGISTRY_DATA_SOURCE = "governance registry";
+
+    private static final String AUTO_CHUNK_THRESHOLD_PROPERTY = "Tenant.TenantDelete.AutoChunkThreshold";
+    private static final String ESTIMATED_ROWS_PER_SECOND_PROPERTY = "Tenant.TenantDelete.EstimatedRowsPerSecond";
+    private static final int DEFAULT_AUTO_CHUNK_THRESHOLD = 100000;
+    private static final int DEFAULT_AUTO_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_ESTIMATED_ROWS_PER_SECOND = 10000;
+
+    /**
+     * Estimate the deletion of a tenant.
+     *
+     * @param tenantId     id of the tenant.
+     * @param tenantDomain domain of the tenant.
+     * @return the estimate.
+     * @throws TenantManagementServerException if the registry data sources could not be resolved.
+     */
+    public static TenantDeletionEstimate estimate(int tenantId, String tenantDomain)
+            throws TenantManagementServerException {
+
+        List<TenantTableSize> tables = new ArrayList<>();
+        DataSource configDataSource;
+        DataSource govDataSource;
+        try {
+            configDataSource = ((JDBCDataAccessManager) TenantMgtServiceComponent.getRegistryService()
+                    .getConfigUserRegistry().getRegistryContext().getDataAccessManager()).getDataSource();
+            govDataSource = ((JDBCDataAccessManager) TenantMgtServiceComponent.getRegistryService()
+                    .getGovernanceUserRegistry().getRegistryContext().getDataAccessManager()).getDataSource();
+        } catch (RegistryException e) {
+            throw new TenantManagementServerException("Error while resolving the registry data sources.", e);
+        }
+        countRows(CONFIG_REGISTRY_DATA_SOURCE, configDataSource, TenantRegistryDataDeletionUtil.REGISTRY_TABLES,
+                tenantId, tables);
+        if (govDataSource != configDataSource) {
+            countRows(GOVERNANCE_REGISTRY_DATA_SOURCE, govDataSource, TenantRegistryDataDeletionUtil.REGISTRY_TABLES,
+                    tenantId, tables);
+        }
+        for (TenantDataPurgeTarget target : TenantDataPurgeTargets.getTargets()) {
+            try {
+                countRows(target.getDataSourceName(), TenantDataPurgeTargets.lookupDataSource(
+                        target.getDataSourceName()), new String[][]{{target.getTableName(),
+                        target.getTenantColumn()}}, tenantId, tables);
+            } catch (NamingException e) {
+                log.error("Error in looking up data source: " + target.getDataSourceName(), e);
+            }
+        }
+        DataSource userStoreDataSource = DatabaseUtil.getRealmDataSource(
+                TenantMgtServiceComponent.getRealmService().getBootstrapRealmConfiguration());
+        if (userStoreDataSource != null) {
+            countRows(USER_STORE_DATA_SOURCE, userStoreDataSource, TenantUMDataDeletionUtil.UM_TABLES, tenantId,
+                    tables);
+        }
+
+        long totalRows = 0;
+        for (TenantTableSize table : tables) {
+            totalRows += Math.max(0, table.getRowCount());
+        }
+
+        TenantDeletionEstimate estimate = new TenantDeletionEstimate();
+        estimate.setTenantId(tenantId);
+        estimate.setTenantDomain(tenantDomain);
+        estimate.setTables(tables.toArray(new TenantTableSize[0]));
+        estimate.setTotalRowCount(totalRows);
+        measureDirectory(tenantId, estimate);
+
+        int chunkSize = TenantDataPurger.getConfiguredChunkSize();
+        if (chunkSize <= 0 && totalRows > TenantCoreUtil.getPositiveIntProperty(AUTO_CHUNK_THRESHOLD_PROPERTY,
+                DEFAULT_AUTO_CHUNK_THRESHOLD)) {
+            chunkSize = DEFAULT_AUTO_CHUNK_SIZE;
+        }
+        estimate.setChunked(chunkSize > 0);
+        estimate.setChunkSize(Math.max(0, chunkSize));
+
+        int rowsPerSecond = TenantCoreUtil.getPositiveIntProperty(ESTIMATED_ROWS_PER_SECOND_PROPERTY,
+                DEFAULT_ESTIMATED_ROWS_PER_SECOND);
+        int rowsPerSecondBudget = TenantDataPurger.getConfiguredRowsPerSecond();
+        if (estimate.isChunked() && rowsPerSecondBudget > 0) {
+            rowsPerSecond = Math.min(rowsPerSecond, rowsPerSecondBudget);
+        }
+        estimate.setEstimatedDurationMillis(totalRows * 1000 / rowsPerSecond);
+        return estimate;
+    }
+
+    private static void countRows(String dataSourceName, DataSource dataSource, String[][] tableColumns,
+                                  int tenantId, List<TenantTableSize> tables) {
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (String[] tableColumn : tableColumns) {
+                TenantTableSize table = new TenantTableSize();
+                table.setDataSourceName(dataSourceName);
+                table.setTableName(tableColumn[0]);
+                table.setRowCount(countRows(conn, tableColumn[0], tableColumn[1], tenantId));
+                tables.add(table);
+            }
+        } catch (SQLException e) {
+            log.error("Error while counting the rows of tenant: " + tenantId + " in: " + dataSourceName, e);
+        }
+    }
+
+    /**
+     * Counts the rows of a tenant in a table.
+     *
+     * @return the number of rows, or -1 if they could not be counted, e.g. because the table does not exist.
+     */
+    private static long countRows(Connection conn, String table, String tenantColumn, int tenantId) {
+
+        String query = "SELECT COUNT(*) FROM " + table + " WHERE " + tenantColumn + " = ?";
+        try (PreparedStatement ps = conn.prepareStatement(query)) {
+            ps.setInt(1, tenantId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error executing query " + query + " for tenant: " + tenantId, e);
+            }
+            return -1;
+        }
+    }
+
+    private static void measureDirectory(int tenantId, TenantDeletionEstimate estimate) {
+
+        Path tenantDir = Paths.get(CarbonUtils.getCarbonTenantsDirPath(), Integer.toString(tenantId));
+        if (!Files.isDirectory(tenantDir)) {
+            return;
+        }
+        long[] sizeAndCount = new long[2];
+        try {
+            Files.walkFileTree(tenantDir, new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+                    sizeAndCount[0] += attrs.size();
+                    sizeAndCount[1]++;
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.error("Error while measuring the tenant directory: " + tenantDir, e);
+        }
+        estimate.setDirectorySize(sizeAndCount[0]);
+        estimate.setDirectoryFileCount(sizeAndCount[1]);
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateBus;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.registry.core.Collection;
+import org.wso2.carbon.registry.core.RegistryConstants;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.registry.core.exceptions.RegistryException;
+import org.wso2.carbon.registry.core.session.UserRegistry;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.beans.TenantDeletionEstimate;
+import org.wso2.carbon.tenant.mgt.beans.TenantJobStatus;
+import org.wso2.carbon.tenant.mgt.core.LazyTenantInitializer;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deletes a tenant phase by phase. Each completed phase is recorded in a checkpoint kept in the super tenant
+ * governance registry, so that a deletion which failed or was interrupted by a restart resumes from the first
+ * phase which has not completed, instead of starting from scratch.
+ */
+public class TenantDeletionJob implements TenantJobManager.TenantJob {
+
+    private static final Log log = LogFactory.getLog(TenantDeletionJob.class);
+
+    private static final String CHECKPOINT_COLLECTION_PATH =
+            "/repository/components/org.wso2.carbon.tenant.mgt/tenant-deletion";
+    private static final String TENANT_DOMAIN_PROPERTY = "tenantDomain";
+    private static final String TENANT_UUID_PROPERTY = "tenantUuid";
+    private static final String ADMIN_USER_UUID_PROPERTY = "adminUserUuid";
+    private static final String COMPLETED_PHASES_PROPERTY = "completedPhases";
+
+    private static final Set<Integer> tenantsBeingDeleted = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Phases of a tenant deletion, in the order they are executed.
+     */
+    public enum Phase {
+        PRE_DELETE_LISTENERS,
+        WORKER_NODES,
+        BILLING_DATA,
+        CLAIMS,
+        CONFIGURATIONS,
+        REGISTRY_DATA,
+        TENANT_DIRECTORY,
+        USER_STORE,
+        POST_DELETE_LISTENERS
+    }
+
+    private final int tenantId;
+    private final String tenantDomain;
+    private final String tenantUuid;
+    private final String adminUserUuid;
+    private final EnumSet<Phase> completedPhases;
+
+    TenantDeletionJob(int tenantId, String tenantDomain, String tenantUuid, String adminUserUuid,
+                      EnumSet<Phase> completedPhases) {
+
+        this.tenantId = tenantId;
+        this.tenantDomain = tenantDomain;
+        this.tenantUuid = tenantUuid;
+        this.adminUserUuid = adminUserUuid;
+        this.completedPhases = completedPhases;
+    }
+
+    /**
+     * Create the deletion job of a tenant and record its initial checkpoint.
+     *
+     * @param tenantId      id of the tenant.
+     * @param tenantDomain  domain of the tenant.
+     * @param tenantUuid    unique id of the tenant.
+     * @param adminUserUuid unique id of the tenant admin user.
+     * @return deletion job of the tenant.
+     * @throws TenantManagementServerException if the checkpoint could not be recorded.
+     */
+    public static TenantDeletionJob create(int tenantId, String tenantDomain, String tenantUuid,
+                                           String adminUserUuid) throws TenantManagementServerException {
+
+        TenantDeletionJob job = new TenantDeletionJob(tenantId, tenantDomain, tenantUuid, adminUserUuid,
+                EnumSet.noneOf(Phase.class));
+        job.saveCheckpoint();
+        return job;
+    }
+
+    /**
+     * Get the deletion job of a tenant by its domain, from its checkpoint. This finds the deletions which have already
+     * removed the tenant from the user store, where the domain no longer resolves to the tenant id.
+     *
+     * @param tenantDomain domain of the tenant.
+     * @return deletion job of the tenant, or null if there is no checkpoint for the tenant.
+     * @throws TenantManagementServerException if the checkpoints could not be read.
+     */
+    public static TenantDeletionJob loadPending(String tenantDomain) throws TenantManagementServerException {
+
+        for (TenantDeletionJob job : loadPending()) {
+            if (tenantDomain.equalsIgnoreCase(job.getTenantDomain())) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the deletion jobs of all the tenants with a checkpoint, i.e. the deletions which have not completed.
+     *
+     * @return pending deletion jobs.
+     * @throws TenantManagementServerException if the checkpoints could not be read.
+     */
+    public static List<TenantDeletionJob> loadPending() throws TenantManagementServerException {
+
+        try {
+            UserRegistry systemRegistry = getSystemRegistry();
+            if (!systemRegistry.resourceExists(CHECKPOINT_COLLECTION_PATH)) {
+                return Collections.emptyList();
+            }
+            Collection checkpoints = (Collection) systemRegistry.get(CHECKPOINT_COLLECTION_PATH);
+            List<TenantDeletionJob> jobs = new ArrayList<>();
+            for (String checkpointPath : checkpoints.getChildren()) {
+                String tenantIdStr = checkpointPath.substring(
+                        checkpointPath.lastIndexOf(RegistryConstants.PATH_SEPARATOR) + 1);
+                try {
+                    jobs.add(fromCheckpoint(Integer.parseInt(tenantIdStr), systemRegistry.get(checkpointPath)));
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring the invalid tenant deletion checkpoint: " + checkpointPath);
+                }
+            }
+            return jobs;
+        } catch (RegistryException e) {
+            throw new TenantManagementServerException("Error while reading the tenant deletion checkpoints.", e);
+        }
+    }
+
+    @Override
+    public void execute(TenantJobStatus jobStatus) throws Exception {
+
+        if (!tenantsBeingDeleted.add(tenantId)) {
+            throw new TenantManagementServerException("Tenant: " + tenantDomain + " is already being deleted.");
+        }
+        try {
+            TenantDeletionLock lock = createLock();
+            if (!lock.acquire()) {
+                throw new TenantManagementServerException("Tenant: " + tenantDomain +
+                        " is already being deleted by another node.");
+            }
+            try {
+                for (Phase phase : Phase.values()) {
+                    if (completedPhases.contains(phase)) {
+                        continue;
+                    }
+                    if (!lock.isHeld()) {
+                        throw new TenantManagementServerException("Deletion of tenant: " + tenantDomain +
+                                " has been taken over by another node before the phase: " + phase);
+                    }
+                    updateProgress(jobStatus, phase);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Executing the deletion phase: " + phase + " of tenant: " + tenantDomain);
+                    }
+                    executePhase(phase);
+                    completedPhases.add(phase);
+                    saveCheckpoint();
+                }
+                updateProgress(jobStatus, null);
+                removeCheckpoint();
+            } finally {
+                lock.release();
+            }
+        } finally {
+            tenantsBeingDeleted.remove(tenantId);
+        }
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public String getTenantUuid() {
+
+        return tenantUuid;
+    }
+
+    /**
+     * Get the completed phases of the deletion.
+     *
+     * @return completed phases.
+     */
+    public Set<Phase> getCompletedPhases() {
+
+        return Collections.unmodifiableSet(completedPhases);
+    }
+
+    TenantDeletionLock createLock() throws TenantManagementServerException {
+
+        return TenantDeletionLock.forTenant(tenantId);
+    }
+
+    void executePhase(Phase phase) throws Exception {
+
+        switch (phase) {
+            case PRE_DELETE_LISTENERS:
+                TenantMgtUtil.triggerPreTenantDeleteIfEnabled(tenantId);
+                break;
+            case WORKER_NODES:
+                TenantMgtUtil.deleteWorkernodesTenant(tenantId);
+                break;
+            case BILLING_DATA:
+                if (TenantMgtServiceComponent.getBillingService() != null) {
+                    TenantMgtServiceComponent.getBillingService().deleteBillingData(tenantId);
+                }
+                break;
+            case CLAIMS:
+                TenantMgtUtil.removeAllClaims(tenantId);
+                break;
+            case CONFIGURATIONS:
+                TenantMgtUtil.unloadTenantConfigurations(tenantDomain, tenantId);
+                break;
+            case REGISTRY_DATA:
+                LazyTenantInitializer.removePending(tenantId);
+                startTracking();
+                try {
+                    TenantMgtUtil.deleteTenantRegistryData(tenantId);
+                } finally {
+                    TenantDeletionTracker.stop(tenantId);
+                }
+                break;
+            case TENANT_DIRECTORY:
+                TenantMgtUtil.deleteTenantDir(tenantId);
+                break;
+            case USER_STORE:
+                TenantMgtServiceComponent.getTenantManager().deleteTenant(tenantId);
+                TenantInfoBeanCache.getInstance().clearCacheEntry(tenantDomain);
+                // The domain is kept in the checkpoint, as it no longer resolves once the tenant is deleted.
+                TenantStateBus.publish(tenantId, TenantStateChange.Type.DELETED, tenantDomain);
+                log.info(String.format("Deleted tenant with domain: %s and tenant id: %d from the system.",
+                        tenantDomain, tenantId));
+                break;
+            case POST_DELETE_LISTENERS:
+                TenantMgtUtil.triggerPostTenantDelete(tenantId, tenantUuid, adminUserUuid);
+                break;
+            default:
+                throw new IllegalStateException("Unknown tenant deletion phase: " + phase);
+        }
+    }
+
+    /**
+     * Estimates the data of the tenant to track the progress of purging it, and to choose whether it is purged in
+     * chunks. The tenant is purged without tracking if the estimation fails.
+     */
+    private void startTracking() {
+
+        try {
+            TenantDeletionEstimate estimate = TenantDeletionEstimator.estimate(tenantId, tenantDomain);
+            log.info(String.format("Purging %d rows of tenant: %s. Estimated duration: %d ms, chunk size: %d.",
+                    estimate.getTotalRowCount(), tenantDomain, estimate.getEstimatedDurationMillis(),
+                    estimate.getChunkSize()));
+            TenantDeletionTracker.start(estimate);
+        } catch (Exception e) {
+            log.error("Error while estimating the data of tenant: " + tenantDomain, e);
+        }
+    }
+
+    private void updateProgress(TenantJobStatus jobStatus, Phase currentPhase) {
+
+        if (jobStatus == null) {
+            return;
+        }
+        synchronized (jobStatus) {
+            jobStatus.setCurrentPhase(currentPhase == null ? null : currentPhase.name());
+            jobStatus.setCompletedPhases(completedPhases.size());
+            jobStatus.setTotalPhases(Phase.values().length);
+        }
+    }
+
+    void saveCheckpoint() throws TenantManagementServerException {
+
+        try {
+            UserRegistry systemRegistry = getSystemRegistry();
+            Resource resource = systemRegistry.newResource();
+            resource.setProperty(TENANT_DOMAIN_PROPERTY, tenantDomain);
+            resource.setProperty(TENANT_UUID_PROPERTY, tenantUuid);
+            resource.setProperty(ADMIN_USER_UUID_PROPERTY, adminUserUuid);
+            List<String> phases = new ArrayList<>();
+            for (Phase phase : completedPhases) {
+                phases.add(phase.name());
+            }
+            resource.setProperty(COMPLETED_PHASES_PROPERTY, phases);
+            systemRegistry.put(getCheckpointPath(tenantId), resource);
+        } catch (RegistryException e) {
+            throw new TenantManagementServerException("Error while recording the deletion checkpoint of tenant: " +
+                    tenantDomain, e);
+        }
+    }
+
+    void removeCheckpoint() {
+
+        try {
+            getSystemRegistry().delete(getCheckpointPath(tenantId));
+        } catch (RegistryException e) {
+            // All the phases are recorded as completed, hence resuming from the checkpoint only removes it.
+            log.error("Error while removing the deletion checkpoint of tenant: " + tenantDomain, e);
+        }
+    }
+
+    private static TenantDeletionJob fromCheckpoint(int tenantId, Resource resource) {
+
+        EnumSet<Phase> completedPhases = EnumSet.noneOf(Phase.class);
+        List<String> phases = resource.getPropertyValues(COMPLETED_PHASES_PROPERTY);
+        if (phases != null) {
+            for (String phase : phases) {
+                try {
+                    completedPhases.add(Phase.valueOf(phase));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring the unknown deletion phase: " + phase + " of tenant: " + tenantId);
+                }
+            }
+        }
+        return new TenantDeletionJob(tenantId, resource.getProperty(TENANT_DOMAIN_PROPERTY),
+                resource.getProperty(TENANT_UUID_PROPERTY), resource.getProperty(ADMIN_USER_UUID_PROPERTY),
+                completedPhases);
+    }
+
+    private static String getCheckpointPath(int tenantId) {
+
+        return CHECKPOINT_COLLECTION_PATH + RegistryConstants.PATH_SEPARATOR + tenantId;
+    }
+
+    private static UserRegistry getSystemRegistry() throws RegistryException {
+
+        return TenantMgtServiceComponent.getRegistryService().getGovernanceSystemRegistry();
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.description.Parameter;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.utils.CarbonUtils;
+import org.wso2.carbon.utils.NetworkUtils;
+
+import java.net.SocketException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+/**
+ * Cluster wide lease of the deletion of a tenant, so that a deletion is executed by a single node when all the nodes
+ * resume the pending deletions on startup. The lease is a row of the UM_TENANT_DELETION_LOCK table in the user store
+ * database, keyed by the tenant id:
+ * <ul>
+ * <li>A node takes a free lease by inserting the row, which fails on the primary key if another node inserted it.</li>
+ * <li>A node takes over a lease which expired, or which it held before a restart, with an update conditional on the
+ * expiry time or the owner, which only one of the competing nodes can make.</li>
+ * <li>The owner renews the lease from a heartbeat, with an update conditional on the owner, so that it notices when
+ * another node has taken the lease over.</li>
+ * </ul>
+ * Nodes are identified by the 'Tenant.TenantDelete.NodeId' property of carbon.xml, or otherwise by the local member
+ * of the cluster, or the host name and the server home. The lease expires if it is not renewed within the number of
+ * seconds in the 'Tenant.TenantDelete.LockTimeout' property. The table is created when it does not exist.
+ */
+public class TenantDeletionLock {
+
+    private static final Log log = LogFactory.getLog(TenantDeletionLock.class);
+
+    private static final String NODE_ID_PROPERTY = "Tenant.TenantDelete.NodeId";
+    private static final String LOCK_TIMEOUT_PROPERTY = "Tenant.TenantDelete.LockTimeout";
+    private static final int DEFAULT_LOCK_TIMEOUT = 300;
+    private static final int MAX_OWNER_LENGTH = 255;
+    // The lease is renewed three times within the timeout, so that a single failed renewal does not lose it.
+    private static final int RENEWALS_PER_TIMEOUT = 3;
+
+    private static final String CHECK_TABLE_SQL = "SELECT UM_TENANT_ID FROM UM_TENANT_DELETION_LOCK WHERE 1 = 0";
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE UM_TENANT_DELETION_LOCK (" +
+            "UM_TENANT_ID INTEGER NOT NULL, UM_OWNER VARCHAR(255) NOT NULL, UM_EXPIRY_TIME NUMERIC(19) NOT NULL, " +
+            "PRIMARY KEY (UM_TENANT_ID))";
+    private static final String INSERT_LOCK_SQL =
+            "INSERT INTO UM_TENANT_DELETION_LOCK (UM_TENANT_ID, UM_OWNER, UM_EXPIRY_TIME) VALUES (?, ?, ?)";
+    private static final String TAKE_OVER_LOCK_SQL = "UPDATE UM_TENANT_DELETION_LOCK SET UM_OWNER = ?, " +
+            "UM_EXPIRY_TIME = ? WHERE UM_TENANT_ID = ? AND (UM_OWNER = ? OR UM_EXPIRY_TIME < ?)";
+    private static final String RENEW_LOCK_SQL = "UPDATE UM_TENANT_DELETION_LOCK SET UM_EXPIRY_TIME = ? " +
+            "WHERE UM_TENANT_ID = ? AND UM_OWNER = ?";
+    private static final String RELEASE_LOCK_SQL =
+            "DELETE FROM UM_TENANT_DELETION_LOCK WHERE UM_TENANT_ID = ? AND UM_OWNER = ?";
+
+    private static volatile String nodeId = null;
+    private static volatile boolean tableChecked = false;
+
+    private final int tenantId;
+    private final String owner;
+    private final DataSource dataSource;
+    private final long timeoutMillis;
+    private volatile boolean held = false;
+    private volatile ScheduledFuture<?> heartbeat = null;
+
+    TenantDeletionLock(int tenantId, String owner, DataSource dataSource, long timeoutMillis) {
+
+        this.tenantId = tenantId;
+        this.owner = StringUtils.right(owner, MAX_OWNER_LENGTH);
+        this.dataSource = dataSource;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Get the lock of the deletion of a tenant, owned by this node.
+     *
+     * @param tenantId id of the tenant.
+     * @return the lock, which is not taken yet.
+     * @throws TenantManagementServerException if the user store data source could not be resolved.
+     */
+    public static TenantDeletionLock forTenant(int tenantId) throws TenantManagementServerException {
+
+        return new TenantDeletionLock(tenantId, getNodeId(), TenantListingUtil.getDataSource(),
+                TimeUnit.SECONDS.toMillis(
+                        TenantCoreUtil.getPositiveIntProperty(LOCK_TIMEOUT_PROPERTY, DEFAULT_LOCK_TIMEOUT)));
+    }
+
+    /**
+     * Take the lock, and renew it from a heartbeat until it is released.
+     *
+     * @return true if the lock was taken, or false if another node holds it.
+     * @throws TenantManagementServerException if the lock could not be read or written.
+     */
+    public boolean acquire() throws TenantManagementServerException {
+
+        if (!tryAcquire()) {
+            return false;
+        }
+        long renewalInterval = Math.max(1, timeoutMillis / RENEWALS_PER_TIMEOUT);
+        try {
+            heartbeat = TenantJobManager.scheduleWithFixedDelay(this::renewFromHeartbeat, renewalInterval,
+                    TimeUnit.MILLISECONDS);
+        } catch (TenantManagementServerException e) {
+            release();
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Check whether this node still holds the lock, i.e. it has been taken and no renewal found it taken over by
+     * another node.
+     *
+     * @return true if the lock is held.
+     */
+    public boolean isHeld() {
+
+        return held;
+    }
+
+    /**
+     * Stop renewing the lock and release it, unless another node has taken it over.
+     */
+    public void release() {
+
+        ScheduledFuture<?> currentHeartbeat = heartbeat;
+        if (currentHeartbeat != null) {
+            currentHeartbeat.cancel(false);
+            heartbeat = null;
+        }
+        if (!held) {
+            return;
+        }
+        held = false;
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(RELEASE_LOCK_SQL)) {
+            ps.setInt(1, tenantId);
+            ps.setString(2, owner);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            // The lock expires after the configured timeout.
+            log.error("Error while releasing the deletion lock of tenant: " + tenantId, e);
+        }
+    }
+
+    boolean tryAcquire() throws TenantManagementServerException {
+
+        long expiryTime = System.currentTimeMillis() + timeoutMillis;
+        try (Connection conn = getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement(INSERT_LOCK_SQL)) {
+                ps.setInt(1, tenantId);
+                ps.setString(2, owner);
+                ps.setLong(3, expiryTime);
+                ps.executeUpdate();
+                held = true;
+                return true;
+            } catch (SQLException e) {
+                // The row exists, unless the insert failed for another reason, which then fails the update too.
+                if (log.isDebugEnabled()) {
+                    log.debug("Deletion lock of tenant: " + tenantId + " exists. Trying to take it over.", e);
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement(TAKE_OVER_LOCK_SQL)) {
+                ps.setString(1, owner);
+                ps.setLong(2, expiryTime);
+                ps.setInt(3, tenantId);
+                ps.setString(4, owner);
+                ps.setLong(5, System.currentTimeMillis());
+                held = ps.executeUpdate() == 1;
+                return held;
+            }
+        } catch (SQLException e) {
+            throw new TenantManagementServerException("Error while taking the deletion lock of tenant: " + tenantId,
+                    e);
+        }
+    }
+
+    /**
+     * Extend the lock, if this node still holds it.
+     *
+     * @return true if the lock was extended, or false if another node has taken it over.
+     * @throws SQLException if the lock could not be written.
+     */
+    boolean renew() throws SQLException {
+
+        if (!held) {
+            return false;
+        }
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(RENEW_LOCK_SQL)) {
+            ps.setLong(1, System.currentTimeMillis() + timeoutMillis);
+            ps.setInt(2, tenantId);
+            ps.setString(3, owner);
+            held = ps.executeUpdate() == 1;
+            return held;
+        }
+    }
+
+    private void renewFromHeartbeat() {
+
+        try {
+            if (!renew()) {
+                log.error("Deletion lock of tenant: " + tenantId + " has been taken over by another node.");
+                ScheduledFuture<?> currentHeartbeat = heartbeat;
+                if (currentHeartbeat != null) {
+                    currentHeartbeat.cancel(false);
+                }
+            }
+        } catch (SQLException e) {
+            // The lock is renewed again before it expires.
+            log.error("Error while renewing the deletion lock of tenant: " + tenantId, e);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while renewing the deletion lock of tenant: " + tenantId, e);
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+
+        Connection conn = dataSource.getConnection();
+        try {
+            conn.setAutoCommit(true);
+            ensureTable(conn);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        return conn;
+    }
+
+    private static void ensureTable(Connection conn) throws SQLException {
+
+        if (tableChecked) {
+            return;
+        }
+        synchronized (TenantDeletionLock.class) {
+            if (tableChecked) {
+                return;
+            }
+            try (Statement statement = conn.createStatement()) {
+                statement.executeQuery(CHECK_TABLE_SQL).close();
+            } catch (SQLException e) {
+                try (Statement statement = conn.createStatement()) {
+                    statement.executeUpdate(CREATE_TABLE_SQL);
+                    log.info("Created the UM_TENANT_DELETION_LOCK table.");
+                } catch (SQLException createError) {
+                    // Another node may have created the table in the meantime.
+                    try (Statement statement = conn.createStatement()) {
+                        statement.executeQuery(CHECK_TABLE_SQL).close();
+                    } catch (SQLException checkError) {
+                        createError.addSuppressed(checkError);
+                        throw createError;
+                    }
+                }
+            }
+            tableChecked = true;
+        }
+    }
+
+    private static String getNodeId() {
+
+        String currentNodeId = nodeId;
+        if (currentNodeId == null) {
+            currentNodeId = resolveNodeId();
+            nodeId = currentNodeId;
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant deletion locks are owned by the node: " + currentNodeId);
+            }
+        }
+        return currentNodeId;
+    }
+
+    private static String resolveNodeId() {
+
+        String configuredNodeId = ServerConfiguration.getInstance().getFirstProperty(NODE_ID_PROPERTY);
+        if (StringUtils.isNotBlank(configuredNodeId)) {
+            return configuredNodeId.trim();
+        }
+        ConfigurationContext configContext = TenantMgtServiceComponent.getConfigurationContext();
+        ClusteringAgent agent = configContext != null ? configContext.getAxisConfiguration().getClusteringAgent() :
+                null;
+        if (agent != null) {
+            Parameter memberHost = agent.getParameter("localMemberHost");
+            Parameter memberPort = agent.getParameter("localMemberPort");
+            if (memberHost != null && memberPort != null) {
+                return memberHost.getValue() + ":" + memberPort.getValue();
+            }
+        }
+        try {
+            return NetworkUtils.getLocalHostname() + ":" + CarbonUtils.getCarbonHome();
+        } catch (SocketException e) {
+            log.warn("Error while resolving the host name. Tenant deletion locks are owned by the server home.", e);
+            return CarbonUtils.getCarbonHome();
+        }
+    }
+}
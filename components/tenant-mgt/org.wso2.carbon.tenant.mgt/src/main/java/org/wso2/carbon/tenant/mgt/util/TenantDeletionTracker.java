@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.wso2.carbon.tenant.mgt.beans.TenantDeletionEstimate;
+import org.wso2.carbon.tenant.mgt.beans.TenantDeletionProgress;
+import org.wso2.carbon.tenant.mgt.beans.TenantTableSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the rows deleted while the data of a tenant is purged, against the estimated size of the data, so that the
+ * progress of the purge can be queried while it runs. The user store tables of the estimate are not tracked, as
+ * they are purged by the tenant manager.
+ */
+public class TenantDeletionTracker {
+
+    private static final Map<Integer, TenantDeletionTracker> trackers = new ConcurrentHashMap<>();
+
+    private final TenantDeletionEstimate estimate;
+    private final Map<String, Long> estimatedRows = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> deletedRows = new ConcurrentHashMap<>();
+    private final AtomicLong totalDeletedRows = new AtomicLong();
+    private final long totalEstimatedRows;
+    private final long startTime = System.currentTimeMillis();
+
+    private TenantDeletionTracker(TenantDeletionEstimate estimate) {
+
+        this.estimate = estimate;
+        long totalRows = 0;
+        for (TenantTableSize table : estimate.getTables()) {
+            if (TenantDeletionEstimator.USER_STORE_DATA_SOURCE.equals(table.getDataSourceName()) ||
+                    table.getRowCount() < 0) {
+                continue;
+            }
+            estimatedRows.merge(table.getTableName(), table.getRowCount(), Long::sum);
+            deletedRows.put(table.getTableName(), new AtomicLong());
+            totalRows += table.getRowCount();
+        }
+        this.totalEstimatedRows = totalRows;
+    }
+
+    /**
+     * Start tracking the purge of the data of a tenant.
+     *
+     * @param estimate estimated size of the data of the tenant.
+     * @return the tracker.
+     */
+    public static TenantDeletionTracker start(TenantDeletionEstimate estimate) {
+
+        TenantDeletionTracker tracker = new TenantDeletionTracker(estimate);
+        trackers.put(estimate.getTenantId(), tracker);
+        return tracker;
+    }
+
+    /**
+     * Stop tracking the purge of the data of a tenant.
+     *
+     * @param tenantId id of the tenant.
+     */
+    public static void stop(int tenantId) {
+
+        trackers.remove(tenantId);
+    }
+
+    /**
+     * Get the tracker of a tenant.
+     *
+     * @param tenantId id of the tenant.
+     * @return the tracker, or null if the data of the tenant is not being purged.
+     */
+    public static TenantDeletionTracker get(int tenantId) {
+
+        return trackers.get(tenantId);
+    }
+
+    /**
+     * Get the chunk size chosen for the purge.
+     *
+     * @return the chunk size, or 0 if the rows are not deleted in chunks.
+     */
+    public int getChunkSize() {
+
+        return estimate.isChunked() ? estimate.getChunkSize() : 0;
+    }
+
+    /**
+     * Record rows deleted from a table.
+     *
+     * @param tableName   name of the table.
+     * @param deletedRows number of rows deleted.
+     */
+    public void recordDeletedRows(String tableName, long deletedRows) {
+
+        this.deletedRows.computeIfAbsent(tableName, key -> new AtomicLong()).addAndGet(deletedRows);
+        totalDeletedRows.addAndGet(deletedRows);
+    }
+
+    /**
+     * Get the current progress of the purge.
+     *
+     * @return the progress.
+     */
+    public TenantDeletionProgress getProgress() {
+
+        TenantDeletionProgress progress = new TenantDeletionProgress();
+        progress.setTenantDomain(estimate.getTenantDomain());
+        progress.setTenantId(estimate.getTenantId());
+
+        Map<String, Long> deletedRowsSnapshot = new LinkedHashMap<>();
+        for (String tableName : estimatedRows.keySet()) {
+            deletedRowsSnapshot.put(tableName, 0L);
+        }
+        for (Map.Entry<String, AtomicLong> table : deletedRows.entrySet()) {
+            deletedRowsSnapshot.put(table.getKey(), table.getValue().get());
+        }
+        TenantTableSize[] tables = new TenantTableSize[deletedRowsSnapshot.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> table : deletedRowsSnapshot.entrySet()) {
+            TenantTableSize tableSize = new TenantTableSize();
+            tableSize.setTableName(table.getKey());
+            tableSize.setRowCount(estimatedRows.getOrDefault(table.getKey(), 0L));
+            tableSize.setDeletedRowCount(table.getValue());
+            tables[i++] = tableSize;
+        }
+        progress.setTables(tables);
+
+        long deleted = totalDeletedRows.get();
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        progress.setTotalRowCount(totalEstimatedRows);
+        progress.setDeletedRowCount(deleted);
+        progress.setElapsedMillis(elapsedMillis);
+        if (elapsedMillis > 0 && deleted > 0) {
+            double rowsPerSecond = deleted * 1000d / elapsedMillis;
+            progress.setRowsPerSecond(rowsPerSecond);
+            progress.setEstimatedRemainingMillis(
+                    (long) (Math.max(0, totalEstimatedRows - deleted) * 1000d / rowsPerSecond));
+        } else {
+            progress.setEstimatedRemainingMillis(estimate.getEstimatedDurationMillis());
+        }
+        return progress;
+    }
+}
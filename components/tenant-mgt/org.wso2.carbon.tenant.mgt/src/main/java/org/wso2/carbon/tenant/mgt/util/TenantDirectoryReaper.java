@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Removes the directories of deleted tenants in the background. The directory of a tenant is first moved into a
+ * trash directory under the tenants directory, which is quick, and then deleted by a bounded pool of threads. Any
+ * directory left in the trash, e.g. by a server shutdown, is deleted when the reaper is started.
+ */
+public class TenantDirectoryReaper {
+
+    private static final Log log = LogFactory.getLog(TenantDirectoryReaper.class);
+
+    private static final String TRASH_DIRECTORY_NAME = ".trash";
+    private static final String POOL_SIZE_PROPERTY = "Tenant.TenantDelete.DirectoryReaperPoolSize";
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static ExecutorService executor = null;
+
+    /**
+     * Starts the thread pool which deletes the directories, and submits the directories left in the trash.
+     */
+    public static synchronized void start() {
+
+        if (executor != null) {
+            return;
+        }
+        int poolSize = TenantCoreUtil.getPositiveIntProperty(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE);
+        executor = Executors.newFixedThreadPool(poolSize, new TenantDirectoryReaperThreadFactory());
+        Path trashDir = getTrashDir();
+        if (!Files.isDirectory(trashDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> trashedDirs = Files.newDirectoryStream(trashDir)) {
+            for (Path trashedDir : trashedDirs) {
+                log.info("Removing the leftover tenant directory: " + trashedDir);
+                reap(trashedDir);
+            }
+        } catch (IOException e) {
+            log.error("Error while listing the tenant directories in the trash: " + trashDir, e);
+        }
+    }
+
+    /**
+     * Stops the thread pool. Directories which are not deleted yet remain in the trash and are deleted on the next
+     * start.
+     */
+    public static synchronized void stop() {
+
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Tenant directory removal did not stop within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Remove the directory of a tenant. The directory is moved into the trash and deleted in the background. If it
+     * cannot be moved, it is deleted before returning.
+     *
+     * @param tenantId id of the tenant.
+     */
+    public static void removeTenantDir(int tenantId) {
+
+        Path tenantDir = Paths.get(CarbonUtils.getCarbonTenantsDirPath(), Integer.toString(tenantId));
+        if (!Files.exists(tenantDir)) {
+            return;
+        }
+        Path trashedDir = getTrashDir().resolve(tenantId + "-" + System.currentTimeMillis());
+        try {
+            Files.createDirectories(trashedDir.getParent());
+            Files.move(tenantDir, trashedDir, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Error while moving the tenant directory: " + tenantDir + " into the trash. Hence " +
+                    "deleting it in place.", e);
+            deleteRecursively(tenantDir);
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Moved the directory of tenant: " + tenantId + " to: " + trashedDir);
+        }
+        reap(trashedDir);
+    }
+
+    private static void reap(Path trashedDir) {
+
+        ExecutorService reaperExecutor = executor;
+        if (reaperExecutor == null) {
+            // Left in the trash, to be deleted on the next start.
+            log.warn("Tenant directory reaper is not started. Hence " + trashedDir + " is not deleted.");
+            return;
+        }
+        try {
+            reaperExecutor.execute(() -> deleteRecursively(trashedDir));
+        } catch (RejectedExecutionException e) {
+            log.warn("Error while submitting the removal of " + trashedDir + ". It will be deleted on the next " +
+                    "start.", e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                    Files.delete(file);
+                    return Thread.currentThread().isInterrupted() ? FileVisitResult.TERMINATE :
+                            FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+
+                    if (e != null) {
+                        throw e;
+                    }
+                    Files.delete(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            if (log.isDebugEnabled()) {
+                log.debug("Deleted the tenant directory: " + dir);
+            }
+        } catch (IOException e) {
+            log.error("Error in deleting tenant directory: " + dir, e);
+        }
+    }
+
+    private static Path getTrashDir() {
+
+        return Paths.get(CarbonUtils.getCarbonTenantsDirPath(), TRASH_DIRECTORY_NAME);
+    }
+
+    private static class TenantDirectoryReaperThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "TenantDirectoryReaper-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }
+    }
+}
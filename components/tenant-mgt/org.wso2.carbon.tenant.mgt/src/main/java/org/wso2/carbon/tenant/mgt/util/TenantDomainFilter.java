@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.TenantStateListener;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.user.api.Tenant;
+import org.wso2.carbon.user.api.UserStoreException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of the existing tenant domains, used to answer domain availability checks without querying the user
+ * store. A domain which is not in the filter is definitely not taken, while a domain which may be in the filter has
+ * to be checked against the user store. The filter is loaded once the server has started and kept current through
+ * the tenant creations and renames of the cluster. Deleted domains are left in the filter, as they only cause a
+ * fall through to the user store, and the filter is reloaded once more domains are added than it was sized for.
+ * The domains are loaded from the UM_TENANT table when the tenants are stored by the JDBC tenant manager, and through
+ * the tenant manager API otherwise.
+ */
+public class TenantDomainFilter implements TenantStateListener {
+
+    private static final Log log = LogFactory.getLog(TenantDomainFilter.class);
+
+    private static final String COUNT_DOMAINS_SQL = "SELECT COUNT(*) FROM UM_TENANT";
+    private static final String LOAD_DOMAINS_SQL = "SELECT UM_DOMAIN_NAME FROM UM_TENANT";
+    private static final int LOAD_FETCH_SIZE = 1000;
+    private static final int MIN_EXPECTED_DOMAINS = 1024;
+    // 10 bits per domain with 7 hash functions gives a false positive rate of about 1%.
+    private static final int BITS_PER_DOMAIN = 10;
+    private static final int HASH_COUNT = 7;
+
+    private static final TenantDomainFilter instance = new TenantDomainFilter();
+
+    private volatile BloomFilter filter = null;
+    private volatile BloomFilter loadingFilter = null;
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    TenantDomainFilter() {
+
+    }
+
+    public static TenantDomainFilter getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Check whether a tenant domain may exist.
+     *
+     * @param tenantDomain tenant domain.
+     * @return false if the domain definitely does not exist, true if it may exist or the filter is not loaded yet.
+     */
+    public boolean mightContain(String tenantDomain) {
+
+        BloomFilter currentFilter = filter;
+        return currentFilter == null || tenantDomain == null || currentFilter.mightContain(tenantDomain);
+    }
+
+    /**
+     * Check whether more domains were added to the filter than it was sized for, in which case it is being reloaded.
+     *
+     * @return true if the filter is saturated, false if it is not or the filter is not loaded yet.
+     */
+    boolean isSaturated() {
+
+        BloomFilter currentFilter = filter;
+        return currentFilter != null && currentFilter.isSaturated();
+    }
+
+    /**
+     * Add a tenant domain to the filter.
+     *
+     * @param tenantDomain tenant domain.
+     */
+    public void add(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        // The loading filter is read first, as it replaces the current filter before it is cleared.
+        BloomFilter newFilter = loadingFilter;
+        BloomFilter currentFilter = filter;
+        if (newFilter != null) {
+            newFilter.add(tenantDomain);
+        }
+        if (currentFilter != null) {
+            currentFilter.add(tenantDomain);
+            if (currentFilter.isSaturated()) {
+                loadAsync();
+            }
+        }
+    }
+
+    /**
+     * Load the filter from the user store in the background, unless it is already being loaded.
+     */
+    public void loadAsync() {
+
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "TenantDomainFilterLoader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @Override
+    public void onTenantStateChange(List<TenantStateChange> changes) {
+
+        for (TenantStateChange change : changes) {
+            if (change.getType() != TenantStateChange.Type.CREATED &&
+                    change.getType() != TenantStateChange.Type.RENAMED) {
+                continue;
+            }
+            try {
+                add(TenantMgtServiceComponent.getTenantManager().getDomain(change.getTenantId()));
+            } catch (UserStoreException e) {
+                // The domain is checked against the user store until the filter is reloaded.
+                log.error("Error while resolving the domain of tenant: " + change.getTenantId() +
+                        ". Hence the domain availability checks fall back to the user store.", e);
+                filter = null;
+                loadAsync();
+            }
+        }
+    }
+
+    void load() {
+
+        long startTime = System.currentTimeMillis();
+        boolean saturated = false;
+        try {
+            BloomFilter newFilter = loadsFromDatabase() ? loadFromDatabase() : loadFromTenantManager();
+            filter = newFilter;
+            saturated = newFilter.isSaturated();
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + newFilter.size() + " tenant domains into the domain filter in " +
+                        (System.currentTimeMillis() - startTime) + " ms.");
+            }
+        } catch (SQLException | TenantManagementServerException | UserStoreException e) {
+            log.error("Error while loading the tenant domain filter. Hence the domain availability checks fall " +
+                    "back to the user store.", e);
+        } finally {
+            loadingFilter = null;
+            loading.set(false);
+        }
+        if (saturated) {
+            // The filter was sized for fewer domains than it holds, e.g. by the previous filter.
+            loadAsync();
+        }
+    }
+
+    /**
+     * Check whether the domains are loaded from the UM_TENANT table, which is the case only when the tenants are
+     * stored by the JDBC tenant manager.
+     *
+     * @return true if the domains are loaded from the database.
+     */
+    boolean loadsFromDatabase() {
+
+        return TenantListingUtil.isJDBCTenantManager();
+    }
+
+    /**
+     * Get a connection to the user store database, from which the domains are loaded.
+     *
+     * @return database connection.
+     * @throws SQLException                    if the connection could not be opened.
+     * @throws TenantManagementServerException if the user store data source could not be resolved.
+     */
+    Connection getConnection() throws SQLException, TenantManagementServerException {
+
+        return TenantListingUtil.getDataSource().getConnection();
+    }
+
+    /**
+     * Get all the tenants through the tenant manager, from which the domains are loaded when the tenants are not
+     * stored by the JDBC tenant manager.
+     *
+     * @return all the tenants.
+     * @throws UserStoreException if the tenants could not be retrieved.
+     */
+    Tenant[] getAllTenants() throws UserStoreException {
+
+        return TenantMgtServiceComponent.getTenantManager().getAllTenants();
+    }
+
+    private BloomFilter loadFromDatabase() throws SQLException, TenantManagementServerException {
+
+        try (Connection conn = getConnection()) {
+            BloomFilter newFilter = new BloomFilter(Math.max(MIN_EXPECTED_DOMAINS, 2 * countDomains(conn)));
+            loadingFilter = newFilter;
+            try (PreparedStatement ps = conn.prepareStatement(LOAD_DOMAINS_SQL)) {
+                ps.setFetchSize(LOAD_FETCH_SIZE);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        newFilter.add(rs.getString(1));
+                    }
+                }
+            }
+            return newFilter;
+        }
+    }
+
+    private BloomFilter loadFromTenantManager() throws UserStoreException {
+
+        // The number of tenants is only known once they are retrieved, while the filter has to take the domains
+        // added meanwhile. Hence it is sized by the previous filter, and loaded again if that was too small.
+        BloomFilter currentFilter = filter;
+        int previousDomains = currentFilter != null ? currentFilter.size() : 0;
+        BloomFilter newFilter = new BloomFilter(Math.max(MIN_EXPECTED_DOMAINS, 2 * previousDomains));
+        loadingFilter = newFilter;
+        for (Tenant tenant : getAllTenants()) {
+            if (tenant.getDomain() != null) {
+                newFilter.add(tenant.getDomain());
+            }
+        }
+        return newFilter;
+    }
+
+    private static int countDomains(Connection conn) throws SQLException {
+
+        try (PreparedStatement ps = conn.prepareStatement(COUNT_DOMAINS_SQL);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int expectedDomains;
+        private final AtomicInteger domainCount = new AtomicInteger();
+
+        BloomFilter(int expectedDomains) {
+
+            this.expectedDomains = expectedDomains;
+            int words = (int) ((long) expectedDomains * BITS_PER_DOMAIN / Long.SIZE) + 1;
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * Long.SIZE;
+        }
+
+        void add(String domain) {
+
+            long hash = hash(domain);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long bit = Math.floorMod(hash1 + (long) i * hash2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value;
+                do {
+                    value = bits.get(word);
+                } while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask));
+            }
+            domainCount.incrementAndGet();
+        }
+
+        boolean mightContain(String domain) {
+
+            long hash = hash(domain);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long bit = Math.floorMod(hash1 + (long) i * hash2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int size() {
+
+            return domainCount.get();
+        }
+
+        boolean isSaturated() {
+
+            return domainCount.get() > expectedDomains;
+        }
+
+        /**
+         * 64 bit FNV-1a hash of the domain. Domains are hashed in lower case, so that a domain differing only by
+         * case is treated as possibly taken.
+         */
+        private static long hash(String domain) {
+
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : domain.toLowerCase(Locale.ENGLISH).getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
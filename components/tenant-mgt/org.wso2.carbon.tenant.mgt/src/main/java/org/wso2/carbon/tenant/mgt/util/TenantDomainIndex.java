@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.TenantStateListener;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.model.ExpressionOperation;
+import org.wso2.carbon.user.core.tenant.Tenant;
+import org.wso2.carbon.user.core.tenant.TenantSearchResult;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in memory index of the tenant domains, which serves the domain name filters (sw, ew, eq and co) of the
+ * tenant search without scanning the UM_TENANT table. Domains are kept sorted for the starts with searches, sorted in
+ * reverse for the ends with searches, and the tenants are posted under each trigram of their domain for the contains
+ * searches. The index is enabled with the 'Tenant.DomainIndex.Enabled' property in carbon.xml, loaded once the server
+ * has started, and kept current through the tenant creations, renames and deletions of the cluster. The domains are
+ * loaded from the UM_TENANT table when the tenants are stored by the JDBC tenant manager, and through the tenant
+ * manager API otherwise.
+ */
+public class TenantDomainIndex implements TenantStateListener {
+
+    private static final Log log = LogFactory.getLog(TenantDomainIndex.class);
+
+    private static final String ENABLED_PROPERTY = "Tenant.DomainIndex.Enabled";
+    private static final String LOAD_DOMAINS_SQL = "SELECT UM_ID, UM_DOMAIN_NAME FROM UM_TENANT";
+    private static final String DESC_SORT_ORDER = "DESC";
+    private static final String SORT_BY_DOMAIN_NAME = "UM_DOMAIN_NAME";
+    private static final int LOAD_FETCH_SIZE = 1000;
+    private static final int GRAM_LENGTH = 3;
+
+    private static final TenantDomainIndex instance = new TenantDomainIndex();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Integer> tenantIdsByDomain = new TreeMap<>();
+    private final Map<Integer, String> domainsByTenantId = new HashMap<>();
+    private final TreeSet<String> reversedDomains = new TreeSet<>();
+    private final Map<Long, TenantIdList> postings = new HashMap<>();
+
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private final List<TenantStateChange> changesWhileLoading = new ArrayList<>();
+    private volatile boolean ready = false;
+
+    TenantDomainIndex() {
+
+    }
+
+    public static TenantDomainIndex getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Check whether the index is enabled in carbon.xml.
+     *
+     * @return true if the index is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(ServerConfiguration.getInstance().getFirstProperty(ENABLED_PROPERTY));
+    }
+
+    /**
+     * Check whether the index is loaded and can serve searches.
+     *
+     * @return true if the index can serve searches.
+     */
+    public boolean isReady() {
+
+        return ready;
+    }
+
+    /**
+     * Load the index from the user store in the background, unless it is disabled or already being loaded.
+     */
+    public void loadAsync() {
+
+        if (!isEnabled() || !loading.compareAndSet(false, true)) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "TenantDomainIndexLoader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Search the tenants by a domain name filter.
+     *
+     * @param limit     maximum number of tenants to be returned.
+     * @param offset    number of matching tenants to skip.
+     * @param sortOrder ASC or DESC order of the tenant domains.
+     * @param filter    validated filter in the form of "domainName [sw|ew|eq|co] value".
+     * @return tenants of the page, with the total number of matching tenants.
+     * @throws TenantManagementServerException if the tenants could not be retrieved.
+     */
+    public TenantSearchResult search(int limit, int offset, String sortOrder, String filter)
+            throws TenantManagementServerException {
+
+        List<String> domains = search(filter);
+        if (DESC_SORT_ORDER.equalsIgnoreCase(sortOrder)) {
+            Collections.reverse(domains);
+        }
+        List<String> page = offset >= domains.size() ? Collections.emptyList() :
+                domains.subList(offset, (int) Math.min((long) offset + limit, domains.size()));
+
+        TenantSearchResult result = new TenantSearchResult();
+        result.setLimit(limit);
+        result.setOffSet(offset);
+        result.setSortOrder(sortOrder);
+        result.setSortBy(SORT_BY_DOMAIN_NAME);
+        result.setFilter(filter);
+        result.setTotalTenantCount(domains.size());
+        result.setTenantList(getTenants(page));
+        return result;
+    }
+
+    /**
+     * Get all the tenants of which the domain contains the given value.
+     *
+     * @param value value to search for.
+     * @return matching tenants, ordered by the tenant domain.
+     * @throws TenantManagementServerException if the tenants could not be retrieved.
+     */
+    public List<Tenant> searchContaining(String value) throws TenantManagementServerException {
+
+        return getTenants(search(ExpressionOperation.CO.toString(), value));
+    }
+
+    @Override
+    public void onTenantStateChange(List<TenantStateChange> changes) {
+
+        synchronized (changesWhileLoading) {
+            if (!ready) {
+                // Changes made while loading are applied once loaded, as the load may or may not include them.
+                if (loading.get()) {
+                    changesWhileLoading.addAll(changes);
+                }
+                return;
+            }
+        }
+        apply(changes);
+    }
+
+    private void apply(List<TenantStateChange> changes) {
+
+        for (TenantStateChange change : changes) {
+            switch (change.getType()) {
+                case CREATED:
+                case RENAMED:
+                    try {
+                        String domain = TenantMgtServiceComponent.getTenantManager().getDomain(change.getTenantId());
+                        put(change.getTenantId(), domain);
+                    } catch (UserStoreException e) {
+                        log.error("Error while resolving the domain of tenant: " + change.getTenantId() +
+                                ". Hence the tenant domain index is disabled until it is reloaded.", e);
+                        ready = false;
+                        loadAsync();
+                        return;
+                    }
+                    break;
+                case DELETED:
+                    remove(change.getTenantId());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    void load() {
+
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<Integer, String> domains = loadsFromDatabase() ? loadDomainsFromDatabase() :
+                    loadDomainsFromTenantManager();
+            lock.writeLock().lock();
+            try {
+                tenantIdsByDomain.clear();
+                domainsByTenantId.clear();
+                reversedDomains.clear();
+                postings.clear();
+                for (Map.Entry<Integer, String> domain : domains.entrySet()) {
+                    put(domain.getKey(), domain.getValue());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            List<TenantStateChange> changes;
+            synchronized (changesWhileLoading) {
+                changes = new ArrayList<>(changesWhileLoading);
+                changesWhileLoading.clear();
+                ready = true;
+            }
+            apply(changes);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + domains.size() + " tenant domains into the tenant domain index in " +
+                        (System.currentTimeMillis() - startTime) + " ms.");
+            }
+        } catch (SQLException | TenantManagementServerException | UserStoreException e) {
+            log.error("Error while loading the tenant domain index. Hence the tenant searches fall back to the " +
+                    "user store.", e);
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * Check whether the domains are loaded from the UM_TENANT table, which is the case only when the tenants are
+     * stored by the JDBC tenant manager.
+     *
+     * @return true if the domains are loaded from the database.
+     */
+    boolean loadsFromDatabase() {
+
+        return TenantListingUtil.isJDBCTenantManager();
+    }
+
+    /**
+     * Get all the tenants through the tenant manager, from which the domains are loaded when the tenants are not
+     * stored by the JDBC tenant manager.
+     *
+     * @return all the tenants.
+     * @throws UserStoreException if the tenants could not be retrieved.
+     */
+    Tenant[] getAllTenants() throws UserStoreException {
+
+        return (Tenant[]) TenantMgtServiceComponent.getTenantManager().getAllTenants();
+    }
+
+    private Map<Integer, String> loadDomainsFromDatabase() throws SQLException, TenantManagementServerException {
+
+        Map<Integer, String> domains = new HashMap<>();
+        try (Connection conn = TenantListingUtil.getDataSource().getConnection();
+             PreparedStatement ps = conn.prepareStatement(LOAD_DOMAINS_SQL)) {
+            ps.setFetchSize(LOAD_FETCH_SIZE);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    domains.put(rs.getInt(1), rs.getString(2));
+                }
+            }
+        }
+        return domains;
+    }
+
+    private Map<Integer, String> loadDomainsFromTenantManager() throws UserStoreException {
+
+        Map<Integer, String> domains = new HashMap<>();
+        for (Tenant tenant : getAllTenants()) {
+            domains.put(tenant.getId(), tenant.getDomain());
+        }
+        return domains;
+    }
+
+    void put(int tenantId, String domain) {
+
+        if (domain == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(tenantId);
+            domain = domain.toLowerCase(Locale.ENGLISH);
+            tenantIdsByDomain.put(domain, tenantId);
+            domainsByTenantId.put(tenantId, domain);
+            reversedDomains.add(reverse(domain));
+            for (long gram : grams(domain)) {
+                postings.computeIfAbsent(gram, key -> new TenantIdList()).add(tenantId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int tenantId) {
+
+        lock.writeLock().lock();
+        try {
+            String domain = domainsByTenantId.remove(tenantId);
+            if (domain == null) {
+                return;
+            }
+            tenantIdsByDomain.remove(domain);
+            reversedDomains.remove(reverse(domain));
+            for (long gram : grams(domain)) {
+                TenantIdList tenantIds = postings.get(gram);
+                if (tenantIds != null && tenantIds.remove(tenantId) && tenantIds.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<String> search(String filter) {
+
+        // Filter is already validated to have the attribute, operation and the value.
+        String[] filterArgs = filter.split(" ");
+        return search(filterArgs[1], filterArgs[2]);
+    }
+
+    /**
+     * Search the domains matching the given operation and value.
+     *
+     * @return matching domains, in ascending order.
+     */
+    List<String> search(String operation, String value) {
+
+        value = value.toLowerCase(Locale.ENGLISH);
+        lock.readLock().lock();
+        try {
+            if (ExpressionOperation.SW.toString().equalsIgnoreCase(operation)) {
+                return new ArrayList<>(tenantIdsByDomain.subMap(value, true, value + Character.MAX_VALUE, false)
+                        .keySet());
+            } else if (ExpressionOperation.EW.toString().equalsIgnoreCase(operation)) {
+                String reversedValue = reverse(value);
+                NavigableSet<String> reversedMatches = reversedDomains.subSet(reversedValue, true,
+                        reversedValue + Character.MAX_VALUE, false);
+                List<String> domains = new ArrayList<>(reversedMatches.size());
+                for (String reversedDomain : reversedMatches) {
+                    domains.add(reverse(reversedDomain));
+                }
+                Collections.sort(domains);
+                return domains;
+            } else if (ExpressionOperation.CO.toString().equalsIgnoreCase(operation)) {
+                return findContaining(value);
+            }
+            return tenantIdsByDomain.containsKey(value) ? new ArrayList<>(Collections.singletonList(value)) :
+                    new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> findContaining(String value) {
+
+        List<String> domains = new ArrayList<>();
+        if (value.length() < GRAM_LENGTH) {
+            for (String domain : tenantIdsByDomain.keySet()) {
+                if (domain.contains(value)) {
+                    domains.add(domain);
+                }
+            }
+            return domains;
+        }
+        // Candidates are the tenants of the rarest trigram of the value, which are then verified.
+        TenantIdList candidates = null;
+        for (long gram : grams(value)) {
+            TenantIdList tenantIds = postings.get(gram);
+            if (tenantIds == null) {
+                return domains;
+            }
+            if (candidates == null || tenantIds.size() < candidates.size()) {
+                candidates = tenantIds;
+            }
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            String domain = domainsByTenantId.get(candidates.get(i));
+            if (domain != null && domain.contains(value)) {
+                domains.add(domain);
+            }
+        }
+        Collections.sort(domains);
+        return domains;
+    }
+
+    private List<Tenant> getTenants(List<String> domains) throws TenantManagementServerException {
+
+        List<Integer> tenantIds = new ArrayList<>(domains.size());
+        lock.readLock().lock();
+        try {
+            for (String domain : domains) {
+                Integer tenantId = tenantIdsByDomain.get(domain);
+                if (tenantId != null) {
+                    tenantIds.add(tenantId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return TenantListingUtil.getTenants(tenantIds);
+    }
+
+    private static long[] grams(String domain) {
+
+        if (domain.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] grams = new long[domain.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) domain.charAt(i) << 32) | ((long) domain.charAt(i + 1) << 16) | domain.charAt(i + 2);
+        }
+        // A tenant is posted once under each distinct trigram.
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static String reverse(String domain) {
+
+        return new StringBuilder(domain).reverse().toString();
+    }
+
+    /**
+     * Growable list of tenant ids, which keeps the postings compact.
+     */
+    private static class TenantIdList {
+
+        private int[] tenantIds = new int[4];
+        private int size = 0;
+
+        void add(int tenantId) {
+
+            if (size == tenantIds.length) {
+                tenantIds = Arrays.copyOf(tenantIds, size * 2);
+            }
+            tenantIds[size++] = tenantId;
+        }
+
+        boolean remove(int tenantId) {
+
+            for (int i = 0; i < size; i++) {
+                if (tenantIds[i] == tenantId) {
+                    tenantIds[i] = tenantIds[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int get(int index) {
+
+            return tenantIds[index];
+        }
+
+        int size() {
+
+            return size;
+        }
+
+        boolean isEmpty() {
+
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.TenantStateListener;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short lived cache of the tenant details returned by the tenant management admin service, keyed by the tenant
+ * domain. The cache is disabled unless a timeout is configured with the 'Tenant.InfoCache.Timeout' property (in
+ * seconds) in carbon.xml. Entries are removed when the tenant is updated, activated, deactivated or deleted, on this
+ * node or on any other node of the cluster.
+ */
+public class TenantInfoBeanCache implements TenantStateListener {
+
+    private static final Log log = LogFactory.getLog(TenantInfoBeanCache.class);
+
+    private static final String TIMEOUT_PROPERTY = "Tenant.InfoCache.Timeout";
+    private static final int MAX_ENTRIES = 1000;
+
+    private static final TenantInfoBeanCache instance = new TenantInfoBeanCache();
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    private TenantInfoBeanCache() {
+
+        long timeoutSeconds = 0;
+        String timeoutPropertyValue = ServerConfiguration.getInstance().getFirstProperty(TIMEOUT_PROPERTY);
+        if (StringUtils.isNotBlank(timeoutPropertyValue)) {
+            try {
+                timeoutSeconds = Long.parseLong(timeoutPropertyValue.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Error occurred while parsing the '" + TIMEOUT_PROPERTY + "' property value in " +
+                        "carbon.xml.", e);
+            }
+        }
+        timeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(timeoutSeconds, 0));
+    }
+
+    public static TenantInfoBeanCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached details of a tenant.
+     *
+     * @param tenantDomain tenant domain.
+     * @return cached tenant details, or null if not cached or expired.
+     */
+    public TenantInfoBean getValueFromCache(String tenantDomain) {
+
+        if (!isEnabled() || tenantDomain == null) {
+            return null;
+        }
+        CacheEntry entry = entries.get(tenantDomain);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(tenantDomain, entry);
+            return null;
+        }
+        return entry.tenantInfoBean;
+    }
+
+    /**
+     * Cache the details of a tenant.
+     *
+     * @param tenantDomain   tenant domain.
+     * @param tenantInfoBean tenant details.
+     */
+    public void addToCache(String tenantDomain, TenantInfoBean tenantInfoBean) {
+
+        if (!isEnabled() || tenantDomain == null || tenantInfoBean == null) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(entry -> entry.isExpired(currentTime));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(tenantDomain, new CacheEntry(tenantInfoBean, currentTime + timeoutMillis));
+    }
+
+    /**
+     * Remove the cached details of a tenant.
+     *
+     * @param tenantDomain tenant domain.
+     */
+    public void clearCacheEntry(String tenantDomain) {
+
+        if (tenantDomain != null) {
+            entries.remove(tenantDomain);
+        }
+    }
+
+    /**
+     * Remove the cached details of a tenant.
+     *
+     * @param tenantId tenant id.
+     */
+    public void clearCacheEntry(int tenantId) {
+
+        if (!entries.isEmpty()) {
+            entries.values().removeIf(entry -> entry.tenantInfoBean.getTenantId() == tenantId);
+        }
+    }
+
+    @Override
+    public void onTenantStateChange(List<TenantStateChange> changes) {
+
+        if (entries.isEmpty()) {
+            return;
+        }
+        for (TenantStateChange change : changes) {
+            if (change.getType() != TenantStateChange.Type.CREATED &&
+                    change.getType() != TenantStateChange.Type.SERVICE_ACTIVATION_CHANGED) {
+                clearCacheEntry(change.getTenantId());
+            }
+        }
+    }
+
+    private boolean isEnabled() {
+
+        return timeoutMillis > 0;
+    }
+
+    private static class CacheEntry {
+
+        private final TenantInfoBean tenantInfoBean;
+        private final long expiryTime;
+
+        CacheEntry(TenantInfoBean tenantInfoBean, long expiryTime) {
+
+            this.tenantInfoBean = tenantInfoBean;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired(long currentTime) {
+
+            return currentTime >= expiryTime;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.registry.core.utils.UUIDGenerator;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.beans.TenantJobStatus;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.tenant.mgt.services.TenantJobCallback;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tenant jobs in the background and keeps track of their status. Status of a completed job is retained for
+ * a limited time, so that it can be polled by the client which submitted the job. Jobs wait in a bounded queue
+ * while all the workers are busy, and are rejected once the queue is full.
+ */
+public class TenantJobManager {
+
+    private static final Log log = LogFactory.getLog(TenantJobManager.class);
+
+    private static final String POOL_SIZE_PROPERTY = "Tenant.Jobs.PoolSize";
+    private static final String QUEUE_SIZE_PROPERTY = "Tenant.Jobs.QueueSize";
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+    private static final long JOB_STATUS_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long EXPIRED_JOB_SWEEP_INTERVAL_MINUTES = 5;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static final Map<String, TenantJobStatus> jobs = new ConcurrentHashMap<>();
+    private static ExecutorService executor = null;
+    private static ScheduledExecutorService scheduler = null;
+
+    /**
+     * A unit of work executed by the job manager.
+     */
+    @FunctionalInterface
+    public interface TenantJob {
+
+        /**
+         * Execute the job.
+         *
+         * @param jobStatus status of the job, which can be updated while the job runs.
+         * @throws Exception if the job failed.
+         */
+        void execute(TenantJobStatus jobStatus) throws Exception;
+    }
+
+    /**
+     * Starts the thread pool which executes the jobs, and the scheduler of the periodic tasks, e.g. the removal of
+     * the expired job statuses.
+     */
+    public static synchronized void start() {
+
+        start(TenantCoreUtil.getPositiveIntProperty(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                TenantCoreUtil.getPositiveIntProperty(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE));
+    }
+
+    static synchronized void start(int poolSize, int queueSize) {
+
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize), new TenantJobThreadFactory("TenantJobWorker-"));
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new TenantJobThreadFactory("TenantJobScheduler-"));
+            scheduler.scheduleWithFixedDelay(() -> removeExpiredJobs(System.currentTimeMillis()),
+                    EXPIRED_JOB_SWEEP_INTERVAL_MINUTES, EXPIRED_JOB_SWEEP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Stops the thread pool, waiting a while for the running jobs to complete.
+     */
+    public static synchronized void stop() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Tenant jobs did not complete within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Submit a job to be executed in the background. The job runs in a super tenant flow on behalf of the user who
+     * submitted it.
+     *
+     * @param jobType        type of the job, one of the job types of {@link TenantJobStatus}.
+     * @param tenantDomain   domain of the tenant the job acts on.
+     * @param tenantId       id of the tenant the job acts on.
+     * @param tenantUniqueID unique id of the tenant the job acts on.
+     * @param job            job to be executed.
+     * @return id of the submitted job.
+     * @throws TenantManagementServerException if the job could not be submitted, e.g. because too many jobs are
+     *                                         waiting to be executed.
+     */
+    public static String submit(String jobType, String tenantDomain, int tenantId, String tenantUniqueID,
+                                TenantJob job) throws TenantManagementServerException {
+
+        TenantJobStatus jobStatus = new TenantJobStatus();
+        jobStatus.setJobId(UUIDGenerator.generateUUID());
+        jobStatus.setJobType(jobType);
+        jobStatus.setTenantDomain(tenantDomain);
+        jobStatus.setTenantId(tenantId);
+        jobStatus.setTenantUniqueID(tenantUniqueID);
+        jobStatus.setStatus(TenantJobStatus.STATUS_PENDING);
+        jobStatus.setSubmittedTime(System.currentTimeMillis());
+        jobs.put(jobStatus.getJobId(), jobStatus);
+
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        ExecutorService jobExecutor = executor;
+        if (jobExecutor == null) {
+            jobs.remove(jobStatus.getJobId());
+            throw new TenantManagementServerException("Tenant job manager is not started.");
+        }
+        try {
+            jobExecutor.execute(() -> runJob(jobStatus, username, job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobStatus.getJobId());
+            throw new TenantManagementServerException("Unable to submit the job for tenant: " + tenantDomain +
+                    ". Too many tenant jobs are waiting to be executed. Retry later, or increase " +
+                    QUEUE_SIZE_PROPERTY + " in carbon.xml.", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Submitted job: " + jobStatus.getJobId() + " for tenant: " + tenantDomain);
+        }
+        return jobStatus.getJobId();
+    }
+
+    /**
+     * Schedule a task to run periodically while the jobs run, e.g. to renew a lease held by a job. The task runs on
+     * a single shared thread, hence it should complete quickly.
+     *
+     * @param task  task to be executed.
+     * @param delay delay between the end of an execution and the start of the next one.
+     * @param unit  time unit of the delay.
+     * @return the scheduled task, which is cancelled when it is no longer needed.
+     * @throws TenantManagementServerException if the job manager is not started.
+     */
+    public static ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay, TimeUnit unit)
+            throws TenantManagementServerException {
+
+        ScheduledExecutorService taskScheduler = scheduler;
+        if (taskScheduler == null) {
+            throw new TenantManagementServerException("Tenant job manager is not started.");
+        }
+        try {
+            return taskScheduler.scheduleWithFixedDelay(task, delay, delay, unit);
+        } catch (RejectedExecutionException e) {
+            throw new TenantManagementServerException("Tenant job manager is stopped.", e);
+        }
+    }
+
+    /**
+     * Get the status of a job of the given type.
+     *
+     * @param jobType type of the job.
+     * @param jobId   id of the job.
+     * @return a copy of the current status of the job, or null if there is no such job of the given type or it has
+     * expired.
+     */
+    public static TenantJobStatus getJobStatus(String jobType, String jobId) {
+
+        if (StringUtils.isBlank(jobId)) {
+            return null;
+        }
+        TenantJobStatus jobStatus = jobs.get(jobId);
+        if (jobStatus == null || !jobStatus.getJobType().equals(jobType)) {
+            return null;
+        }
+        synchronized (jobStatus) {
+            return new TenantJobStatus(jobStatus);
+        }
+    }
+
+    private static void runJob(TenantJobStatus jobStatus, String username, TenantJob job) {
+
+        synchronized (jobStatus) {
+            jobStatus.setStatus(TenantJobStatus.STATUS_RUNNING);
+        }
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+            carbonContext.setUsername(username);
+
+            job.execute(jobStatus);
+            synchronized (jobStatus) {
+                jobStatus.setStatus(TenantJobStatus.STATUS_COMPLETED);
+            }
+        } catch (Throwable e) {
+            log.error("Error while executing the job: " + jobStatus.getJobId() + " for tenant: " +
+                    jobStatus.getTenantDomain(), e);
+            synchronized (jobStatus) {
+                jobStatus.setStatus(TenantJobStatus.STATUS_FAILED);
+                jobStatus.setErrorMessage(e.getMessage());
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            synchronized (jobStatus) {
+                jobStatus.setCompletedTime(System.currentTimeMillis());
+            }
+        }
+        notifyJobCompletion(getJobStatus(jobStatus.getJobType(), jobStatus.getJobId()));
+    }
+
+    private static void notifyJobCompletion(TenantJobStatus jobStatus) {
+
+        if (jobStatus == null) {
+            return;
+        }
+        for (TenantJobCallback callback : TenantMgtServiceComponent.getTenantJobCallbacks()) {
+            try {
+                callback.onJobCompleted(jobStatus);
+            } catch (Exception e) {
+                log.error("Error while notifying the completion of the job: " + jobStatus.getJobId() + " to " +
+                        callback.getClass().getName(), e);
+            }
+        }
+    }
+
+    static void removeExpiredJobs(long currentTime) {
+
+        long expiryTime = currentTime - JOB_STATUS_RETENTION_MILLIS;
+        Iterator<TenantJobStatus> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            TenantJobStatus jobStatus = iterator.next();
+            synchronized (jobStatus) {
+                if (jobStatus.isDone() && jobStatus.getCompletedTime() < expiryTime) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private static class TenantJobThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        TenantJobThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
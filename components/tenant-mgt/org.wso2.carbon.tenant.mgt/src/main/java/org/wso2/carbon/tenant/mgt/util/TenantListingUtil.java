@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+import org.wso2.carbon.user.core.model.ExpressionOperation;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.tenant.JDBCTenantManager;
+import org.wso2.carbon.user.core.tenant.Tenant;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+import org.wso2.carbon.user.core.util.DatabaseUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.wso2.carbon.tenant.mgt.util.TenantMgtConstants.ErrorMessage.ERROR_CODE_INVALID_CURSOR;
+
+/**
+ * Keyset (cursor) based listing of the tenants in the UM_TENANT table. A page is located by the last
+ * UM_DOMAIN_NAME seen, which is unique, so that retrieving a deep page costs the same as the first one.
+ * <p>
+ * The UM_TENANT table is queried directly only when the tenants are stored by the {@link JDBCTenantManager}. With
+ * any other tenant manager the tenants are read through the {@link TenantManager} API, and the pages are selected
+ * from all the tenants in memory.
+ */
+public class TenantListingUtil {
+
+    private static final Log log = LogFactory.getLog(TenantListingUtil.class);
+
+    private static final String LIKE_ESCAPE_CHAR = "!";
+    private static final String LIST_TENANTS_SQL = "SELECT UM_ID, UM_TENANT_UUID, UM_DOMAIN_NAME, UM_EMAIL, " +
+            "UM_ACTIVE, UM_CREATED_DATE FROM UM_TENANT WHERE UM_DOMAIN_NAME > ?";
+    private static final String DOMAIN_NAME_LIKE_CONDITION = " AND UM_DOMAIN_NAME LIKE ? ESCAPE '" +
+            LIKE_ESCAPE_CHAR + "'";
+    private static final String ORDER_BY_DOMAIN_NAME = " ORDER BY UM_DOMAIN_NAME ASC";
+    private static final String GET_TENANTS_SQL = "SELECT UM_ID, UM_TENANT_UUID, UM_DOMAIN_NAME, UM_EMAIL, " +
+            "UM_ACTIVE, UM_CREATED_DATE FROM UM_TENANT WHERE UM_ID IN ";
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    /**
+     * Retrieve the tenants which come after the given cursor, ordered by the tenant domain.
+     *
+     * @param limit  maximum number of tenants to be returned.
+     * @param cursor cursor returned with the previous page, or null to start from the first tenant.
+     * @param filter validated filter in the form of "domainName [sw|ew|eq|co] value", or null.
+     * @return tenants of the page.
+     * @throws TenantManagementClientException if the cursor is invalid.
+     * @throws TenantManagementServerException if the tenants could not be retrieved.
+     */
+    public static List<Tenant> listTenants(int limit, String cursor, String filter)
+            throws TenantManagementClientException, TenantManagementServerException {
+
+        List<Tenant> tenants = new ArrayList<>(limit);
+        if (limit == 0) {
+            return tenants;
+        }
+        String lastDomain = decodeCursor(cursor);
+        if (!isJDBCTenantManager()) {
+            return selectPage(getAllTenants(), limit, lastDomain, filter);
+        }
+        String domainPattern = getDomainNamePattern(filter);
+        String sql = LIST_TENANTS_SQL + (domainPattern != null ? DOMAIN_NAME_LIKE_CONDITION : "") +
+                ORDER_BY_DOMAIN_NAME;
+
+        try (Connection conn = getDataSource().getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, lastDomain);
+            if (domainPattern != null) {
+                ps.setString(2, domainPattern);
+            }
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tenants.add(buildTenant(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new TenantManagementServerException("Error in retrieving the tenant information.", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved " + tenants.size() + " tenants after the domain: " + lastDomain);
+        }
+        return tenants;
+    }
+
+    /**
+     * Retrieve all the tenants matching the given filter through the {@link TenantManager} API, ordered by the
+     * tenant domain. Used instead of the cursor based listing when the tenants are not stored by the
+     * {@link JDBCTenantManager}, as each page would read all the tenants anyway.
+     *
+     * @param filter validated filter in the form of "domainName [sw|ew|eq|co] value", or null.
+     * @return matching tenants.
+     * @throws TenantManagementServerException if the tenants could not be retrieved.
+     */
+    public static List<Tenant> listAllTenants(String filter) throws TenantManagementServerException {
+
+        return selectPage(getAllTenants(), Integer.MAX_VALUE, "", filter);
+    }
+
+    /**
+     * Check whether the tenants are stored by the {@link JDBCTenantManager}, so that they can be read from the
+     * UM_TENANT table of the realm data source.
+     *
+     * @return true if the tenant manager is the JDBC tenant manager.
+     */
+    public static boolean isJDBCTenantManager() {
+
+        return TenantMgtServiceComponent.getTenantManager() instanceof JDBCTenantManager;
+    }
+
+    /**
+     * Retrieve the tenants of the given ids.
+     *
+     * @param tenantIds ids of the tenants.
+     * @return tenants, in the order of the given ids. Tenants which no longer exist are skipped.
+     * @throws TenantManagementServerException if the tenants could not be retrieved.
+     */
+    public static List<Tenant> getTenants(List<Integer> tenantIds) throws TenantManagementServerException {
+
+        if (!isJDBCTenantManager()) {
+            return getTenantsFromTenantManager(tenantIds);
+        }
+        Map<Integer, Tenant> tenantsById = new HashMap<>(tenantIds.size());
+        if (!tenantIds.isEmpty()) {
+            try (Connection conn = getDataSource().getConnection()) {
+                for (int start = 0; start < tenantIds.size(); start += MAX_IDS_PER_QUERY) {
+                    List<Integer> ids = tenantIds.subList(start, Math.min(start + MAX_IDS_PER_QUERY,
+                            tenantIds.size()));
+                    String sql = GET_TENANTS_SQL + "(" + String.join(",", Collections.nCopies(ids.size(), "?")) +
+                            ")";
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        for (int i = 0; i < ids.size(); i++) {
+                            ps.setInt(i + 1, ids.get(i));
+                        }
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                Tenant tenant = buildTenant(rs);
+                                tenantsById.put(tenant.getId(), tenant);
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                throw new TenantManagementServerException("Error in retrieving the tenant information.", e);
+            }
+        }
+        List<Tenant> tenants = new ArrayList<>(tenantIds.size());
+        for (Integer tenantId : tenantIds) {
+            Tenant tenant = tenantsById.get(tenantId);
+            if (tenant != null) {
+                tenants.add(tenant);
+            }
+        }
+        return tenants;
+    }
+
+    private static List<Tenant> getTenantsFromTenantManager(List<Integer> tenantIds)
+            throws TenantManagementServerException {
+
+        TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
+        List<Tenant> tenants = new ArrayList<>(tenantIds.size());
+        try {
+            for (Integer tenantId : tenantIds) {
+                Tenant tenant = (Tenant) tenantManager.getTenant(tenantId);
+                if (tenant != null) {
+                    tenants.add(tenant);
+                }
+            }
+        } catch (UserStoreException e) {
+            throw new TenantManagementServerException("Error in retrieving the tenant information.", e);
+        }
+        return tenants;
+    }
+
+    /**
+     * Build the cursor which points to the position right after the given tenant.
+     *
+     * @param tenant last tenant of a page.
+     * @return opaque cursor value.
+     */
+    public static String encodeCursor(Tenant tenant) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                tenant.getDomain().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodeCursor(String cursor) throws TenantManagementClientException {
+
+        if (StringUtils.isBlank(cursor)) {
+            // Every domain name is greater than the empty string.
+            return "";
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new TenantManagementClientException(ERROR_CODE_INVALID_CURSOR.getCode(),
+                    String.format(ERROR_CODE_INVALID_CURSOR.getMessage(), cursor));
+        }
+    }
+
+    /**
+     * Select the tenants of a page from the given tenants.
+     *
+     * @param tenants    tenants, in any order.
+     * @param limit      maximum number of tenants to be returned.
+     * @param lastDomain domain of the last tenant of the previous page.
+     * @param filter     validated filter in the form of "domainName [sw|ew|eq|co] value", or null.
+     * @return tenants of the page, ordered by the tenant domain.
+     */
+    static List<Tenant> selectPage(Tenant[] tenants, int limit, String lastDomain, String filter) {
+
+        String operation = null;
+        String value = null;
+        if (StringUtils.isNotBlank(filter)) {
+            // Filter is already validated to have the attribute, operation and the value.
+            String[] filterArgs = filter.split(" ");
+            operation = filterArgs[1];
+            value = filterArgs[2].toLowerCase(Locale.ENGLISH);
+        }
+        List<Tenant> matchingTenants = new ArrayList<>();
+        for (Tenant tenant : tenants) {
+            if (tenant.getDomain() != null && tenant.getDomain().compareTo(lastDomain) > 0 &&
+                    (value == null || matches(tenant.getDomain().toLowerCase(Locale.ENGLISH), operation, value))) {
+                matchingTenants.add(tenant);
+            }
+        }
+        matchingTenants.sort(Comparator.comparing(Tenant::getDomain));
+        return matchingTenants.size() > limit ? new ArrayList<>(matchingTenants.subList(0, limit)) :
+                matchingTenants;
+    }
+
+    private static boolean matches(String domain, String operation, String value) {
+
+        if (StringUtils.equalsIgnoreCase(operation, ExpressionOperation.SW.toString())) {
+            return domain.startsWith(value);
+        } else if (StringUtils.equalsIgnoreCase(operation, ExpressionOperation.EW.toString())) {
+            return domain.endsWith(value);
+        } else if (StringUtils.equalsIgnoreCase(operation, ExpressionOperation.CO.toString())) {
+            return domain.contains(value);
+        }
+        return domain.equals(value);
+    }
+
+    private static Tenant[] getAllTenants() throws TenantManagementServerException {
+
+        try {
+            return (Tenant[]) TenantMgtServiceComponent.getTenantManager().getAllTenants();
+        } catch (UserStoreException e) {
+            throw new TenantManagementServerException("Error in retrieving the tenant information.", e);
+        }
+    }
+
+    private static String getDomainNamePattern(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return null;
+        }
+        // Filter is already validated to have the attribute, operation and the value.
+        String[] filterArgs = filter.split(" ");
+        String operation = filterArgs[1];
+        String value = escapeLikeValue(filterArgs[2]);
+        if (StringUtils.equalsIgnoreCase(operation, ExpressionOperation.SW.toString())) {
+            return value + "%";
+        } else if (StringUtils.equalsIgnoreCase(operation, ExpressionOperation.EW.toString())) {
+            return "%" + value;
+        } else if (StringUtils.equalsIgnoreCase(operation, ExpressionOperation.CO.toString())) {
+            return "%" + value + "%";
+        }
+        return value;
+    }
+
+    private static String escapeLikeValue(String value) {
+
+        return value.replace(LIKE_ESCAPE_CHAR, LIKE_ESCAPE_CHAR + LIKE_ESCAPE_CHAR)
+                .replace("%", LIKE_ESCAPE_CHAR + "%")
+                .replace("_", LIKE_ESCAPE_CHAR + "_");
+    }
+
+    private static Tenant buildTenant(ResultSet rs) throws SQLException {
+
+        Tenant tenant = new Tenant();
+        tenant.setId(rs.getInt("UM_ID"));
+        tenant.setTenantUniqueID(rs.getString("UM_TENANT_UUID"));
+        tenant.setDomain(rs.getString("UM_DOMAIN_NAME"));
+        tenant.setEmail(rs.getString("UM_EMAIL"));
+        tenant.setActive(rs.getBoolean("UM_ACTIVE"));
+        Timestamp createdDate = rs.getTimestamp("UM_CREATED_DATE");
+        if (createdDate != null) {
+            tenant.setCreatedDate(new Date(createdDate.getTime()));
+        }
+        return tenant;
+    }
+
+    static DataSource getDataSource() throws TenantManagementServerException {
+
+        DataSource dataSource = DatabaseUtil.getRealmDataSource(
+                TenantMgtServiceComponent.getRealmService().getBootstrapRealmConfiguration());
+        if (dataSource == null) {
+            throw new TenantManagementServerException("Unable to retrieve the user store data source.");
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+/**
+ * Constants of tenant management.
+ */
+public class TenantMgtConstants {
+
+    private TenantMgtConstants() {
+
+    }
+
+    /**
+     * Error messages of tenant management, in addition to the ones of
+     * {@link org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage}.
+     */
+    public enum ErrorMessage {
+
+        // Client errors.
+        ERROR_CODE_DOMAIN_NOT_FOUND("TM-61001", "Tenant: %s does not exist."),
+        ERROR_CODE_INVALID_ADMIN_PASSWORD("TM-61002",
+                "Error in changing the tenant admin password for tenant domain: %s. %s"),
+        ERROR_CODE_INVALID_CURSOR("TM-61003", "Invalid cursor: %s.");
+
+        private final String code;
+        private final String message;
+
+        ErrorMessage(String code, String message) {
+
+            this.code = code;
+            this.message = message;
+        }
+
+        public String getCode() {
+
+            return code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        @Override
+        public String toString() {
+
+            return code + " - " + message;
+        }
+    }
+}
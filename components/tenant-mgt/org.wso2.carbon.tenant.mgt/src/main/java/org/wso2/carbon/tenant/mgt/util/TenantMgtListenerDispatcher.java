@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.stratos.common.exception.StratosException;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches the tenant lifecycle events to the tenant management listeners.
+ * <p>
+ * By default the listeners are invoked one after the other in the order of their listener order. When the concurrent
+ * dispatch is enabled in carbon.xml, each listener order value is treated as a stage. Listeners of the same stage are
+ * invoked in parallel, and the next stage starts only after all the listeners of the current stage have completed.
+ * Errors of the listeners of a stage are reported together as a single {@link StratosException}.
+ */
+public class TenantMgtListenerDispatcher {
+
+    private static final Log log = LogFactory.getLog(TenantMgtListenerDispatcher.class);
+
+    private static final String CONCURRENT_DISPATCH_PROPERTY = "Tenant.ListenerInvocationPolicy.ConcurrentDispatch";
+    private static final String POOL_SIZE_PROPERTY = "Tenant.ListenerInvocationPolicy.PoolSize";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static ExecutorService executor = null;
+
+    /**
+     * Invocation of a listener method for an event.
+     */
+    @FunctionalInterface
+    public interface ListenerInvocation {
+
+        void invoke(TenantMgtListener listener) throws StratosException;
+    }
+
+    /**
+     * Starts the thread pool used for the concurrent dispatch, if it is enabled.
+     */
+    public static synchronized void start() {
+
+        if (executor == null && Boolean.parseBoolean(
+                ServerConfiguration.getInstance().getFirstProperty(CONCURRENT_DISPATCH_PROPERTY))) {
+            int poolSize = TenantCoreUtil.getPositiveIntProperty(POOL_SIZE_PROPERTY,
+                    Runtime.getRuntime().availableProcessors());
+            executor = Executors.newFixedThreadPool(poolSize, new ListenerThreadFactory());
+            if (log.isDebugEnabled()) {
+                log.debug("Concurrent dispatch of the tenant management listeners is enabled.");
+            }
+        }
+    }
+
+    /**
+     * Stops the thread pool used for the concurrent dispatch.
+     */
+    public static synchronized void stop() {
+
+        if (executor == null) {
+            return;
+        }
+        ExecutorService dispatchExecutor = executor;
+        // Events dispatched from now on are invoked on the calling thread.
+        executor = null;
+        dispatchExecutor.shutdown();
+        try {
+            if (!dispatchExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                dispatchExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatchExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Dispatch an event to all the registered tenant management listeners.
+     *
+     * @param event      event to be dispatched.
+     * @param invocation invocation of the listener method which handles the event.
+     * @throws StratosException if a listener failed to handle the event.
+     */
+    public static void dispatch(TenantMgtListenerEvent event, ListenerInvocation invocation)
+            throws StratosException {
+
+        List<TenantMgtListener> listeners = TenantMgtServiceComponent.getTenantMgtListeners(event);
+        ExecutorService dispatchExecutor = executor;
+        if (dispatchExecutor == null) {
+            for (TenantMgtListener listener : listeners) {
+                invoke(event, listener, invocation);
+            }
+            return;
+        }
+
+        // Listeners are sorted by the listener order, hence the listeners of a stage are adjacent.
+        int stageStart = 0;
+        while (stageStart < listeners.size()) {
+            int listenerOrder = listeners.get(stageStart).getListenerOrder();
+            int stageEnd = stageStart + 1;
+            while (stageEnd < listeners.size() && listeners.get(stageEnd).getListenerOrder() == listenerOrder) {
+                stageEnd++;
+            }
+            if (stageEnd - stageStart == 1) {
+                invoke(event, listeners.get(stageStart), invocation);
+            } else {
+                dispatchStage(event, listeners.subList(stageStart, stageEnd), invocation, dispatchExecutor);
+            }
+            stageStart = stageEnd;
+        }
+    }
+
+    private static void dispatchStage(TenantMgtListenerEvent event, List<TenantMgtListener> listeners,
+                                      ListenerInvocation invocation, ExecutorService dispatchExecutor)
+            throws StratosException {
+
+        DispatchContext context = new DispatchContext();
+        List<Future<?>> futures = new ArrayList<>(listeners.size() - 1);
+        List<TenantMgtListener> submittedListeners = new ArrayList<>(listeners.size() - 1);
+        List<TenantMgtListener> failedListeners = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        // The first listener of the stage is invoked on the calling thread.
+        for (TenantMgtListener listener : listeners.subList(1, listeners.size())) {
+            try {
+                futures.add(dispatchExecutor.submit(() -> {
+                    context.run(() -> invoke(event, listener, invocation));
+                    return null;
+                }));
+                submittedListeners.add(listener);
+            } catch (RejectedExecutionException e) {
+                collectError(listener, () -> invoke(event, listener, invocation), failedListeners, errors);
+            }
+        }
+        TenantMgtListener firstListener = listeners.get(0);
+        collectError(firstListener, () -> invoke(event, firstListener, invocation), failedListeners, errors);
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException e) {
+                failedListeners.add(submittedListeners.get(i));
+                errors.add(e.getCause());
+            } catch (InterruptedException e) {
+                for (Future<?> future : futures) {
+                    future.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new StratosException("Interrupted while executing " + event.getMethodName() +
+                        " on the tenant management listeners.", e);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            StringBuilder listenerNames = new StringBuilder();
+            for (TenantMgtListener listener : failedListeners) {
+                if (listenerNames.length() > 0) {
+                    listenerNames.append(", ");
+                }
+                listenerNames.append(listener.getClass().getName());
+            }
+            StratosException exception = new StratosException("Error in executing " + event.getMethodName() +
+                    " on the tenant management listeners: " + listenerNames, errors.get(0));
+            for (Throwable error : errors.subList(1, errors.size())) {
+                exception.addSuppressed(error);
+            }
+            throw exception;
+        }
+    }
+
+    private static void collectError(TenantMgtListener listener, ListenerTask task,
+                                     List<TenantMgtListener> failedListeners, List<Throwable> errors) {
+
+        try {
+            task.run();
+        } catch (StratosException | RuntimeException e) {
+            failedListeners.add(listener);
+            errors.add(e);
+        }
+    }
+
+    private static void invoke(TenantMgtListenerEvent event, TenantMgtListener listener,
+                               ListenerInvocation invocation) throws StratosException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + event.getMethodName() + " on Listener Impl Class Name: " +
+                    listener.getClass().getName());
+        }
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            invocation.invoke(listener);
+            failed = false;
+        } finally {
+            TenantMgtListenerStats.getInstance().record(event, listener, System.nanoTime() - startTime, failed);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ListenerTask {
+
+        void run() throws StratosException;
+    }
+
+    /**
+     * Carbon context and the tenant management thread locals of the dispatching thread, which are applied to the
+     * thread that invokes a listener.
+     */
+    private static class DispatchContext {
+
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String username;
+        private final boolean tenantCreation;
+        private final boolean tenantAdminCreationOperation;
+
+        DispatchContext() {
+
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            this.tenantDomain = carbonContext.getTenantDomain();
+            this.tenantId = carbonContext.getTenantId();
+            this.username = carbonContext.getUsername();
+            this.tenantCreation = TenantMgtUtil.isTenantCreation();
+            this.tenantAdminCreationOperation = TenantMgtUtil.isTenantAdminCreationOperation();
+        }
+
+        void run(ListenerTask task) throws StratosException {
+
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantId(tenantId);
+                carbonContext.setTenantDomain(tenantDomain);
+                carbonContext.setUsername(username);
+                TenantMgtUtil.setTenantCreationThreadLocal(tenantCreation);
+                TenantMgtUtil.setTenantAdminCreationOperation(tenantAdminCreationOperation);
+                task.run();
+            } finally {
+                TenantMgtUtil.clearTenantAdminCreationOperation();
+                TenantMgtUtil.clearTenantCreationTreadLocal();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+    }
+
+    private static class ListenerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "TenantMgtListenerWorker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
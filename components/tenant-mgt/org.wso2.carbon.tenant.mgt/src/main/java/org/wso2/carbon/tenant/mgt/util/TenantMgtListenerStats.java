@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.beans.TenantMgtListenerInvocationStats;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects the latency and the errors of the tenant management listener invocations, keyed by the listener class
+ * and the tenant lifecycle event, and exposes them through JMX.
+ */
+public class TenantMgtListenerStats implements TenantMgtListenerStatsMXBean {
+
+    private static final Log log = LogFactory.getLog(TenantMgtListenerStats.class);
+
+    private static final String OBJECT_NAME = "org.wso2.carbon:type=TenantMgtListenerStats";
+    private static final long[] LATENCY_BUCKET_BOUNDS_MILLIS =
+            {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+    private static final String KEY_SEPARATOR = "#";
+
+    private static final TenantMgtListenerStats instance = new TenantMgtListenerStats();
+
+    private final Map<String, InvocationStats> invocationStats = new ConcurrentHashMap<>();
+
+    private TenantMgtListenerStats() {
+
+    }
+
+    public static TenantMgtListenerStats getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Register the statistics in the platform MBean server.
+     */
+    public static void register() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(instance, objectName);
+            }
+        } catch (JMException e) {
+            log.error("Error while registering the tenant management listener statistics MBean.", e);
+        }
+    }
+
+    /**
+     * Remove the statistics from the platform MBean server.
+     */
+    public static void unregister() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.error("Error while unregistering the tenant management listener statistics MBean.", e);
+        }
+    }
+
+    /**
+     * Record an invocation of a listener.
+     *
+     * @param event         event notified to the listener.
+     * @param listener      invoked listener.
+     * @param durationNanos time taken by the listener.
+     * @param failed        true, if the listener failed.
+     */
+    public void record(TenantMgtListenerEvent event, TenantMgtListener listener, long durationNanos,
+                       boolean failed) {
+
+        String listenerName = listener.getClass().getName();
+        invocationStats.computeIfAbsent(listenerName + KEY_SEPARATOR + event.name(),
+                key -> new InvocationStats(listenerName, event)).record(durationNanos, failed);
+    }
+
+    @Override
+    public List<TenantMgtListenerInvocationStats> getInvocationStats() {
+
+        List<TenantMgtListenerInvocationStats> stats = new ArrayList<>(invocationStats.size());
+        for (InvocationStats invocation : invocationStats.values()) {
+            stats.add(invocation.toBean());
+        }
+        return stats;
+    }
+
+    @Override
+    public void reset() {
+
+        invocationStats.clear();
+    }
+
+    private static class InvocationStats {
+
+        private final String listenerName;
+        private final TenantMgtListenerEvent event;
+        private final LongAdder invocationCount = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray latencyBucketCounts =
+                new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MILLIS.length + 1);
+
+        InvocationStats(String listenerName, TenantMgtListenerEvent event) {
+
+            this.listenerName = listenerName;
+            this.event = event;
+        }
+
+        void record(long durationNanos, boolean failed) {
+
+            invocationCount.increment();
+            if (failed) {
+                errorCount.increment();
+            }
+            totalTimeNanos.add(durationNanos);
+            maxTimeNanos.accumulate(durationNanos);
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKET_BOUNDS_MILLIS.length &&
+                    durationMillis > LATENCY_BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            latencyBucketCounts.incrementAndGet(bucket);
+        }
+
+        TenantMgtListenerInvocationStats toBean() {
+
+            long[] bucketCounts = new long[latencyBucketCounts.length()];
+            for (int i = 0; i < bucketCounts.length; i++) {
+                bucketCounts[i] = latencyBucketCounts.get(i);
+            }
+            return new TenantMgtListenerInvocationStats(listenerName, event.getMethodName(), invocationCount.sum(),
+                    errorCount.sum(), TimeUnit.NANOSECONDS.toMillis(totalTimeNanos.sum()),
+                    TimeUnit.NANOSECONDS.toMillis(maxTimeNanos.get()), LATENCY_BUCKET_BOUNDS_MILLIS.clone(),
+                    bucketCounts);
+        }
+    }
+}
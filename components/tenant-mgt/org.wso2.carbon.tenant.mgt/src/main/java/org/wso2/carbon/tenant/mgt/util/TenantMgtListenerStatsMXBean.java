@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.wso2.carbon.tenant.mgt.beans.TenantMgtListenerInvocationStats;
+
+import java.util.List;
+
+/**
+ * JMX interface to monitor the invocations of the tenant management listeners.
+ */
+public interface TenantMgtListenerStatsMXBean {
+
+    /**
+     * Get the invocation statistics of each listener, per tenant lifecycle event.
+     *
+     * @return invocation statistics.
+     */
+    List<TenantMgtListenerInvocationStats> getInvocationStats();
+
+    /**
+     * Clear the collected statistics.
+     */
+    void reset();
+}
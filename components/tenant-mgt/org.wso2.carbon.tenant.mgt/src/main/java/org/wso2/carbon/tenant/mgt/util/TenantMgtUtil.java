@@ -22,8 +22,6 @@ import org.apache.axis2.clustering.ClusteringAgent;
 import org.apache.axis2.clustering.ClusteringFault;
 import org.apache.axis2.context.ConfigurationContext;
 import org.apache.axis2.engine.AxisConfiguration;
-import org.apache.commons.dbcp.BasicDataSource;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -32,14 +30,9 @@ import org.wso2.carbon.base.api.ServerConfigurationService;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.multitenancy.utils.TenantAxisUtils;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
-import org.wso2.carbon.registry.core.RegistryConstants;
-import org.wso2.carbon.registry.core.Resource;
 import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.registry.core.jdbc.dataaccess.JDBCDataAccessManager;
-import org.wso2.carbon.registry.core.session.UserRegistry;
-import org.wso2.carbon.registry.core.utils.UUIDGenerator;
 import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
-import org.wso2.carbon.stratos.common.constants.StratosConstants;
 import org.wso2.carbon.stratos.common.exception.StratosException;
 import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
 import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
@@ -47,6 +40,10 @@ import org.wso2.carbon.stratos.common.exception.TenantMgtException;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.stratos.common.util.ClaimsMgtUtil;
 import org.wso2.carbon.stratos.common.util.CommonUtil;
+import org.wso2.carbon.tenant.mgt.beans.TenantDataPurgeTarget;
+import org.wso2.carbon.tenant.mgt.beans.TenantJobStatus;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.util.ThemePageTokenUtil;
 import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
 import org.wso2.carbon.tenant.mgt.message.TenantDeleteClusterMessage;
 import org.wso2.carbon.user.api.RealmConfiguration;
@@ -58,23 +55,27 @@ import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.config.multitenancy.MultiTenantRealmConfigBuilder;
-import org.wso2.carbon.user.core.jdbc.JDBCRealmConstants;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantManager;
-import org.wso2.carbon.utils.CarbonUtils;
+import org.wso2.carbon.user.core.util.DatabaseUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
-import java.io.File;
-import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import javax.sql.DataSource;
 
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_EMPTY_DOMAIN_NAME;
@@ -83,6 +84,8 @@ import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMess
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_INVALID_DOMAIN;
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_PARTIALLY_CREATED_OR_UPDATED;
 import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_TENANT_DOES_NOT_MATCH_REGEX_PATTERN;
+import static org.wso2.carbon.tenant.mgt.util.TenantMgtConstants.ErrorMessage.ERROR_CODE_DOMAIN_NOT_FOUND;
+import static org.wso2.carbon.tenant.mgt.util.TenantMgtConstants.ErrorMessage.ERROR_CODE_INVALID_ADMIN_PASSWORD;
 
 /**
  * Utility methods for tenant management.
@@ -90,64 +93,39 @@ import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMess
 public class TenantMgtUtil {
 
     private static final Log log = LogFactory.getLog(TenantMgtUtil.class);
-    private static final String ILLEGAL_CHARACTERS_FOR_TENANT_DOMAIN = ".*[^a-z0-9\\._\\-].*";
+    public static final String ILLEGAL_CHARACTERS_FOR_TENANT_DOMAIN = ".*[^a-z0-9\\._\\-].*";
     private static final String DOT = ".";
     private static ThreadLocal<Boolean> isTenantAdminCreationOperation = new ThreadLocal<>();
     private static final ThreadLocal<Boolean> isTenantCreationTreadLocal = new ThreadLocal<>();
     private static final int DEFAULT_ITEMS_PER_PAGE = 15;
     private static final int DEFAULT_MAXIMUM_ITEMS_PER_PAGE = 100;
+    private static final int LISTENER_NOTIFICATION_BATCH_SIZE = 100;
 
     /**
      * Prepares string to show theme management page.
      *
      * @param tenantId tenant id
-     * @return UUID uniques id to refer the tenant.
+     * @param resourceId id which was used to refer the tenant in the theme management page.
      * @throws TenantMgtException if failed.
+     * @deprecated The theme management page only accepts the signed tokens created by
+     * {@link #prepareStringToShowThemeMgtPage(int)}, and nothing is stored for them. Hence this method does nothing.
      */
+    @Deprecated
     public static void prepareStringToShowThemeMgtPage(int tenantId, String resourceId) throws
             TenantMgtException {
 
-        try {
-            UserRegistry systemRegistry =
-                    TenantMgtServiceComponent.getRegistryService().getGovernanceSystemRegistry();
-            // store it in the registry.
-            Resource resource = systemRegistry.newResource();
-            String tenantIdStr = Integer.toString(tenantId);
-            resource.setProperty(MultitenantConstants.TENANT_ID, tenantIdStr);
-            String uuidPath = StratosConstants.TENANT_CREATION_THEME_PAGE_TOKEN
-                    + RegistryConstants.PATH_SEPARATOR + resourceId;
-            systemRegistry.put(uuidPath, resource);
-
-            // restrict access
-            CommonUtil.denyAnonAuthorization(uuidPath, systemRegistry.getUserRealm());
-        } catch (RegistryException e) {
-            throw new TenantManagementServerException("Error while creating the path for theme page.", e);
-        }
     }
 
     /**
      * Prepares string to show theme management page.
      *
      * @param tenantId - tenant id
-     * @return UUID
+     * @return a signed token which expires, to refer the tenant in the theme management page.
      * @throws RegistryException, if failed.
      */
     public static String prepareStringToShowThemeMgtPage(int tenantId) throws RegistryException {
-        // first we generate a UUID
-        UserRegistry systemRegistry =
-                TenantMgtServiceComponent.getRegistryService().getGovernanceSystemRegistry();
-        String uuid = UUIDGenerator.generateUUID();
-        // store it in the registry.
-        Resource resource = systemRegistry.newResource();
-        String tenantIdStr = Integer.toString(tenantId);
-        resource.setProperty(MultitenantConstants.TENANT_ID, tenantIdStr);
-        String uuidPath = StratosConstants.TENANT_CREATION_THEME_PAGE_TOKEN
-                          + RegistryConstants.PATH_SEPARATOR + uuid;
-        systemRegistry.put(uuidPath, resource);
 
-        // restrict access
-        CommonUtil.denyAnonAuthorization(uuidPath, systemRegistry.getUserRealm());
-        return uuid;
+        return ThemePageTokenUtil.createToken(tenantId);
     }
 
     /**
@@ -158,10 +136,9 @@ public class TenantMgtUtil {
      */
     public static void triggerAddTenant(TenantInfoBean tenantInfo) throws StratosException {
         // initializeRegistry(tenantInfoBean.getTenantId());
-        for (TenantMgtListener tenantMgtListener :
-                TenantMgtServiceComponent.getTenantMgtListeners()) {
-            tenantMgtListener.onTenantCreate(tenantInfo);
-        }
+        TenantDomainFilter.getInstance().add(tenantInfo.getTenantDomain());
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.TENANT_CREATE,
+                tenantMgtListener -> tenantMgtListener.onTenantCreate(tenantInfo));
     }
 
     /**
@@ -172,9 +149,8 @@ public class TenantMgtUtil {
      */
     public static void triggerPreAddTenant(TenantInfoBean tenantInfo) throws StratosException {
 
-        for (TenantMgtListener tenantMgtListener : TenantMgtServiceComponent.getTenantMgtListeners()) {
-            tenantMgtListener.onPreTenantCreate(tenantInfo);
-        }
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.PRE_TENANT_CREATE,
+                tenantMgtListener -> tenantMgtListener.onPreTenantCreate(tenantInfo));
     }
 
     /**
@@ -185,12 +161,8 @@ public class TenantMgtUtil {
      */
     public static void triggerPreTenantDelete(int tenantId)
             throws StratosException {
-        for (TenantMgtListener tenantMgtListener : TenantMgtServiceComponent
-                .getTenantMgtListeners()) {
-            log.debug("Executing OnPreDelete on Listener Impl Class Name : "
-                      + tenantMgtListener.getClass().getName());
-            tenantMgtListener.onPreDelete(tenantId);
-        }
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.PRE_DELETE,
+                tenantMgtListener -> tenantMgtListener.onPreDelete(tenantId));
     }
 
     /**
@@ -201,32 +173,91 @@ public class TenantMgtUtil {
      */
     public static void triggerUpdateTenant(
             TenantInfoBean tenantInfoBean) throws StratosException {
-        for (TenantMgtListener tenantMgtListener :
-                TenantMgtServiceComponent.getTenantMgtListeners()) {
-            tenantMgtListener.onTenantUpdate(tenantInfoBean);
-        }
+        TenantInfoBeanCache.getInstance().clearCacheEntry(tenantInfoBean.getTenantDomain());
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.TENANT_UPDATE,
+                tenantMgtListener -> tenantMgtListener.onTenantUpdate(tenantInfoBean));
     }
     
     public static void triggerTenantInitialActivation(
                                   TenantInfoBean tenantInfoBean) throws StratosException {
-        for (TenantMgtListener tenantMgtListener :
-                TenantMgtServiceComponent.getTenantMgtListeners()) {
-            tenantMgtListener.onTenantInitialActivation(tenantInfoBean.getTenantId());
-        }
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.TENANT_INITIAL_ACTIVATION,
+                tenantMgtListener -> tenantMgtListener.onTenantInitialActivation(tenantInfoBean.getTenantId()));
     }
     
     public static void triggerTenantActivation(int tenantId) throws StratosException {
-        for (TenantMgtListener tenantMgtListener : 
-                TenantMgtServiceComponent.getTenantMgtListeners()) {
-            tenantMgtListener.onTenantActivation(tenantId);
-        }
+        TenantInfoBeanCache.getInstance().clearCacheEntry(tenantId);
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.TENANT_ACTIVATION,
+                tenantMgtListener -> tenantMgtListener.onTenantActivation(tenantId));
     }
     
     public static void triggerTenantDeactivation(int tenantId) throws StratosException {
-        for (TenantMgtListener tenantMgtListener :
-                TenantMgtServiceComponent.getTenantMgtListeners()) {
-            tenantMgtListener.onTenantDeactivation(tenantId);
+        TenantInfoBeanCache.getInstance().clearCacheEntry(tenantId);
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.TENANT_DEACTIVATION,
+                tenantMgtListener -> tenantMgtListener.onTenantDeactivation(tenantId));
+    }
+
+    /**
+     * Triggers tenant activation for a set of tenants. Listeners are notified in batches, so that a listener is
+     * invoked once per batch. A tenant for which a listener failed is not notified to the subsequent listeners.
+     *
+     * @param tenantIds ids of the activated tenants.
+     * @return errors of the tenants for which a listener failed, keyed by the tenant id.
+     * @throws StratosException if the listeners could not be notified.
+     */
+    public static Map<Integer, StratosException> triggerTenantActivation(List<Integer> tenantIds)
+            throws StratosException {
+
+        return triggerForTenants(TenantMgtListenerEvent.TENANT_ACTIVATION, tenantIds,
+                TenantMgtListener::onTenantActivation);
+    }
+
+    /**
+     * Triggers tenant deactivation for a set of tenants. Listeners are notified in batches, so that a listener is
+     * invoked once per batch. A tenant for which a listener failed is not notified to the subsequent listeners.
+     *
+     * @param tenantIds ids of the deactivated tenants.
+     * @return errors of the tenants for which a listener failed, keyed by the tenant id.
+     * @throws StratosException if the listeners could not be notified.
+     */
+    public static Map<Integer, StratosException> triggerTenantDeactivation(List<Integer> tenantIds)
+            throws StratosException {
+
+        return triggerForTenants(TenantMgtListenerEvent.TENANT_DEACTIVATION, tenantIds,
+                TenantMgtListener::onTenantDeactivation);
+    }
+
+    private static Map<Integer, StratosException> triggerForTenants(TenantMgtListenerEvent event,
+                                                                   List<Integer> tenantIds,
+                                                                   TenantListenerInvocation invocation)
+            throws StratosException {
+
+        Map<Integer, StratosException> errors = new ConcurrentHashMap<>();
+        for (int batchStart = 0; batchStart < tenantIds.size(); batchStart += LISTENER_NOTIFICATION_BATCH_SIZE) {
+            List<Integer> batch = tenantIds.subList(batchStart,
+                    Math.min(batchStart + LISTENER_NOTIFICATION_BATCH_SIZE, tenantIds.size()));
+            for (int tenantId : batch) {
+                TenantInfoBeanCache.getInstance().clearCacheEntry(tenantId);
+            }
+            TenantMgtListenerDispatcher.dispatch(event, tenantMgtListener -> {
+                for (int tenantId : batch) {
+                    if (errors.containsKey(tenantId)) {
+                        continue;
+                    }
+                    try {
+                        invocation.invoke(tenantMgtListener, tenantId);
+                    } catch (StratosException e) {
+                        errors.put(tenantId, e);
+                    }
+                }
+            });
         }
+        return errors;
+    }
+
+    @FunctionalInterface
+    private interface TenantListenerInvocation {
+
+        void invoke(TenantMgtListener tenantMgtListener, int tenantId) throws StratosException;
     }
 
     /**
@@ -387,12 +418,12 @@ public class TenantMgtUtil {
                 try {
                     userStoreManager.updateCredentialByAdmin(tenantInfoBean.getAdmin(), adminPassword);
                 } catch (UserStoreException e) {
-                    String msg = String.format("Error in changing the tenant admin password for tenant domain: %s. %s",
+                    String msg = String.format(ERROR_CODE_INVALID_ADMIN_PASSWORD.getMessage(),
                             tenantInfoBean.getTenantDomain(), e.getMessage());
                     if (log.isDebugEnabled()) {
                         log.debug(msg, e);
                     }
-                    throw new TenantManagementClientException(null, msg);
+                    throw new TenantManagementClientException(ERROR_CODE_INVALID_ADMIN_PASSWORD.getCode(), msg);
                 }
             }
         } catch (UserStoreException e) {
@@ -426,40 +457,84 @@ public class TenantMgtUtil {
 
         TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
         if (tenantManager != null) {
-            int tenantId = tenantManager.getTenantId(tenantDomain);
-            ServerConfigurationService serverConfigurationService =
-                    TenantMgtServiceComponent.getServerConfigurationService();
-            /*
-             * TODO: 2/7/19 We need to fix listeners to enable this by default
-             */
-            if (Boolean.parseBoolean(
-                    serverConfigurationService.getFirstProperty("Tenant.ListenerInvocationPolicy.InvokeOnDelete"))) {
-                triggerPreTenantDelete(tenantId);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("Tenant.ListenerInvocationPolicy.InvokeOnDelete flag is not set to true in " +
-                            "carbon.xml. Listener invocation ignored.");
-                }
+            getTenantDeletionJob(tenantManager, tenantDomain).execute(null);
+        }
+    }
+
+    /**
+     * Submit the deletion of a tenant as a background job. The completed phases of the deletion are recorded, so
+     * that a failed deletion resumes from where it stopped when it is submitted again.
+     *
+     * @param tenantDomain domain name of the tenant.
+     * @return id of the tenant deletion job, which can be used to query its status.
+     * @throws Exception if the tenant could not be resolved or the job could not be submitted.
+     */
+    public static String submitTenantDeletion(String tenantDomain) throws Exception {
+
+        TenantManager tenantManager = TenantMgtServiceComponent.getTenantManager();
+        if (tenantManager == null) {
+            throw new TenantManagementServerException("Unable to retrieve TenantManager.");
+        }
+        TenantDeletionJob job = getTenantDeletionJob(tenantManager, tenantDomain);
+        return TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_DELETION, job.getTenantDomain(),
+                job.getTenantId(), job.getTenantUuid(), job);
+    }
+
+    /**
+     * Resubmit the tenant deletions which were interrupted before completing, e.g. by a server restart.
+     */
+    public static void resumeTenantDeletions() {
+
+        try {
+            for (TenantDeletionJob job : TenantDeletionJob.loadPending()) {
+                log.info("Resuming the deletion of tenant: " + job.getTenantDomain() + " [" + job.getTenantId() +
+                        "].");
+                TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_DELETION, job.getTenantDomain(),
+                        job.getTenantId(), job.getTenantUuid(), job);
             }
-            Tenant tenant = (Tenant) tenantManager.getTenant(tenantId);
-            String adminUserUuid = getTenantAdminUuid(tenant);
-            String tenantUuid = tenant.getTenantUniqueID();
-            TenantMgtUtil.deleteWorkernodesTenant(tenantId);
-            if (TenantMgtServiceComponent.getBillingService() != null) {
-                TenantMgtServiceComponent.getBillingService().deleteBillingData(tenantId);
+        } catch (TenantManagementServerException e) {
+            log.error("Error while resuming the pending tenant deletions.", e);
+        }
+    }
+
+    private static TenantDeletionJob getTenantDeletionJob(TenantManager tenantManager, String tenantDomain)
+            throws Exception {
+
+        // The tenant may already be removed from the user store by a deletion which did not complete, hence the
+        // pending deletion is looked up by the domain before resolving the tenant id.
+        TenantDeletionJob job = TenantDeletionJob.loadPending(tenantDomain);
+        if (job != null) {
+            return job;
+        }
+        int tenantId = tenantManager.getTenantId(tenantDomain);
+        if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+            throw new TenantManagementClientException(ERROR_CODE_DOMAIN_NOT_FOUND.getCode(),
+                    String.format(ERROR_CODE_DOMAIN_NOT_FOUND.getMessage(), tenantDomain));
+        }
+        Tenant tenant = (Tenant) tenantManager.getTenant(tenantId);
+        return TenantDeletionJob.create(tenantId, tenantDomain, tenant.getTenantUniqueID(),
+                getTenantAdminUuid(tenant));
+    }
+
+    static void triggerPreTenantDeleteIfEnabled(int tenantId) throws StratosException {
+
+        ServerConfigurationService serverConfigurationService =
+                TenantMgtServiceComponent.getServerConfigurationService();
+        /*
+         * TODO: 2/7/19 We need to fix listeners to enable this by default
+         */
+        if (Boolean.parseBoolean(
+                serverConfigurationService.getFirstProperty("Tenant.ListenerInvocationPolicy.InvokeOnDelete"))) {
+            triggerPreTenantDelete(tenantId);
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant.ListenerInvocationPolicy.InvokeOnDelete flag is not set to true in " +
+                        "carbon.xml. Listener invocation ignored.");
             }
-            removeAllClaims(tenantId);
-            TenantMgtUtil.unloadTenantConfigurations(tenantDomain, tenantId);
-            TenantMgtUtil.deleteTenantRegistryData(tenantId);
-            TenantMgtUtil.deleteTenantDir(tenantId);
-            tenantManager.deleteTenant(tenantId);
-            log.info(String.format("Deleted tenant with domain: %s and tenant id: %d from the system.", tenantDomain,
-                    tenantId));
-            triggerPostTenantDelete(tenantId, tenantUuid, adminUserUuid);
         }
     }
 
-    private static void removeAllClaims(int tenantId) throws TenantManagementServerException {
+    static void removeAllClaims(int tenantId) throws TenantManagementServerException {
 
         try {
             TenantMgtServiceComponent.getClaimMetadataManagementService().removeAllClaims(tenantId);
@@ -514,6 +589,52 @@ public class TenantMgtUtil {
         return bean;
     }
 
+    /**
+     * Initializes a TenantInfoBean object from the tenant, along with the name, first name and last name of the
+     * tenant admin. The admin claims are read from the user store in a single call.
+     *
+     * @param tenantId tenant id
+     * @param tenant   tenant
+     * @return TenantInfoBean.
+     * @throws TenantManagementServerException if the user store manager of the tenant could not be retrieved.
+     */
+    public static TenantInfoBean getTenantInfoBeanWithAdminDetails(int tenantId, Tenant tenant)
+            throws TenantManagementServerException {
+
+        TenantInfoBean bean = getTenantInfoBeanfromTenant(tenantId, tenant);
+        String adminName;
+        if (tenantId == MultitenantConstants.SUPER_TENANT_ID) {
+            adminName = TenantMgtServiceComponent.getBootstrapRealmConfiguration().getAdminUserName();
+        } else if (tenant != null) {
+            adminName = tenant.getAdminName();
+            bean.setAdmin(adminName);
+        } else {
+            adminName = null;
+        }
+
+        String firstName = "";
+        String lastName = "";
+        if (StringUtils.isNotEmpty(adminName)) {
+            try {
+                Map<String, String> claimValues = getUserStoreManager(tenantId).getUserClaimValues(adminName,
+                        new String[]{UserCoreConstants.ClaimTypeURIs.GIVEN_NAME,
+                                UserCoreConstants.ClaimTypeURIs.SURNAME}, UserCoreConstants.DEFAULT_PROFILE);
+                if (claimValues != null) {
+                    firstName = StringUtils.defaultString(claimValues.get(UserCoreConstants.ClaimTypeURIs.GIVEN_NAME));
+                    lastName = StringUtils.defaultString(claimValues.get(UserCoreConstants.ClaimTypeURIs.SURNAME));
+                }
+            } catch (org.wso2.carbon.user.api.UserStoreException e) {
+                // Not an error, since there can be tenants without the admin names.
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to get the first and last names of the admin of tenant: " + tenantId, e);
+                }
+            }
+        }
+        bean.setFirstname(firstName);
+        bean.setLastname(lastName);
+        return bean;
+    }
+
     /**
      * initializes a TenantInfoBean object from the tenant
      * @param tenantId, tenant id
@@ -532,9 +653,11 @@ public class TenantMgtUtil {
             bean.setName(StringUtils.isNotBlank(tenantName) ? tenantName : tenantDomain);
 
             /*gets the created date*/
-            Calendar createdDate = Calendar.getInstance();
-            createdDate.setTimeInMillis(tenant.getCreatedDate().getTime());
-            bean.setCreatedDate(createdDate);
+            if (tenant.getCreatedDate() != null) {
+                Calendar createdDate = Calendar.getInstance();
+                createdDate.setTimeInMillis(tenant.getCreatedDate().getTime());
+                bean.setCreatedDate(createdDate);
+            }
 
             bean.setActive(tenant.isActive());
             if(log.isDebugEnabled()) {
@@ -647,6 +770,7 @@ public class TenantMgtUtil {
      */
     public static void activateTenant(String tenantDomain, TenantManager tenantManager,
                                       int tenantId) throws Exception {
+        TenantInfoBeanCache.getInstance().clearCacheEntry(tenantDomain);
         try {
             tenantManager.activateTenant(tenantId);
         } catch (UserStoreException e) {
@@ -676,6 +800,7 @@ public class TenantMgtUtil {
      */
     public static void deactivateTenant(String tenantDomain, TenantManager tenantManager,
                                         int tenantId) throws Exception {
+        TenantInfoBeanCache.getInstance().clearCacheEntry(tenantDomain);
         try {
             tenantManager.deactivateTenant(tenantId);
             unloadTenantConfigurations(tenantDomain, tenantId);
@@ -724,32 +849,116 @@ public class TenantMgtUtil {
         }
     }
 
+    /**
+     * Unloading a set of deactivated tenants in parallel on the {@link TenantTaskExecutor}, in order to avoid serving
+     * requests to the tenants.
+     *
+     * @param tenants ids of the tenants, keyed by the tenant domain.
+     */
+    public static void unloadTenantConfigurations(Map<String, Integer> tenants) {
+
+        if (tenants.size() <= 1) {
+            for (Map.Entry<String, Integer> tenant : tenants.entrySet()) {
+                unloadTenantConfigurations(tenant.getKey(), tenant.getValue());
+            }
+            return;
+        }
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> tenant : tenants.entrySet()) {
+            futures.put(tenant.getKey(), TenantTaskExecutor.submit(
+                    () -> unloadTenantConfigurations(tenant.getKey(), tenant.getValue())));
+        }
+        try {
+            for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+                try {
+                    future.getValue().get();
+                } catch (ExecutionException e) {
+                    log.error("Error while unloading the configurations of the tenant: " + future.getKey(),
+                            e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while unloading the tenant configurations.", e);
+        }
+    }
+
+    /**
+     * Delete the data of a tenant from the mounted config and governance registry databases, and from the product
+     * specific tables declared in {@link TenantDataPurgeTargets}. The databases are purged concurrently when they are
+     * on different data sources.
+     *
+     * @param tenantId id of the tenant.
+     * @throws Exception if the data could not be deleted from any of the databases.
+     */
     public static void deleteTenantRegistryData(int tenantId) throws Exception {
+
+        TenantDataPurgePhase purgePhase = new TenantDataPurgePhase(tenantId);
         // delete data from mounted config registry database
         JDBCDataAccessManager configMgr = (JDBCDataAccessManager) TenantMgtServiceComponent.getRegistryService().
                 getConfigUserRegistry().getRegistryContext().getDataAccessManager();
-        TenantRegistryDataDeletionUtil.deleteTenantRegistryData(tenantId, configMgr.getDataSource().getConnection());
+        purgePhase.add("config registry", configMgr.getDataSource(),
+                conn -> TenantRegistryDataDeletionUtil.deleteTenantRegistryData(tenantId, conn));
 
-        // delete data from mounted governance registry database
+        // delete data from mounted governance registry database, unless it shares the config registry database
         JDBCDataAccessManager govMgr = (JDBCDataAccessManager) TenantMgtServiceComponent.getRegistryService().
                 getGovernanceUserRegistry().getRegistryContext().getDataAccessManager();
-        TenantRegistryDataDeletionUtil.deleteTenantRegistryData(tenantId, govMgr.getDataSource().getConnection());
+        if (!purgePhase.contains(govMgr.getDataSource())) {
+            purgePhase.add("governance registry", govMgr.getDataSource(),
+                    conn -> TenantRegistryDataDeletionUtil.deleteTenantRegistryData(tenantId, conn));
+        }
+
+        List<String> failedLookups = TenantDataPurgeTargets.addPurges(purgePhase, tenantId);
+
+        purgePhase.execute();
+        if (!failedLookups.isEmpty()) {
+            throw new TenantManagementServerException("Error in looking up the data sources: " +
+                    String.join(", ", failedLookups) + " to delete the data of tenant: " + tenantId);
+        }
+    }
+
+    /**
+     * Add a product specific table, whose rows of a tenant are deleted along with the registry data of the tenant.
+     * The table must have a TENANT_ID column.
+     *
+     * @param dataSourceName JNDI name of the data source of the table.
+     * @param tableName      name of the table.
+     */
+    public static void addProductSpecificTenantDataTable(String dataSourceName, String tableName) {
 
+        TenantDataPurgeTargets.add(new TenantDataPurgeTarget(dataSourceName, tableName));
+    }
+
+    /**
+     * Remove a product specific table added through {@link #addProductSpecificTenantDataTable(String, String)}.
+     *
+     * @param dataSourceName JNDI name of the data source of the table.
+     * @param tableName      name of the table.
+     */
+    public static void removeProductSpecificTenantDataTable(String dataSourceName, String tableName) {
+
+        TenantDataPurgeTargets.remove(new TenantDataPurgeTarget(dataSourceName, tableName));
     }
 
     public static void deleteTenantUMData(int tenantId) throws Exception {
-        RealmConfiguration realmConfig = TenantMgtServiceComponent.getRealmService().
-                getBootstrapRealmConfiguration();
-        BasicDataSource dataSource = new BasicDataSource();
-        dataSource.setDriverClassName(realmConfig.getRealmProperty(JDBCRealmConstants.DRIVER_NAME));
-        dataSource.setUrl(realmConfig.getRealmProperty(JDBCRealmConstants.URL));
-        dataSource.setUsername(realmConfig.getRealmProperty(JDBCRealmConstants.USER_NAME));
-        dataSource.setPassword(realmConfig.getRealmProperty(JDBCRealmConstants.PASSWORD));
-        dataSource.setMaxActive(Integer.parseInt(realmConfig.getRealmProperty(JDBCRealmConstants.MAX_ACTIVE)));
-        dataSource.setMinIdle(Integer.parseInt(realmConfig.getRealmProperty(JDBCRealmConstants.MIN_IDLE)));
-        dataSource.setMaxWait(Integer.parseInt(realmConfig.getRealmProperty(JDBCRealmConstants.MAX_WAIT)));
 
-        TenantUMDataDeletionUtil.deleteTenantUMData(tenantId, dataSource.getConnection());
+        deleteTenantUMData(new int[]{tenantId});
+    }
+
+    /**
+     * Delete the user management data of the given tenants through the pooled realm data source.
+     *
+     * @param tenantIds ids of the tenants.
+     * @throws Exception if the data could not be deleted.
+     */
+    public static void deleteTenantUMData(int[] tenantIds) throws Exception {
+
+        DataSource dataSource = DatabaseUtil.getRealmDataSource(
+                TenantMgtServiceComponent.getRealmService().getBootstrapRealmConfiguration());
+        if (dataSource == null) {
+            throw new TenantManagementServerException("Unable to retrieve the user store data source.");
+        }
+        TenantUMDataDeletionUtil.deleteTenantUMData(tenantIds, dataSource.getConnection());
     }
 
     /**
@@ -781,21 +990,33 @@ public class TenantMgtUtil {
     /**
      * Delete tenant data specific to product from database.
      *
-     * @param dataSourceName
-     * @param tableName
-     * @param tenantId
+     * @param dataSourceName JNDI name of the data source of the table.
+     * @param tableName      name of the table, with a TENANT_ID column.
+     * @param tenantId       id of the tenant.
+     * @throws TenantManagementServerException if the data could not be deleted.
      */
-    public static void deleteProductSpecificTenantData(String dataSourceName, String tableName, int tenantId) {
-        try {
-            TenantDataDeletionUtil.deleteProductSpecificTenantData(((DataSource) InitialContext.doLookup(dataSourceName)).
-                    getConnection(), tableName, tenantId);
-        } catch (Exception e) {
-            throw new RuntimeException("Error in looking up data source: " + e.getMessage(), e);
+    public static void deleteProductSpecificTenantData(String dataSourceName, String tableName, int tenantId)
+            throws TenantManagementServerException {
+        try (Connection conn = TenantDataPurgeTargets.lookupDataSource(dataSourceName).getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                TenantDataDeletionUtil.deleteProductSpecificTenantData(conn, tableName, tenantId);
+                conn.commit();
+            } catch (TenantManagementServerException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (NamingException e) {
+            throw new TenantManagementServerException("Error in looking up data source: " + dataSourceName, e);
+        } catch (SQLException e) {
+            throw new TenantManagementServerException("An error occurred while deleting data of tenant: " +
+                    tenantId + " from table: " + tableName, e);
         }
     }
 
     /**
-     * Delete the tenant directory of a given tenant id
+     * Delete the tenant directory of a given tenant id. The directory is moved out of the tenants directory and
+     * deleted in the background by the {@link TenantDirectoryReaper}.
      *
      * @param tenantId Id of the tenant
      */
@@ -804,15 +1025,7 @@ public class TenantMgtUtil {
         if (log.isDebugEnabled()) {
             log.debug("Deleting tenant directory of tenant: " + tenantId);
         }
-
-        String tenantDirPath = CarbonUtils.getCarbonTenantsDirPath() + File.separator + tenantId;
-        File tenantDir = new File(tenantDirPath);
-
-        try {
-            FileUtils.deleteDirectory(tenantDir);
-        } catch (IOException e) {
-            log.error("Error in deleting tenant directory: " + tenantDirPath, e);
-        }
+        TenantDirectoryReaper.removeTenantDir(tenantId);
     }
 
     public static boolean isTenantAdminCreationOperation() {
@@ -922,15 +1135,10 @@ public class TenantMgtUtil {
      * @param adminUserUuid String Tenant admin user unique identifier.
      * @throws StratosException If trigger failed.
      */
-    private static void triggerPostTenantDelete(int tenantId, String tenantUuid, String adminUserUuid)
+    static void triggerPostTenantDelete(int tenantId, String tenantUuid, String adminUserUuid)
             throws StratosException {
 
-        for (TenantMgtListener tenantMgtListener : TenantMgtServiceComponent.getTenantMgtListeners()) {
-            if (log.isDebugEnabled()) {
-                log.debug("Executing OnPostDelete on Listener Impl Class Name: "
-                        + tenantMgtListener.getClass().getName());
-            }
-            tenantMgtListener.onPostDelete(tenantId, tenantUuid, adminUserUuid);
-        }
+        TenantMgtListenerDispatcher.dispatch(TenantMgtListenerEvent.POST_DELETE,
+                tenantMgtListener -> tenantMgtListener.onPostDelete(tenantId, tenantUuid, adminUserUuid));
     }
 }
@@ -22,14 +22,37 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 public class TenantRegistryDataDeletionUtil {
     public static final Log log = LogFactory.getLog(TenantRegistryDataDeletionUtil.class);
     
     /**
-     * Delete all tenant information related to tenant stored in REG tables
+     * REG tables holding tenant data, in the order they are purged, with the column holding the tenant id.
+     */
+    static final String[][] REGISTRY_TABLES = {
+            {"REG_CLUSTER_LOCK", "REG_TENANT_ID"},
+            {"REG_LOG", "REG_TENANT_ID"},
+            {"REG_ASSOCIATION", "REG_TENANT_ID"},
+            {"REG_SNAPSHOT", "REG_TENANT_ID"},
+            {"REG_RESOURCE_COMMENT", "REG_TENANT_ID"},
+            {"REG_COMMENT", "REG_TENANT_ID"},
+            {"REG_RESOURCE_RATING", "REG_TENANT_ID"},
+            {"REG_RATING", "REG_TENANT_ID"},
+            {"REG_RESOURCE_TAG", "REG_TENANT_ID"},
+            {"REG_TAG", "REG_TENANT_ID"},
+            {"REG_RESOURCE_PROPERTY", "REG_TENANT_ID"},
+            {"REG_PROPERTY", "REG_TENANT_ID"},
+            {"REG_RESOURCE_HISTORY", "REG_TENANT_ID"},
+            {"REG_CONTENT_HISTORY", "REG_TENANT_ID"},
+            {"REG_RESOURCE", "REG_TENANT_ID"},
+            {"REG_CONTENT", "REG_TENANT_ID"},
+            {"REG_PATH", "REG_TENANT_ID"}
+    };
+
+    /**
+     * Delete all tenant information related to tenant stored in REG tables. The rows are deleted in chunks if
+     * configured, and otherwise with a single JDBC batch, see {@link TenantDataPurger}.
      * @param tenantId id of tenant whose data should be deleted
      * @param conn database connection object
      * @throws SQLException thrown if an error occurs while executing the queries 
@@ -37,59 +60,10 @@ public class TenantRegistryDataDeletionUtil {
     public static void deleteTenantRegistryData(int tenantId, Connection conn) throws Exception {
         try {
             conn.setAutoCommit(false);
-            String deleteClusterLockSql = "DELETE FROM REG_CLUSTER_LOCK WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteClusterLockSql, tenantId);
-
-            String deleteLogSql = "DELETE FROM REG_LOG WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteLogSql, tenantId);
-
-            String deleteAssociationSql = "DELETE FROM REG_ASSOCIATION WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteAssociationSql, tenantId);
-
-            String deleteSnapshotSql = "DELETE FROM REG_SNAPSHOT WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteSnapshotSql, tenantId);
-
-            String deleteResourceCommentSql = "DELETE FROM REG_RESOURCE_COMMENT WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteResourceCommentSql, tenantId);
-
-            String deleteCommentSql = "DELETE FROM REG_COMMENT WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteCommentSql, tenantId);
-
-            String deleteResourceRatingSql = "DELETE FROM REG_RESOURCE_RATING WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteResourceRatingSql, tenantId);
-
-            String deleteRatingSql = "DELETE FROM REG_RATING WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteRatingSql, tenantId);
-
-            String deleteResourceTagSql = "DELETE FROM REG_RESOURCE_TAG WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteResourceTagSql, tenantId);
-
-            String deleteTagSql = "DELETE FROM REG_TAG WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteTagSql, tenantId);
-
-            String deleteResourcePropertySql = "DELETE FROM REG_RESOURCE_PROPERTY WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteResourcePropertySql, tenantId);
-
-            String deletePropertySql = "DELETE FROM REG_PROPERTY WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deletePropertySql, tenantId);
-
-            String deleteResourceHistorySql = "DELETE FROM REG_RESOURCE_HISTORY WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteResourceHistorySql, tenantId);
-
-            String deleteContentHistorySql = "DELETE FROM REG_CONTENT_HISTORY WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteContentHistorySql, tenantId);
-
-            String deleteResourceSql = "DELETE FROM REG_RESOURCE WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteResourceSql, tenantId);
-
-            String deleteContentSql = "DELETE FROM REG_CONTENT WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteContentSql, tenantId);
-
-            String deletePathSql = "DELETE FROM REG_PATH WHERE REG_TENANT_ID = ?";
-            executeDeleteQuery(conn, deletePathSql, tenantId);
+            TenantDataPurger.forTenant(conn, tenantId).delete(REGISTRY_TABLES, tenantId);
 
             conn.commit();
-        } catch (SQLException e) {
+        } catch (Exception e) {
             conn.rollback();
             String errorMsg = "An error occurred while deleting registry data for tenant: " + tenantId;
             log.error(errorMsg, e);
@@ -98,22 +72,4 @@ public class TenantRegistryDataDeletionUtil {
             conn.close();
         }
     }
-
-    private static void executeDeleteQuery(Connection conn, String query, int tenantId)
-            throws Exception {
-        PreparedStatement ps = null;
-        try {
-            ps = conn.prepareStatement(query);
-            ps.setInt(1, tenantId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            String errMsg = "Error executing query " + query + " for tenant: " + tenantId;
-            log.error(errMsg, e);
-            throw new Exception(errMsg, e);
-        } finally {
-            if (ps != null) {
-                ps.close();
-            }
-        }
-    }
 }
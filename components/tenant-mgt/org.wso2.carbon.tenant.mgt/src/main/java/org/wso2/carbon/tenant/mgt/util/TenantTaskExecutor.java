@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.tenant.mgt.core.util.TenantCoreUtil;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the parts of tenant operations which are done in parallel, such as the purges of a tenant deletion on different
+ * databases and the unloading of the configurations of bulk deactivated tenants. A single pool, started and stopped
+ * with the component, is shared by all the operations, so that the number of threads stays within the
+ * 'Tenant.Tasks.PoolSize' property of carbon.xml however many operations run concurrently. Tasks run on the pool must
+ * not wait for other tasks of the pool.
+ */
+public class TenantTaskExecutor {
+
+    private static final Log log = LogFactory.getLog(TenantTaskExecutor.class);
+
+    private static final String POOL_SIZE_PROPERTY = "Tenant.Tasks.PoolSize";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static ExecutorService executor = null;
+
+    /**
+     * Starts the thread pool which runs the tasks.
+     */
+    public static synchronized void start() {
+
+        if (executor == null) {
+            int poolSize = TenantCoreUtil.getPositiveIntProperty(POOL_SIZE_PROPERTY,
+                    Runtime.getRuntime().availableProcessors());
+            executor = Executors.newFixedThreadPool(poolSize, new TenantTaskThreadFactory());
+        }
+    }
+
+    /**
+     * Stops the thread pool, interrupting the tasks which are still running.
+     */
+    public static synchronized void stop() {
+
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Tenant tasks did not stop within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Submit a task. The task is run by the calling thread before returning if the pool is not started or is
+     * stopped, so that the operation still completes, one task after the other.
+     *
+     * @param task task to run.
+     * @param <T>  type of the result of the task.
+     * @return result of the task.
+     */
+    public static <T> Future<T> submit(Callable<T> task) {
+
+        ExecutorService taskExecutor = executor;
+        if (taskExecutor != null) {
+            try {
+                return taskExecutor.submit(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("Tenant task pool is stopped. Hence running the task in the calling thread.", e);
+            }
+        }
+        FutureTask<T> future = new FutureTask<>(task);
+        future.run();
+        return future;
+    }
+
+    /**
+     * Submit a task without a result, see {@link #submit(Callable)}.
+     *
+     * @param task task to run.
+     * @return completion of the task.
+     */
+    public static Future<?> submit(Runnable task) {
+
+        return submit(Executors.callable(task));
+    }
+
+    private static class TenantTaskThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "TenantTaskWorker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
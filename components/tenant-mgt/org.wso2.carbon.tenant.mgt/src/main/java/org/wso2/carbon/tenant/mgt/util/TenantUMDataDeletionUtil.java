@@ -21,92 +21,72 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 public class TenantUMDataDeletionUtil {
     public static final Log log = LogFactory.getLog(TenantUMDataDeletionUtil.class);
 
     /**
-     * Delete all tenant information related to tenant stored in UM tables
+     * UM tables holding tenant data, in the order they are purged, with the column holding the tenant id.
+     */
+    static final String[][] UM_TABLES = {
+            {"UM_USER_PERMISSION", "UM_TENANT_ID"},
+            {"UM_ROLE_PERMISSION", "UM_TENANT_ID"},
+            {"UM_PERMISSION", "UM_TENANT_ID"},
+            {"UM_CLAIM_BEHAVIOR", "UM_TENANT_ID"},
+            {"UM_PROFILE_CONFIG", "UM_TENANT_ID"},
+            {"UM_CLAIM", "UM_TENANT_ID"},
+            {"UM_DIALECT", "UM_TENANT_ID"},
+            {"UM_USER_ATTRIBUTE", "UM_TENANT_ID"},
+            {"UM_HYBRID_USER_ROLE", "UM_TENANT_ID"},
+            {"UM_HYBRID_ROLE", "UM_TENANT_ID"},
+            {"UM_HYBRID_REMEMBER_ME", "UM_TENANT_ID"},
+            {"UM_USER_ROLE", "UM_TENANT_ID"},
+            {"UM_ROLE", "UM_TENANT_ID"},
+            {"UM_USER", "UM_TENANT_ID"},
+            {"UM_TENANT", "UM_ID"}
+    };
+
+    /**
+     * Delete all tenant information related to tenant stored in UM tables. The rows are deleted in chunks if
+     * configured, see {@link TenantDataPurger}.
      * @param tenantId id of tenant whose data should be deleted
      * @param conn database connection object
      * @throws SQLException thrown if an error occurs while executing the queries
      */
     public static void deleteTenantUMData(int tenantId, Connection conn) throws Exception {
-        try {
-            conn.setAutoCommit(false);
-            String deleteUserPermissionSql = "DELETE FROM UM_USER_PERMISSION WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteUserPermissionSql, tenantId);
-
-            String deleteRolePermissionSql = "DELETE FROM UM_ROLE_PERMISSION WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteRolePermissionSql, tenantId);
-
-            String deletePermissionSql = "DELETE FROM UM_PERMISSION WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deletePermissionSql, tenantId);
-
-            String deleteClaimBehaviourSql = "DELETE FROM UM_CLAIM_BEHAVIOR WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteClaimBehaviourSql, tenantId);
-
-            String deleteProfileConfigSql = "DELETE FROM UM_PROFILE_CONFIG WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteProfileConfigSql, tenantId);
-
-            String deleteClaimSql = "DELETE FROM UM_CLAIM WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteClaimSql, tenantId);
-
-            String deleteDialectSql = "DELETE FROM UM_DIALECT WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteDialectSql, tenantId);
-
-            String deleteUserAttributeSql = "DELETE FROM UM_USER_ATTRIBUTE WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteUserAttributeSql, tenantId);
-
-            String deleteHybridUserRoleSql = "DELETE FROM UM_HYBRID_USER_ROLE WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteHybridUserRoleSql, tenantId);
-
-            String deleteHybridRoleSql = "DELETE FROM UM_HYBRID_ROLE WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteHybridRoleSql, tenantId);
-
-            String deleteHybridRememberMeSql = "DELETE FROM UM_HYBRID_REMEMBER_ME WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteHybridRememberMeSql, tenantId);
-
-            String deleteUserRoleSql = "DELETE FROM UM_USER_ROLE WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteUserRoleSql, tenantId);
 
-            String deleteRoleSql = "DELETE FROM UM_ROLE WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteRoleSql, tenantId);
-
-            String deleteUserSql = "DELETE FROM UM_USER WHERE UM_TENANT_ID = ?";
-            executeDeleteQuery(conn, deleteUserSql, tenantId);
-
-            String deleteTenantSql = "DELETE FROM UM_TENANT WHERE UM_ID = ?";
-            executeDeleteQuery(conn, deleteTenantSql, tenantId);
+        deleteTenantUMData(new int[]{tenantId}, conn);
+    }
 
+    /**
+     * Delete all tenant information related to the given tenants stored in UM tables, in a single pass over the
+     * tables. Unless the rows are deleted in chunks, the deletes are executed as a JDBC batch when the driver
+     * supports it.
+     * @param tenantIds ids of tenants whose data should be deleted
+     * @param conn database connection object, which is closed once the data is deleted
+     * @throws SQLException thrown if an error occurs while executing the queries
+     */
+    public static void deleteTenantUMData(int[] tenantIds, Connection conn) throws Exception {
+        if (tenantIds.length == 0) {
+            conn.close();
+            return;
+        }
+        try {
+            conn.setAutoCommit(false);
+            TenantDataPurger purger = tenantIds.length == 1 ? TenantDataPurger.forTenant(conn, tenantIds[0]) :
+                    new TenantDataPurger(conn);
+            purger.delete(UM_TABLES, tenantIds);
             conn.commit();
         } catch (Exception e) {
             conn.rollback();
-            String errorMsg = "An error occurred while deleting registry data for tenant: " + tenantId;
+            String errorMsg = "An error occurred while deleting user management data for tenants: " +
+                    Arrays.toString(tenantIds);
             log.error(errorMsg, e);
             throw new Exception(errorMsg, e);
         } finally {
             conn.close();
         }
     }
-
-    private static void executeDeleteQuery(Connection conn, String query, int tenantId)
-            throws Exception {
-        PreparedStatement ps = null;
-        try {
-            ps = conn.prepareStatement(query);
-            ps.setInt(1, tenantId);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            String errMsg = "Error executing query " + query + " for tenant: " + tenantId;
-            log.error(errMsg, e);
-            throw new Exception(errMsg, e);
-        } finally {
-            if (ps != null) {
-                ps.close();
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.services;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.tenant.mgt.beans.TenantCreationResult;
+import org.wso2.carbon.user.core.tenant.Tenant;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_EXISTING_DOMAIN;
+import static org.wso2.carbon.stratos.common.constants.TenantConstants.ErrorMessage.ERROR_CODE_INVALID_EMAIL;
+
+/**
+ * Tests the availability check of the domains of a batch of tenants and the reporting of the tenants whose creation
+ * failed.
+ */
+public class TenantMgtImplTest {
+
+    private final Set<String> registeredDomains = new HashSet<>();
+    private final List<String> lookedUpDomains = new ArrayList<>();
+    private final TenantMgtImpl tenantMgt = new TenantMgtImpl() {
+
+        @Override
+        public boolean isDomainAvailable(String domain) {
+
+            lookedUpDomains.add(domain);
+            return !registeredDomains.contains(domain);
+        }
+    };
+
+    @BeforeMethod
+    public void setUp() {
+
+        registeredDomains.clear();
+        lookedUpDomains.clear();
+    }
+
+    @Test
+    public void testDomainsOfBatchAreCheckedOnce() throws Exception {
+
+        registeredDomains.add("b.com");
+
+        boolean[] availability = tenantMgt.checkDomainsAvailability(Arrays.asList(createTenant("a.com"),
+                createTenant("b.com"), createTenant(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)));
+
+        assertEquals(availability.length, 3);
+        assertTrue(availability[0]);
+        assertFalse(availability[1]);
+        assertFalse(availability[2]);
+        assertEquals(lookedUpDomains, Arrays.asList("a.com", "b.com"));
+    }
+
+    @Test
+    public void testConcurrentlyRegisteredDomainIsReportedAsExisting() {
+
+        Tenant tenant = createTenant("a.com");
+        TenantCreationResult result = new TenantCreationResult(tenant.getDomain());
+        registeredDomains.add("a.com");
+
+        tenantMgt.setCreationError(result, tenant, new Exception("Domain is not available to register"));
+
+        assertFalse(result.isSuccessful());
+        assertEquals(result.getErrorCode(), ERROR_CODE_EXISTING_DOMAIN.getCode());
+    }
+
+    @Test
+    public void testFailureOfAddedTenantKeepsItsError() {
+
+        Tenant tenant = createTenant("a.com");
+        tenant.setId(5);
+        TenantCreationResult result = new TenantCreationResult(tenant.getDomain());
+        registeredDomains.add("a.com");
+        TenantMgtException cause = new TenantManagementClientException(ERROR_CODE_INVALID_EMAIL.getCode(),
+                "Invalid email.");
+
+        tenantMgt.setCreationError(result, tenant, cause);
+
+        assertEquals(result.getErrorCode(), ERROR_CODE_INVALID_EMAIL.getCode());
+        assertEquals(result.getErrorMessage(), "Invalid email.");
+        assertEquals(lookedUpDomains.size(), 0);
+    }
+
+    @Test
+    public void testFailureOfAvailableDomainKeepsItsError() {
+
+        Tenant tenant = createTenant("a.com");
+        TenantCreationResult result = new TenantCreationResult(tenant.getDomain());
+
+        tenantMgt.setCreationError(result, tenant, new Exception("Connection refused"));
+
+        assertEquals(result.getErrorMessage(), "Connection refused");
+        assertEquals(lookedUpDomains, Arrays.asList("a.com"));
+    }
+
+    private static Tenant createTenant(String domain) {
+
+        Tenant tenant = new Tenant();
+        tenant.setDomain(domain);
+        return tenant;
+    }
+}
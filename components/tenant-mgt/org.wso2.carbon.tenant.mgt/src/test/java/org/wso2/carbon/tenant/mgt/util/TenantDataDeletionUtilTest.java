@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Tests that the product specific tenant data is deleted within the transaction of the caller, against an in memory
+ * H2 database.
+ */
+public class TenantDataDeletionUtilTest {
+
+    private static final String TABLE_NAME = "PRODUCT_DATA";
+
+    private Connection conn;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName() + System.nanoTime());
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        conn = dataSource.getConnection();
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("CREATE TABLE " + TABLE_NAME + " (ID INTEGER NOT NULL, TENANT_ID INTEGER NOT NULL, " +
+                    "PRIMARY KEY (ID))");
+            for (int i = 0; i < 10; i++) {
+                statement.execute("INSERT INTO " + TABLE_NAME + " (ID, TENANT_ID) VALUES (" + i + ", " + (i % 2 + 1) +
+                        ")");
+            }
+        }
+        conn.setAutoCommit(false);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        conn.close();
+    }
+
+    @Test
+    public void testDeletionIsLeftToCallerToCommit() throws Exception {
+
+        TenantDataDeletionUtil.deleteProductSpecificTenantData(conn, TABLE_NAME, 1);
+
+        assertFalse(conn.isClosed());
+        assertEquals(countRows(1), 0);
+        conn.commit();
+        assertEquals(countRows(1), 0);
+        assertEquals(countRows(2), 5);
+    }
+
+    @Test
+    public void testDeletionIsLeftToCallerToRollBack() throws Exception {
+
+        TenantDataDeletionUtil.deleteProductSpecificTenantData(conn, TABLE_NAME, 1);
+        conn.rollback();
+
+        assertEquals(countRows(1), 5);
+    }
+
+    @Test(expectedExceptions = TenantManagementServerException.class)
+    public void testDeletionFromMissingTable() throws Exception {
+
+        TenantDataDeletionUtil.deleteProductSpecificTenantData(conn, "MISSING_TABLE", 1);
+    }
+
+    private int countRows(int tenantId) throws SQLException {
+
+        try (PreparedStatement ps = conn.prepareStatement("SELECT COUNT(*) FROM " + TABLE_NAME +
+                " WHERE TENANT_ID = ?")) {
+            ps.setInt(1, tenantId);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+}
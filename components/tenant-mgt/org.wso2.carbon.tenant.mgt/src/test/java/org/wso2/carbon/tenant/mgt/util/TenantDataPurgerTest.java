@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the chunked delete queries of {@link TenantDataPurger} for each supported database.
+ */
+public class TenantDataPurgerTest {
+
+    private static final String TABLE = "UM_USER";
+    private static final int CHUNK_SIZE = 500;
+
+    @DataProvider(name = "chunkedDeleteQueries")
+    public Object[][] chunkedDeleteQueries() {
+
+        return new Object[][]{
+                {"MySQL", "DELETE FROM UM_USER WHERE UM_TENANT_ID = ? LIMIT 500"},
+                {"MariaDB", "DELETE FROM UM_USER WHERE UM_TENANT_ID = ? LIMIT 500"},
+                {"PostgreSQL", "DELETE FROM UM_USER WHERE ctid IN (SELECT ctid FROM UM_USER WHERE UM_TENANT_ID = ? " +
+                        "LIMIT 500)"},
+                {"Oracle", "DELETE FROM UM_USER WHERE UM_TENANT_ID = ? AND ROWNUM <= 500"},
+                {"Microsoft SQL Server", "DELETE TOP (500) FROM UM_USER WHERE UM_TENANT_ID = ?"},
+                {"H2", "DELETE FROM UM_USER WHERE _ROWID_ IN (SELECT _ROWID_ FROM UM_USER WHERE UM_TENANT_ID = ? " +
+                        "LIMIT 500)"}
+        };
+    }
+
+    @Test(dataProvider = "chunkedDeleteQueries")
+    public void testGetChunkedDeleteQuery(String productName, String expectedQuery) throws Exception {
+
+        TenantDataPurger purger = new TenantDataPurger(getConnection(productName), CHUNK_SIZE, 0);
+        assertTrue(purger.isChunked());
+        assertEquals(purger.getChunkedDeleteQuery(TABLE, purger.getTenantCondition("UM_TENANT_ID", new int[]{1})),
+                expectedQuery);
+    }
+
+    @Test
+    public void testGetChunkedDeleteQueryForTenants() throws Exception {
+
+        TenantDataPurger purger = new TenantDataPurger(getConnection("MySQL"), CHUNK_SIZE, 0);
+        assertEquals(purger.getChunkedDeleteQuery(TABLE,
+                purger.getTenantCondition("UM_TENANT_ID", new int[]{1, 2, 3})),
+                "DELETE FROM UM_USER WHERE UM_TENANT_ID IN (?, ?, ?) LIMIT 500");
+    }
+
+    @Test
+    public void testUnsupportedDatabaseIsNotChunked() throws Exception {
+
+        assertFalse(new TenantDataPurger(getConnection("DB2/LINUXX8664"), CHUNK_SIZE, 0).isChunked());
+    }
+
+    @Test
+    public void testZeroChunkSizeIsNotChunked() throws Exception {
+
+        assertFalse(new TenantDataPurger(getConnection("MySQL"), 0, 0).isChunked());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testGetChunkedDeleteQueryWhenNotChunked() throws Exception {
+
+        new TenantDataPurger(getConnection("MySQL"), 0, 0).getChunkedDeleteQuery(TABLE, "UM_TENANT_ID = ?");
+    }
+
+    /**
+     * Stub a connection which only reports the given database product name.
+     */
+    private static Connection getConnection(String productName) {
+
+        ClassLoader classLoader = TenantDataPurgerTest.class.getClassLoader();
+        DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(classLoader,
+                new Class[]{DatabaseMetaData.class}, (proxy, method, args) -> {
+                    if ("getDatabaseProductName".equals(method.getName())) {
+                        return productName;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return (Connection) Proxy.newProxyInstance(classLoader, new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("getMetaData".equals(method.getName())) {
+                        return metaData;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
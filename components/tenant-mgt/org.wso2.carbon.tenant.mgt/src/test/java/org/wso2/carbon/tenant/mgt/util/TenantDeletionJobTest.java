@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.tenant.mgt.beans.TenantJobStatus;
+import org.wso2.carbon.tenant.mgt.util.TenantDeletionJob.Phase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests that a tenant deletion records its completed phases, and resumes from the first phase which has not
+ * completed.
+ */
+public class TenantDeletionJobTest {
+
+    @Test
+    public void testResumeAfterFailedPhase() throws Exception {
+
+        TestDeletionJob job = new TestDeletionJob(EnumSet.noneOf(Phase.class), Phase.CLAIMS, true);
+        try {
+            job.execute(new TenantJobStatus());
+            fail("Deletion did not fail in the phase: " + Phase.CLAIMS);
+        } catch (IllegalStateException e) {
+            // Expected, as the phase failed.
+        }
+        EnumSet<Phase> checkpoint = EnumSet.of(Phase.PRE_DELETE_LISTENERS, Phase.WORKER_NODES, Phase.BILLING_DATA);
+        assertEquals(job.executedPhases, Arrays.asList(Phase.PRE_DELETE_LISTENERS, Phase.WORKER_NODES,
+                Phase.BILLING_DATA, Phase.CLAIMS));
+        assertEquals(job.savedCheckpoint, checkpoint);
+        assertFalse(job.checkpointRemoved);
+        assertTrue(job.lock.released);
+
+        TestDeletionJob resumedJob = new TestDeletionJob(EnumSet.copyOf(job.savedCheckpoint), null, true);
+        TenantJobStatus jobStatus = new TenantJobStatus();
+        resumedJob.execute(jobStatus);
+        List<Phase> remainingPhases = new ArrayList<>(Arrays.asList(Phase.values()));
+        remainingPhases.removeAll(checkpoint);
+        assertEquals(resumedJob.executedPhases, remainingPhases);
+        assertEquals(resumedJob.getCompletedPhases(), EnumSet.allOf(Phase.class));
+        assertTrue(resumedJob.checkpointRemoved);
+        assertTrue(resumedJob.lock.released);
+        assertNull(jobStatus.getCurrentPhase());
+        assertEquals(jobStatus.getCompletedPhases(), Phase.values().length);
+    }
+
+    @Test
+    public void testLockHeldByAnotherNode() throws Exception {
+
+        TestDeletionJob job = new TestDeletionJob(EnumSet.noneOf(Phase.class), null, false);
+        try {
+            job.execute(null);
+            fail("Deletion ran without the lock.");
+        } catch (Exception e) {
+            // Expected, as another node holds the lock.
+        }
+        assertEquals(job.executedPhases, Collections.emptyList());
+        assertNull(job.savedCheckpoint);
+    }
+
+    @Test
+    public void testLockTakenOverDuringDeletion() throws Exception {
+
+        TestDeletionJob job = new TestDeletionJob(EnumSet.noneOf(Phase.class), null, true) {
+            @Override
+            void executePhase(Phase phase) throws Exception {
+
+                super.executePhase(phase);
+                if (phase == Phase.WORKER_NODES) {
+                    lock.held = false;
+                }
+            }
+        };
+        try {
+            job.execute(null);
+            fail("Deletion continued after the lock was taken over.");
+        } catch (Exception e) {
+            // Expected, as the lock was taken over.
+        }
+        assertEquals(job.executedPhases, Arrays.asList(Phase.PRE_DELETE_LISTENERS, Phase.WORKER_NODES));
+        assertEquals(job.savedCheckpoint, EnumSet.of(Phase.PRE_DELETE_LISTENERS, Phase.WORKER_NODES));
+    }
+
+    /**
+     * Deletion job which records its phases and checkpoints instead of executing and storing them.
+     */
+    private static class TestDeletionJob extends TenantDeletionJob {
+
+        final Phase failingPhase;
+        final TestLock lock;
+        final List<Phase> executedPhases = new ArrayList<>();
+        EnumSet<Phase> savedCheckpoint = null;
+        boolean checkpointRemoved = false;
+
+        TestDeletionJob(EnumSet<Phase> completedPhases, Phase failingPhase, boolean lockAvailable) {
+
+            super(100, "resume.example.com", "tenant-uuid", "admin-uuid", completedPhases);
+            this.failingPhase = failingPhase;
+            this.lock = new TestLock(lockAvailable);
+        }
+
+        @Override
+        TenantDeletionLock createLock() {
+
+            return lock;
+        }
+
+        @Override
+        void executePhase(Phase phase) throws Exception {
+
+            executedPhases.add(phase);
+            if (phase == failingPhase) {
+                throw new IllegalStateException("Failed phase: " + phase);
+            }
+        }
+
+        @Override
+        void saveCheckpoint() {
+
+            savedCheckpoint = EnumSet.noneOf(Phase.class);
+            savedCheckpoint.addAll(getCompletedPhases());
+        }
+
+        @Override
+        void removeCheckpoint() {
+
+            checkpointRemoved = true;
+        }
+    }
+
+    private static class TestLock extends TenantDeletionLock {
+
+        final boolean available;
+        volatile boolean held = false;
+        boolean released = false;
+
+        TestLock(boolean available) {
+
+            super(100, "test-node", null, 0);
+            this.available = available;
+        }
+
+        @Override
+        public boolean acquire() {
+
+            held = available;
+            return held;
+        }
+
+        @Override
+        public boolean isHeld() {
+
+            return held;
+        }
+
+        @Override
+        public void release() {
+
+            held = false;
+            released = true;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the cluster wide tenant deletion lock against an in memory H2 database. Each test locks its own tenants, as
+ * the lock table is shared by the tests.
+ */
+public class TenantDeletionLockTest {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private JdbcDataSource dataSource;
+    // Keeps the in memory database open between the connections of the locks.
+    private Connection keepAliveConnection;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName());
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        keepAliveConnection = dataSource.getConnection();
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        keepAliveConnection.close();
+    }
+
+    @Test
+    public void testLockIsExclusive() throws Exception {
+
+        TenantDeletionLock lock = createLock(1, "node-a", TIMEOUT_MILLIS);
+        TenantDeletionLock otherLock = createLock(1, "node-b", TIMEOUT_MILLIS);
+        assertTrue(lock.tryAcquire());
+        assertTrue(lock.isHeld());
+        assertFalse(otherLock.tryAcquire());
+        assertFalse(otherLock.isHeld());
+        // Locks of other tenants are independent.
+        assertTrue(createLock(2, "node-b", TIMEOUT_MILLIS).tryAcquire());
+
+        lock.release();
+        assertFalse(lock.isHeld());
+        assertTrue(otherLock.tryAcquire());
+    }
+
+    @Test
+    public void testExpiredLockIsTakenOver() throws Exception {
+
+        TenantDeletionLock lock = createLock(3, "node-a", 1);
+        TenantDeletionLock otherLock = createLock(3, "node-b", TIMEOUT_MILLIS);
+        assertTrue(lock.tryAcquire());
+        Thread.sleep(20);
+        assertTrue(otherLock.tryAcquire());
+
+        // The previous owner notices that the lock was taken over, and does not release it.
+        assertFalse(lock.renew());
+        assertFalse(lock.isHeld());
+        lock.release();
+        assertFalse(createLock(3, "node-c", TIMEOUT_MILLIS).tryAcquire());
+        assertTrue(otherLock.renew());
+    }
+
+    @Test
+    public void testRenewedLockIsNotTakenOver() throws Exception {
+
+        TenantDeletionLock lock = createLock(4, "node-a", 1000);
+        assertTrue(lock.tryAcquire());
+        Thread.sleep(600);
+        assertTrue(lock.renew());
+        Thread.sleep(600);
+        assertFalse(createLock(4, "node-b", TIMEOUT_MILLIS).tryAcquire());
+    }
+
+    @Test
+    public void testRestartedNodeTakesBackItsLock() throws Exception {
+
+        assertTrue(createLock(5, "node-a", TIMEOUT_MILLIS).tryAcquire());
+        // A new lock of the same node, e.g. after a restart, takes the lock back without waiting for it to expire.
+        assertTrue(createLock(5, "node-a", TIMEOUT_MILLIS).tryAcquire());
+        assertFalse(createLock(5, "node-b", TIMEOUT_MILLIS).tryAcquire());
+    }
+
+    private TenantDeletionLock createLock(int tenantId, String owner, long timeoutMillis) {
+
+        return new TenantDeletionLock(tenantId, owner, dataSource, timeoutMillis);
+    }
+}
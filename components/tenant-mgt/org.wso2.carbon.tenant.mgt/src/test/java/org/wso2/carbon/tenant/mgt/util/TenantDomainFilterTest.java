@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@link TenantDomainFilter}, loading the domains from an in memory H2 database.
+ */
+public class TenantDomainFilterTest {
+
+    private static final int LOADED_DOMAIN_COUNT = 500;
+    private static final int MIN_EXPECTED_DOMAINS = 1024;
+    private static final long RELOAD_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private JdbcDataSource dataSource;
+    // Keeps the in memory database open between the connections of the filter.
+    private Connection keepAliveConnection;
+    private TenantDomainFilter filter;
+    private int nextTenantId = 1;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName() + System.nanoTime());
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        keepAliveConnection = dataSource.getConnection();
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("CREATE TABLE UM_TENANT (UM_ID INTEGER NOT NULL, UM_DOMAIN_NAME VARCHAR(255) NOT NULL, " +
+                    "PRIMARY KEY (UM_ID))");
+        }
+        for (int i = 0; i < LOADED_DOMAIN_COUNT; i++) {
+            insertDomain(getDomain(i));
+        }
+        filter = new TenantDomainFilter() {
+            @Override
+            boolean loadsFromDatabase() {
+
+                return true;
+            }
+
+            @Override
+            Connection getConnection() throws SQLException {
+
+                return dataSource.getConnection();
+            }
+        };
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        keepAliveConnection.close();
+    }
+
+    @Test
+    public void testMightContainBeforeLoad() {
+
+        assertTrue(filter.mightContain("unknown.com"));
+    }
+
+    @Test
+    public void testNoFalseNegatives() {
+
+        filter.load();
+        for (int i = 0; i < LOADED_DOMAIN_COUNT; i++) {
+            assertTrue(filter.mightContain(getDomain(i)), "Loaded domain is not in the filter: " + getDomain(i));
+            assertTrue(filter.mightContain(getDomain(i).toUpperCase(Locale.ENGLISH)));
+        }
+        String addedDomain = "added.example.com";
+        filter.add(addedDomain);
+        assertTrue(filter.mightContain(addedDomain));
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+
+        filter.load();
+        int falsePositives = 0;
+        int checks = 10000;
+        for (int i = 0; i < checks; i++) {
+            if (filter.mightContain("unknown" + i + ".org")) {
+                falsePositives++;
+            }
+        }
+        // The filter is sized for about 1% of false positives.
+        assertTrue(falsePositives < checks / 20, "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    public void testReloadWhenSaturated() throws Exception {
+
+        filter.load();
+        assertFalse(filter.isSaturated());
+        // Add more domains than the filter was sized for, which reloads it in the background.
+        int addedDomainCount = MIN_EXPECTED_DOMAINS - LOADED_DOMAIN_COUNT + 100;
+        for (int i = LOADED_DOMAIN_COUNT; i < LOADED_DOMAIN_COUNT + addedDomainCount; i++) {
+            insertDomain(getDomain(i));
+            filter.add(getDomain(i));
+        }
+        long deadline = System.currentTimeMillis() + RELOAD_TIMEOUT_MILLIS;
+        while (filter.isSaturated() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(filter.isSaturated(), "Saturated filter was not reloaded.");
+        for (int i = 0; i < LOADED_DOMAIN_COUNT + addedDomainCount; i++) {
+            assertTrue(filter.mightContain(getDomain(i)), "Domain is not in the reloaded filter: " + getDomain(i));
+        }
+    }
+
+    @Test
+    public void testLoadThroughTenantManager() throws Exception {
+
+        // More tenants than the initial size of a filter loaded through the tenant manager.
+        int tenantCount = MIN_EXPECTED_DOMAINS + 500;
+        Tenant[] tenants = new Tenant[tenantCount + 1];
+        for (int i = 0; i < tenantCount; i++) {
+            tenants[i] = new Tenant();
+            tenants[i].setDomain(getDomain(i));
+        }
+        tenants[tenantCount] = new Tenant();
+        TenantDomainFilter tenantManagerFilter = new TenantDomainFilter() {
+            @Override
+            boolean loadsFromDatabase() {
+
+                return false;
+            }
+
+            @Override
+            Tenant[] getAllTenants() {
+
+                return tenants;
+            }
+        };
+
+        tenantManagerFilter.load();
+        long deadline = System.currentTimeMillis() + RELOAD_TIMEOUT_MILLIS;
+        while (tenantManagerFilter.isSaturated() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(tenantManagerFilter.isSaturated(), "Saturated filter was not reloaded.");
+        for (int i = 0; i < tenantCount; i++) {
+            assertTrue(tenantManagerFilter.mightContain(getDomain(i)), "Domain is not in the filter: " +
+                    getDomain(i));
+        }
+    }
+
+    private void insertDomain(String domain) throws SQLException {
+
+        try (PreparedStatement ps = keepAliveConnection.prepareStatement(
+                "INSERT INTO UM_TENANT (UM_ID, UM_DOMAIN_NAME) VALUES (?, ?)")) {
+            ps.setInt(1, nextTenantId++);
+            ps.setString(2, domain);
+            ps.executeUpdate();
+        }
+    }
+
+    private static String getDomain(int i) {
+
+        return "tenant" + i + ".example.com";
+    }
+}
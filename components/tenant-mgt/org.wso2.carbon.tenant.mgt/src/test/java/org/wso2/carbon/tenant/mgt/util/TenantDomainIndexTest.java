@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the searches of {@link TenantDomainIndex} against a scan over all the domains.
+ */
+public class TenantDomainIndexTest {
+
+    private static final String ALPHABET = "abcde.-";
+    private static final int DOMAIN_COUNT = 2000;
+    private static final int SEARCH_COUNT = 300;
+
+    private final Random random = new Random(42);
+    private TenantDomainIndex index;
+    private Map<Integer, String> domains;
+
+    @BeforeMethod
+    public void setUp() {
+
+        index = new TenantDomainIndex();
+        domains = new HashMap<>();
+        Set<String> uniqueDomains = new LinkedHashSet<>();
+        while (uniqueDomains.size() < DOMAIN_COUNT) {
+            uniqueDomains.add(randomString(3 + random.nextInt(10)));
+        }
+        int tenantId = 1;
+        for (String domain : uniqueDomains) {
+            // Domains are indexed in lower case.
+            index.put(tenantId, tenantId % 5 == 0 ? domain.toUpperCase(Locale.ENGLISH) : domain);
+            domains.put(tenantId, domain);
+            tenantId++;
+        }
+    }
+
+    @Test
+    public void testSearch() {
+
+        assertSearches();
+    }
+
+    @Test
+    public void testSearchAfterRemove() {
+
+        Iterator<Integer> tenantIds = domains.keySet().iterator();
+        while (tenantIds.hasNext()) {
+            int tenantId = tenantIds.next();
+            if (tenantId % 3 == 0) {
+                index.remove(tenantId);
+                tenantIds.remove();
+            }
+        }
+        assertSearches();
+    }
+
+    @Test
+    public void testSearchAfterRename() {
+
+        for (Map.Entry<Integer, String> entry : domains.entrySet()) {
+            if (entry.getKey() % 4 == 0) {
+                String domain = entry.getValue() + ".renamed";
+                index.put(entry.getKey(), domain);
+                entry.setValue(domain);
+            }
+        }
+        assertSearches();
+    }
+
+    @Test
+    public void testSearchAfterLoadThroughTenantManager() {
+
+        Tenant[] tenants = new Tenant[domains.size()];
+        int i = 0;
+        for (Map.Entry<Integer, String> entry : domains.entrySet()) {
+            tenants[i] = new Tenant();
+            tenants[i].setId(entry.getKey());
+            tenants[i].setDomain(entry.getValue());
+            i++;
+        }
+        index = new TenantDomainIndex() {
+            @Override
+            boolean loadsFromDatabase() {
+
+                return false;
+            }
+
+            @Override
+            Tenant[] getAllTenants() {
+
+                return tenants;
+            }
+        };
+        assertFalse(index.isReady());
+
+        index.load();
+
+        assertTrue(index.isReady());
+        assertSearches();
+    }
+
+    private void assertSearches() {
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < SEARCH_COUNT; i++) {
+            // Values of one and two characters are searched without the trigrams.
+            values.add(randomString(1 + random.nextInt(5)));
+        }
+        List<String> indexedDomains = new ArrayList<>(domains.values());
+        for (int i = 0; i < SEARCH_COUNT; i++) {
+            String domain = indexedDomains.get(random.nextInt(indexedDomains.size()));
+            int begin = random.nextInt(domain.length());
+            values.add(domain.substring(begin, begin + 1 + random.nextInt(domain.length() - begin)));
+            values.add(domain);
+        }
+        for (String value : values) {
+            assertSearch("sw", value, String::startsWith);
+            assertSearch("ew", value, String::endsWith);
+            assertSearch("co", value, String::contains);
+            assertSearch("eq", value, String::equals);
+            // Values are matched regardless of the case.
+            assertSearch("co", value.toUpperCase(Locale.ENGLISH), String::contains);
+        }
+    }
+
+    private void assertSearch(String operation, String value, BiPredicate<String, String> matcher) {
+
+        String lowerCaseValue = value.toLowerCase(Locale.ENGLISH);
+        List<String> expected = new ArrayList<>();
+        for (String domain : domains.values()) {
+            if (matcher.test(domain, lowerCaseValue)) {
+                expected.add(domain);
+            }
+        }
+        Collections.sort(expected);
+        assertEquals(index.search(operation, value), expected, "Search: " + operation + " " + value);
+    }
+
+    private String randomString(int length) {
+
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.stratos.common.exception.TenantManagementServerException;
+import org.wso2.carbon.tenant.mgt.beans.TenantJobStatus;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests the execution of tenant jobs, the rejection of jobs once the queue is full and the removal of the expired
+ * job statuses.
+ */
+public class TenantJobManagerTest {
+
+    private static final long WAIT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterMethod
+    public void tearDown() {
+
+        release.countDown();
+        TenantJobManager.stop();
+    }
+
+    @Test
+    public void testJobStatusIsTracked() throws Exception {
+
+        TenantJobManager.start(1, 1);
+        String completedJobId = TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_CREATION, "a.com", 1, "a",
+                jobStatus -> {
+                });
+        String failedJobId = TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_CREATION, "b.com", 2, "b",
+                jobStatus -> {
+                    throw new Exception("Creation failed.");
+                });
+
+        TenantJobStatus completedJob = waitUntilDone(completedJobId);
+        assertEquals(completedJob.getStatus(), TenantJobStatus.STATUS_COMPLETED);
+        assertEquals(completedJob.getTenantDomain(), "a.com");
+        TenantJobStatus failedJob = waitUntilDone(failedJobId);
+        assertEquals(failedJob.getStatus(), TenantJobStatus.STATUS_FAILED);
+        assertEquals(failedJob.getErrorMessage(), "Creation failed.");
+        assertNull(TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_DELETION, completedJobId));
+    }
+
+    @Test
+    public void testSubmitIsRejectedWhenQueueIsFull() throws Exception {
+
+        TenantJobManager.start(1, 1);
+        String runningJobId = submitBlockingJob("a.com");
+        String queuedJobId = submitBlockingJob("b.com");
+        try {
+            submitBlockingJob("c.com");
+            fail("A job was accepted while the queue was full.");
+        } catch (TenantManagementServerException e) {
+            // Expected, as the worker and the queue are both taken.
+        }
+
+        release.countDown();
+        assertEquals(waitUntilDone(runningJobId).getStatus(), TenantJobStatus.STATUS_COMPLETED);
+        assertEquals(waitUntilDone(queuedJobId).getStatus(), TenantJobStatus.STATUS_COMPLETED);
+        assertNotNull(submitBlockingJob("c.com"));
+    }
+
+    @Test(expectedExceptions = TenantManagementServerException.class)
+    public void testSubmitIsRejectedWhenNotStarted() throws Exception {
+
+        TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_CREATION, "a.com", 1, "a", jobStatus -> {
+        });
+    }
+
+    @Test
+    public void testSweepRemovesOnlyExpiredJobs() throws Exception {
+
+        TenantJobManager.start(2, 1);
+        String completedJobId = TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_CREATION, "a.com", 1, "a",
+                jobStatus -> {
+                });
+        String runningJobId = submitBlockingJob("b.com");
+        waitUntilDone(completedJobId);
+
+        TenantJobManager.removeExpiredJobs(System.currentTimeMillis());
+        assertNotNull(TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_CREATION, completedJobId));
+
+        TenantJobManager.removeExpiredJobs(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2));
+        assertNull(TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_CREATION, completedJobId));
+        assertNotNull(TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_CREATION, runningJobId));
+    }
+
+    private String submitBlockingJob(String tenantDomain) throws TenantManagementServerException {
+
+        return TenantJobManager.submit(TenantJobStatus.TYPE_TENANT_CREATION, tenantDomain, 1, tenantDomain,
+                jobStatus -> release.await());
+    }
+
+    private static TenantJobStatus waitUntilDone(String jobId) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            TenantJobStatus jobStatus = TenantJobManager.getJobStatus(TenantJobStatus.TYPE_TENANT_CREATION, jobId);
+            if (jobStatus != null && jobStatus.isDone()) {
+                return jobStatus;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + jobId + " did not complete.");
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.stratos.common.exception.TenantManagementClientException;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
+import static org.wso2.carbon.tenant.mgt.util.TenantMgtConstants.ErrorMessage.ERROR_CODE_INVALID_CURSOR;
+
+/**
+ * Tests the cursors of the tenant listing, and the pages selected in memory for the tenant managers other than the
+ * JDBC tenant manager.
+ */
+public class TenantListingUtilTest {
+
+    @DataProvider(name = "tenantDomains")
+    public Object[][] tenantDomains() {
+
+        return new Object[][]{
+                {"wso2.com"},
+                {"a"},
+                {"abc.example.co.uk"},
+                {"tenant-with_special~chars+/="},
+                {"t\u00e9nant.\u00fc\u00f1\u00ee.com"},
+                {"\u4f8b\u3048.\u30c6\u30b9\u30c8"}
+        };
+    }
+
+    @Test(dataProvider = "tenantDomains")
+    public void testCursorRoundTrip(String tenantDomain) throws Exception {
+
+        Tenant tenant = new Tenant();
+        tenant.setDomain(tenantDomain);
+        String cursor = TenantListingUtil.encodeCursor(tenant);
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="),
+                "Cursor is not URL safe: " + cursor);
+        assertEquals(TenantListingUtil.decodeCursor(cursor), tenantDomain);
+    }
+
+    @Test
+    public void testDecodeBlankCursor() throws Exception {
+
+        assertEquals(TenantListingUtil.decodeCursor(null), "");
+        assertEquals(TenantListingUtil.decodeCursor(""), "");
+        assertEquals(TenantListingUtil.decodeCursor("  "), "");
+    }
+
+    @Test
+    public void testDecodeInvalidCursor() {
+
+        try {
+            TenantListingUtil.decodeCursor("not a cursor!");
+            fail("Invalid cursor is decoded.");
+        } catch (TenantManagementClientException e) {
+            assertEquals(e.getErrorCode(), ERROR_CODE_INVALID_CURSOR.getCode());
+        }
+    }
+
+    @Test
+    public void testSelectPagesAfterCursor() {
+
+        Tenant[] tenants = createTenants("c.com", "a.com", "e.com", "b.com", "d.com");
+
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 2, "", null)), Arrays.asList("a.com", "b.com"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 2, "b.com", null)),
+                Arrays.asList("c.com", "d.com"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 2, "d.com", null)),
+                Arrays.asList("e.com"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 2, "e.com", null)), new ArrayList<>());
+    }
+
+    @Test
+    public void testSelectPageWithFilter() {
+
+        Tenant[] tenants = createTenants("abc.com", "xabc.org", "abd.com", "wso2.com", "ABC.net");
+
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 10, "", "domainName sw abc")),
+                Arrays.asList("ABC.net", "abc.com"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 10, "", "domainName ew .com")),
+                Arrays.asList("abc.com", "abd.com", "wso2.com"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 10, "", "domainName co abc")),
+                Arrays.asList("ABC.net", "abc.com", "xabc.org"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 10, "", "domainName eq wso2.com")),
+                Arrays.asList("wso2.com"));
+        assertEquals(getDomains(TenantListingUtil.selectPage(tenants, 1, "ABC.net", "domainName co abc")),
+                Arrays.asList("abc.com"));
+    }
+
+    private static Tenant[] createTenants(String... domains) {
+
+        Tenant[] tenants = new Tenant[domains.length];
+        for (int i = 0; i < domains.length; i++) {
+            tenants[i] = new Tenant();
+            tenants[i].setId(i + 1);
+            tenants[i].setDomain(domains[i]);
+        }
+        return tenants;
+    }
+
+    private static List<String> getDomains(List<Tenant> tenants) {
+
+        List<String> domains = new ArrayList<>();
+        for (Tenant tenant : tenants) {
+            domains.add(tenant.getDomain());
+        }
+        return domains;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.stratos.common.exception.StratosException;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.internal.TenantMgtServiceComponent;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the batched notification of the tenant management listeners on bulk tenant activation and deactivation.
+ */
+public class TenantMgtUtilTest {
+
+    private final List<String> invocations = Collections.synchronizedList(new ArrayList<>());
+    private final List<TenantMgtListener> listeners = new ArrayList<>();
+
+    @AfterMethod
+    public void tearDown() {
+
+        for (TenantMgtListener listener : listeners) {
+            TenantMgtServiceComponent.removeTenantMgtListener(listener);
+        }
+        listeners.clear();
+        invocations.clear();
+    }
+
+    @Test
+    public void testListenersAreNotifiedPerBatch() throws Exception {
+
+        register("first", 1, -1);
+        register("second", 2, -1);
+
+        Map<Integer, StratosException> errors = TenantMgtUtil.triggerTenantActivation(tenantIds(250));
+
+        assertTrue(errors.isEmpty());
+        assertEquals(invocations.size(), 500);
+        // Each listener handles a whole batch of 100 tenants before the next listener is invoked.
+        assertEquals(invocations.get(0), "first:onTenantActivation:1");
+        assertEquals(invocations.get(99), "first:onTenantActivation:100");
+        assertEquals(invocations.get(100), "second:onTenantActivation:1");
+        assertEquals(invocations.get(200), "first:onTenantActivation:101");
+        assertEquals(invocations.get(499), "second:onTenantActivation:250");
+    }
+
+    @Test
+    public void testFailedTenantIsNotNotifiedToFollowingListeners() throws Exception {
+
+        register("first", 1, 2);
+        register("second", 2, -1);
+
+        Map<Integer, StratosException> errors = TenantMgtUtil.triggerTenantDeactivation(tenantIds(3));
+
+        assertEquals(errors.keySet(), Collections.singleton(2));
+        assertTrue(invocations.contains("second:onTenantDeactivation:1"));
+        assertFalse(invocations.contains("second:onTenantDeactivation:2"));
+        assertTrue(invocations.contains("second:onTenantDeactivation:3"));
+    }
+
+    private void register(String name, int listenerOrder, int failingTenantId) {
+
+        TenantMgtListener listener = (TenantMgtListener) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{TenantMgtListener.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getListenerOrder":
+                            return listenerOrder;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return name;
+                        case "onTenantActivation":
+                        case "onTenantDeactivation":
+                            int tenantId = (Integer) args[0];
+                            if (tenantId == failingTenantId) {
+                                throw new StratosException("Listener failed.", new IllegalStateException());
+                            }
+                            invocations.add(name + ":" + method.getName() + ":" + tenantId);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        listeners.add(listener);
+        TenantMgtServiceComponent.addTenantMgtListener(listener);
+    }
+
+    private static List<Integer> tenantIds(int count) {
+
+        List<Integer> tenantIds = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tenantIds.add(i);
+        }
+        return tenantIds;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.tenant.mgt.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TenantTaskExecutorTest {
+
+    @AfterMethod
+    public void tearDown() {
+
+        TenantTaskExecutor.stop();
+    }
+
+    @Test
+    public void testTaskRunsOnNamedWorker() throws Exception {
+
+        TenantTaskExecutor.start();
+        Future<String> future = TenantTaskExecutor.submit(() -> Thread.currentThread().getName());
+        assertTrue(future.get().startsWith("TenantTaskWorker-"), "Task did not run on the tenant task pool.");
+    }
+
+    @Test
+    public void testTaskRunsInCallerWhenNotStarted() throws Exception {
+
+        Future<String> future = TenantTaskExecutor.submit(() -> Thread.currentThread().getName());
+        assertTrue(future.isDone(), "Task was not run before returning.");
+        assertEquals(future.get(), Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testRunnableTaskRunsInCallerAfterStop() throws Exception {
+
+        TenantTaskExecutor.start();
+        TenantTaskExecutor.stop();
+        String[] thread = new String[1];
+        Future<?> future = TenantTaskExecutor.submit(() -> {
+            thread[0] = Thread.currentThread().getName();
+        });
+        assertTrue(future.isDone());
+        assertEquals(thread[0], Thread.currentThread().getName());
+    }
+}
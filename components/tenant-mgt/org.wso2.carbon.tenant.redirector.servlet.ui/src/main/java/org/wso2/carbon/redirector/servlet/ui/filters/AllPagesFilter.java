@@ -36,16 +36,32 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AllPagesFilter implements Filter {
     private static final Log log = LogFactory.getLog(AllPagesFilter.class);
-    private static Map<String, Boolean> tenantExistMap = new HashMap<>();
+    private static Map<String, Boolean> tenantExistMap = new ConcurrentHashMap<>();
 
     ServletContext context;
 
+    /**
+     * Remove a tenant domain known to exist, so that it is validated again on the next request.
+     *
+     * @param tenantDomain tenant domain.
+     */
+    public static void removeFromTenantExistMap(String tenantDomain) {
+        tenantExistMap.remove(tenantDomain);
+    }
+
+    /**
+     * Remove all the tenant domains known to exist, so that they are validated again on the next request.
+     */
+    public static void clearTenantExistMap() {
+        tenantExistMap.clear();
+    }
+
     public void init(FilterConfig filterConfig) throws ServletException {
         context = filterConfig.getServletContext();
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.redirector.servlet.ui.internal;
+
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.TenantStateListener;
+import org.wso2.carbon.redirector.servlet.ui.filters.AllPagesFilter;
+
+import java.util.List;
+
+/**
+ * Removes the domain of a tenant from the tenant domains known to exist by the {@link AllPagesFilter} when the tenant
+ * is deactivated, renamed or deleted on any node of the cluster. The map is keyed by the tenant domain, hence it is
+ * cleared as a whole only if the domain of the tenant is not known.
+ */
+public class TenantExistMapInvalidator implements TenantStateListener {
+
+    @Override
+    public void onTenantStateChange(List<TenantStateChange> changes) {
+
+        for (TenantStateChange change : changes) {
+            switch (change.getType()) {
+                case RENAMED:
+                case DEACTIVATED:
+                case DELETED:
+                    if (change.getTenantDomain() == null) {
+                        AllPagesFilter.clearTenantExistMap();
+                        return;
+                    }
+                    AllPagesFilter.removeFromTenantExistMap(change.getTenantDomain());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
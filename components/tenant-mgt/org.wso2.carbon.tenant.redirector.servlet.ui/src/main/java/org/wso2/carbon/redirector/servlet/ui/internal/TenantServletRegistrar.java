@@ -25,10 +25,12 @@ import org.osgi.framework.ServiceReference;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.http.context.ServletContextHelper;
 import org.osgi.service.http.whiteboard.HttpWhiteboardConstants;
 import org.osgi.util.tracker.ServiceTracker;
 import org.osgi.util.tracker.ServiceTrackerCustomizer;
+import org.wso2.carbon.activation.utils.TenantStateBus;
 import org.wso2.carbon.redirector.servlet.ui.filters.AllPagesFilter;
 import org.wso2.carbon.redirector.servlet.ui.servlets.TenantRedirectorServlet;
 import org.wso2.carbon.utils.CarbonUtils;
@@ -43,6 +45,7 @@ public class TenantServletRegistrar {
 
     private ServiceRegistration<Servlet> servletReg;
     private ServiceRegistration<Filter> filterReg;
+    private TenantExistMapInvalidator tenantExistMapInvalidator;
 
     @Activate
     protected void activate(BundleContext ctx) {
@@ -52,6 +55,22 @@ public class TenantServletRegistrar {
         String carbonContextFilter = "(&(objectClass=" + ServletContextHelper.class.getName() + ")" +
                 "(osgi.http.whiteboard.context.name=" + carbonContextName + "))";
         registerServletContextHelper(ctx, carbonContextFilter, carbonContextName, carbonServletPattern, 100);
+        subscribeToTenantStateChanges();
+    }
+
+    @Deactivate
+    protected void deactivate() {
+
+        if (tenantExistMapInvalidator != null) {
+            TenantStateBus.unsubscribe(tenantExistMapInvalidator);
+            tenantExistMapInvalidator = null;
+        }
+    }
+
+    private void subscribeToTenantStateChanges() {
+
+        tenantExistMapInvalidator = new TenantExistMapInvalidator();
+        TenantStateBus.subscribe(tenantExistMapInvalidator);
     }
 
     private void registerServletContextHelper(BundleContext ctx, String filter, String contextName, 
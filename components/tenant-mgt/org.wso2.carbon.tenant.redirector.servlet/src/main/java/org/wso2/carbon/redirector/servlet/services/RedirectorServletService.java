@@ -18,6 +18,7 @@
  */
 package org.wso2.carbon.redirector.servlet.services;
 
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.stratos.common.constants.StratosConstants;
 import org.wso2.carbon.redirector.servlet.util.Util;
@@ -25,7 +26,7 @@ import org.wso2.carbon.redirector.servlet.util.Util;
 public class RedirectorServletService {
     public String validateTenant(String tenantDomain) throws Exception {
         TenantManager tenantManager = Util.getTenantManager();
-        int tenantId = tenantManager.getTenantId(tenantDomain);
+        int tenantId = TenantDomainResolver.getTenantId(tenantManager, tenantDomain);
         if (tenantId <= 0) {
             return StratosConstants.INVALID_TENANT;
         } else if (Util.getActivationService() != null &&
@@ -19,13 +19,21 @@ import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
 import org.wso2.carbon.stratos.common.exception.StratosException;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEvent;
+import org.wso2.carbon.tenant.mgt.core.listeners.TenantMgtListenerEventFilter;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-public class ThemeLoadingListener implements TenantMgtListener {
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class ThemeLoadingListener implements TenantMgtListener, TenantMgtListenerEventFilter {
     private static final Log log = LogFactory.getLog(ThemeLoadingListener.class);
     private static final int EXEC_ORDER = 10;
+    private static final Set<TenantMgtListenerEvent> HANDLED_EVENTS =
+            Collections.unmodifiableSet(EnumSet.of(TenantMgtListenerEvent.TENANT_CREATE));
     public void onTenantCreate(TenantInfoBean tenantInfo) throws StratosException {
         try {
             ThemeUtil.loadTheme(tenantInfo.getTenantId());
@@ -54,6 +62,10 @@ public class ThemeLoadingListener implements TenantMgtListener {
         return EXEC_ORDER;
     }
 
+    public Set<TenantMgtListenerEvent> getHandledEvents() {
+        return HANDLED_EVENTS;
+    }
+
     public void onTenantInitialActivation(int tenantId) throws StratosException {
         // doing nothing
         
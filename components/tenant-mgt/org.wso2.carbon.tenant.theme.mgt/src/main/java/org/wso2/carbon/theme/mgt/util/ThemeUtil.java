@@ -28,8 +28,10 @@ import org.wso2.carbon.registry.core.session.UserRegistry;
 import org.wso2.carbon.registry.core.utils.RegistryUtils;
 import org.wso2.carbon.stratos.common.constants.StratosConstants;
 import org.wso2.carbon.stratos.common.util.CommonUtil;
+import org.wso2.carbon.tenant.mgt.core.util.ThemePageTokenUtil;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.ServerConstants;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import javax.activation.MimetypesFileTypeMap;
 import java.io.*;
@@ -69,14 +71,20 @@ public class ThemeUtil {
         return realmService;
     }
 
+    /**
+     * Get the governance system registry of the tenant referred by a theme page token, i.e. a signed token created
+     * by {@link ThemePageTokenUtil#createToken(int)} which has not been used to apply a theme yet.
+     *
+     * @param tenantPass theme page token.
+     * @return the registry, or null if no token is given.
+     * @throws RegistryException if the token is invalid, expired or already used.
+     */
     public static UserRegistry getThemeMgtSystemRegistry(String tenantPass) throws RegistryException {
         if (tenantPass != null && !tenantPass.equals("")) {
-            // tenant 0th system registry
-            UserRegistry systemRegistry = registryService.getGovernanceSystemRegistry();
-            Resource resource = systemRegistry.get(
-                    StratosConstants.TENANT_CREATION_THEME_PAGE_TOKEN + "/" + tenantPass);
-            String tenantIdStr = resource.getProperty("tenantId");
-            int tenantId = Integer.parseInt(tenantIdStr);
+            int tenantId = ThemePageTokenUtil.getTenantId(tenantPass);
+            if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+                throw new RegistryException("Invalid, expired or already used theme page token.");
+            }
 
             return registryService.getGovernanceSystemRegistry(tenantId);
         }
@@ -84,15 +92,15 @@ public class ThemeUtil {
         return null;
     }
 
+    /**
+     * Mark a theme page token as used, once the theme is applied, so that it is no longer accepted.
+     *
+     * @param tenantPass theme page token.
+     * @throws RegistryException if the token could not be marked as used.
+     */
     public static void removeTheUUID(String tenantPass) throws RegistryException {
         if (tenantPass != null && !tenantPass.equals("")) {
-            // tenant 0th system registry
-            UserRegistry systemRegistry = registryService.getGovernanceSystemRegistry();
-            if(systemRegistry.resourceExists(
-                    StratosConstants.TENANT_CREATION_THEME_PAGE_TOKEN + "/" + tenantPass)) {
-                systemRegistry.delete(
-                        StratosConstants.TENANT_CREATION_THEME_PAGE_TOKEN + "/" + tenantPass);
-            }
+            ThemePageTokenUtil.consumeToken(tenantPass);
         }
     }
 
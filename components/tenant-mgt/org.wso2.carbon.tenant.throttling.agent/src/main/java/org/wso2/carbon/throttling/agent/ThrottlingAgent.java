@@ -20,6 +20,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
 import org.osgi.util.tracker.ServiceTracker;
+import org.wso2.carbon.activation.utils.TenantStateBus;
+import org.wso2.carbon.activation.utils.TenantStateChange;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.RegistryType;
@@ -102,6 +104,7 @@ public class ThrottlingAgent {
             scheduler.scheduleAtFixedRate(
                     new ThrottlingInfoCacheUpdaterTask(throttlingInfoCache, superTenantGovernanceRegistry), 2, 15,
                     TimeUnit.MINUTES);
+            TenantStateBus.subscribe(throttlingInfoCache);
 
             PerRegistryRequestListener.registerPerRegistryRequestListener(RegistryContext.getBaseInstance());
             if (bundleContext != null) {
@@ -236,6 +239,7 @@ public class ThrottlingAgent {
         try {
             executeManagerThrottlingRules(tenantId);
             updateThrottlingCacheForTenant();
+            TenantStateBus.publish(tenantId, TenantStateChange.Type.THROTTLING_UPDATED);
         } catch (Exception e) {
             log.error("Error in executing throttling rules");
         }
@@ -18,6 +18,8 @@ package org.wso2.carbon.throttling.agent.cache;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantStateChange;
+import org.wso2.carbon.activation.utils.TenantStateListener;
 import org.wso2.carbon.registry.api.RegistryService;
 import org.wso2.carbon.registry.core.RegistryConstants;
 import org.wso2.carbon.registry.core.Resource;
@@ -26,6 +28,7 @@ import org.wso2.carbon.stratos.common.constants.StratosConstants;
 import org.wso2.carbon.stratos.common.util.MeteringAccessValidationUtils;
 import org.wso2.carbon.throttling.agent.internal.ThrottlingAgentServiceComponent;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -33,9 +36,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In memory cache which keeps throttling information for active tenants(local to a server instance). Cache is updated
- * periodically using information retrieved from registry.
+ * periodically using information retrieved from registry, and whenever the throttling state of a tenant changes on
+ * any node of the cluster.
  */
-public class ThrottlingInfoCache {
+public class ThrottlingInfoCache implements TenantStateListener {
 
     private static final Log log = LogFactory.getLog(ThrottlingInfoCache.class);
 
@@ -52,6 +56,36 @@ public class ThrottlingInfoCache {
         tenantThrottlingInfoMap.remove(tenantId);
     }
 
+    /**
+     * Reload the throttling information of a tenant from registry, if the tenant is in the cache.
+     *
+     * @param tenantId tenant id.
+     */
+    public void reloadTenant(int tenantId){
+        if(tenantThrottlingInfoMap.containsKey(tenantId)){
+            tenantThrottlingInfoMap.put(tenantId, getTenantThrottlingInfoFromRegistry(tenantId));
+        }
+    }
+
+    @Override
+    public void onTenantStateChange(List<TenantStateChange> changes) {
+        for (TenantStateChange change : changes) {
+            switch (change.getType()) {
+                case ACTIVATED:
+                case DEACTIVATED:
+                case SUBSCRIPTION_PLAN_CHANGED:
+                case THROTTLING_UPDATED:
+                    reloadTenant(change.getTenantId());
+                    break;
+                case DELETED:
+                    deleteTenant(change.getTenantId());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
     public Set<Integer> getActiveTenants(){
         return tenantThrottlingInfoMap.keySet();
     }
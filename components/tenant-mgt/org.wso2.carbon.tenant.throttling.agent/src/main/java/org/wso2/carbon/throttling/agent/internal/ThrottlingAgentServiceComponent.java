@@ -24,6 +24,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
+import org.wso2.carbon.activation.utils.TenantStateBus;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.registry.core.service.RegistryService;
@@ -123,6 +124,9 @@ public class ThrottlingAgentServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
         // Util.uninitializeThrottlingRuleInvokerTracker();
+        if (throttlingAgent != null) {
+            TenantStateBus.unsubscribe(throttlingAgent.getThrottlingInfoCache());
+        }
         log.debug("******* Multitenancy Throttling Agent bundle is deactivated ******* ");
     }
 
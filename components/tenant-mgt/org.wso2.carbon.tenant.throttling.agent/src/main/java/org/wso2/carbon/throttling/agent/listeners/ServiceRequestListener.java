@@ -24,6 +24,7 @@ import org.apache.axis2.description.Parameter;
 import org.apache.axis2.handlers.AbstractHandler;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.stratos.common.constants.StratosConstants;
 import org.wso2.carbon.core.transports.metering.MeteredServletRequest;
 import org.wso2.carbon.throttling.agent.cache.ThrottlingActionInfo;
@@ -99,7 +100,8 @@ public class ServiceRequestListener extends AbstractHandler {
             // return tenant id if domain name is not null
             if (domainName != null) {
                 try {
-                    return ThrottlingAgentServiceComponent.getThrottlingAgent().getRealmService().getTenantManager().getTenantId(domainName);
+                    return TenantDomainResolver.getTenantId(ThrottlingAgentServiceComponent.getThrottlingAgent()
+                            .getRealmService().getTenantManager(), domainName);
                 } catch (org.wso2.carbon.user.api.UserStoreException e) {
                     log.error("An error occurred while obtaining the tenant id.", e);
                 }
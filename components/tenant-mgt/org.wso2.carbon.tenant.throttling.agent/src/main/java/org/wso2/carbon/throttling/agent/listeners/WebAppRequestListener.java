@@ -21,6 +21,7 @@ import org.apache.catalina.connector.Request;
 import org.apache.catalina.connector.Response;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.stratos.common.constants.StratosConstants;
@@ -57,8 +58,8 @@ public class WebAppRequestListener extends CarbonTomcatValve {
         String urlContext = getContext(requestURI);
         if (tenantDomainName != null && urlContext != null) {
             try {
-                int tenantId = throttlingAgent.getRealmService().getTenantManager().
-                        getTenantId(tenantDomainName);
+                int tenantId = TenantDomainResolver.getTenantId(throttlingAgent.getRealmService().getTenantManager(),
+                        tenantDomainName);
                 if (tenantId <= 0) {
                     //Allow to proceed
                 } else {
@@ -17,6 +17,7 @@
 */
 package org.wso2.carbon.usage.agent.listeners.axis2;
 
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.stratos.common.constants.StratosConstants;
 import org.wso2.carbon.core.transports.metering.MeteredServletRequest;
 import org.wso2.carbon.usage.agent.util.Util;
@@ -95,7 +96,7 @@ public class RequestMeteringHandler extends AbstractHandler {
             // return tenant id if domain name is not null
             if (domainName != null) {
                 try {
-                    return Util.getRealmService().getTenantManager().getTenantId(domainName);
+                    return TenantDomainResolver.getTenantId(Util.getRealmService().getTenantManager(), domainName);
                 } catch (org.wso2.carbon.user.api.UserStoreException e) {
                     log.error("An error occurred while obtaining the tenant id.", e);
                 }
@@ -19,6 +19,7 @@ package org.wso2.carbon.usage.agent.persist;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.CarbonConstants;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.core.init.CarbonServerManager;
 import org.wso2.carbon.stratos.common.constants.UsageConstants;
@@ -110,6 +111,6 @@ public class BandwidthUsageDataRetrievalTask implements Runnable {
     }
 
     private int getTenantID(String tenantDomain) throws UserStoreException {
-        return Util.getRealmService().getTenantManager().getTenantId(tenantDomain);
+        return TenantDomainResolver.getTenantId(Util.getRealmService().getTenantManager(), tenantDomain);
     }
 }
@@ -18,6 +18,7 @@ package org.wso2.carbon.usage.agent.util;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.CarbonConstants;
+import org.wso2.carbon.activation.utils.TenantDomainResolver;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.base.api.ServerConfigurationService;
 import org.wso2.carbon.event.core.EventBroker;
@@ -168,7 +169,7 @@ public class Util {
         int tenantId = MultitenantConstants.INVALID_TENANT_ID;
         if(index >= 0){
             String tenantDomain = toAddress.substring(index+2, toAddress.indexOf("/", index+3));
-            tenantId = getRealmService().getTenantManager().getTenantId(tenantDomain);
+            tenantId = TenantDomainResolver.getTenantId(getRealmService().getTenantManager(), tenantDomain);
         }
         return tenantId;
     }